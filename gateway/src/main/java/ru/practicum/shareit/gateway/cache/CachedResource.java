@@ -0,0 +1,21 @@
+package ru.practicum.shareit.gateway.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Kinds of GET responses the gateway caches. Responses for resources served behind the
+ * {@code X-Sharer-User-Id} header are keyed by it too: the server checks the user and may shape the
+ * body for them (an owner sees booking dates on their items).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CachedResource {
+    ITEM("/items/", true),
+    USER("/users/", false),
+    REQUEST("/requests/", true),
+    SEARCH("/items/search", true);
+
+    private final String pathPrefix;
+    private final boolean userDependent;
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Store of successful GET responses bounded by the total size of their bodies, with a time-to-live
+ * per {@link CachedResource}. Bodies over the per-entry limit are not cached at all, so one large
+ * listing cannot push out many small responses. Statistics are published as {@code cache.*} meters
+ * with {@code cache=gatewayResponses}.
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private static final String CACHE_NAME = "gatewayResponses";
+    // Rough cost of an entry besides its body: the key, the headers and the objects holding them
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<Key, CachedResponse> cache;
+    private final long maximumEntryBytes;
+
+    public record Key(CachedResource resource, String path, String query, String userId) {
+    }
+
+    public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    public ResponseCache(MeterRegistry meterRegistry,
+        @Value("${shareit-gateway.response-cache.maximum-total-size:64MB}")
+        DataSize maximumTotalSize,
+        @Value("${shareit-gateway.response-cache.maximum-entry-size:256KB}")
+        DataSize maximumEntrySize,
+        @Value("${shareit-gateway.response-cache.ttl.item:30s}") Duration itemTtl,
+        @Value("${shareit-gateway.response-cache.ttl.user:5m}") Duration userTtl,
+        @Value("${shareit-gateway.response-cache.ttl.request:1m}") Duration requestTtl,
+        @Value("${shareit-gateway.response-cache.ttl.search:30s}") Duration searchTtl) {
+        Map<CachedResource, Duration> ttls = new EnumMap<>(CachedResource.class);
+        ttls.put(CachedResource.ITEM, itemTtl);
+        ttls.put(CachedResource.USER, userTtl);
+        ttls.put(CachedResource.REQUEST, requestTtl);
+        ttls.put(CachedResource.SEARCH, searchTtl);
+        this.maximumEntryBytes = maximumEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumTotalSize.toBytes())
+            .weigher((Key key, CachedResponse response) ->
+                ENTRY_OVERHEAD_BYTES + response.body().length)
+            .expireAfter(new Expiry<Key, CachedResponse>() {
+                @Override
+                public long expireAfterCreate(Key key, CachedResponse response, long now) {
+                    return ttls.get(key.resource()).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Key key, CachedResponse response, long now,
+                    long remaining) {
+                    return expireAfterCreate(key, response, now);
+                }
+
+                @Override
+                public long expireAfterRead(Key key, CachedResponse response, long now,
+                    long remaining) {
+                    return remaining;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CachedResponse get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(Key key, CachedResponse response) {
+        if (response.body().length > maximumEntryBytes) {
+            log.trace("Not caching {}: its {}-byte body is over the limit", key,
+                response.body().length);
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    public void evict(CachedResource resource, String id) {
+        String path = resource.getPathPrefix() + id;
+        evictIf(key -> key.resource() == resource && key.path().equals(path));
+    }
+
+    public void evictAll(CachedResource... resources) {
+        Set<CachedResource> evicted = Set.copyOf(Arrays.asList(resources));
+        evictIf(key -> evicted.contains(key.resource()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // Evictions otherwise happen asynchronously
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private void evictIf(Predicate<Key> predicate) {
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(predicate);
+        log.trace("Evicted {} cached responses", before - cache.asMap().size());
+    }
+}
@@ -0,0 +1,162 @@
+package ru.practicum.shareit.gateway.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import ru.practicum.shareit.gateway.cache.ResponseCache.CachedResponse;
+import ru.practicum.shareit.gateway.metrics.ServerTimingFilter;
+import ru.practicum.shareit.gateway.ratelimit.UserRateLimitFilter;
+import ru.practicum.shareit.gateway.tracing.CorrelationIdFilter;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheFilter {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+    private final Map<ResponseCache.Key, Mono<CachedResponse>> inFlight =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Serves a GET from the cache or records the server's 2xx response. Identical requests that
+     * miss while one is already on its way to the server wait for its response instead of making
+     * their own call. It has to wrap the response before {@link NettyWriteResponseFilter} writes
+     * it, so it runs ahead of the other route filters except the header check and the rate limit;
+     * skipping the rest is safe because only responses that passed them ever get cached or shared.
+     */
+    public GatewayFilter cacheResponse(CachedResource resource) {
+        GatewayFilter filter = (exchange, chain) -> {
+            ResponseCache.Key key = keyOf(resource, exchange.getRequest());
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                log.trace("Serving {} from the response cache", key);
+                return writeCached(exchange.getResponse(), cached, "HIT");
+            }
+
+            Sinks.One<CachedResponse> sink = Sinks.one();
+            Mono<CachedResponse> shared = sink.asMono();
+            Mono<CachedResponse> leader = inFlight.putIfAbsent(key, shared);
+            if (leader != null) {
+                log.trace("Waiting for the in-flight call for {}", key);
+                // No body to share (the call failed or had none), so make the call after all
+                return leader
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(response -> response.isPresent()
+                        ? writeCached(exchange.getResponse(), response.get(), "COALESCED")
+                        : chain.filter(exchange));
+            }
+
+            exchange.getResponse().getHeaders().set(CACHE_HEADER, "MISS");
+            return chain.filter(exchange.mutate()
+                    .response(recordingResponse(exchange.getResponse(), key, shared, sink))
+                    .build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, shared);
+                    sink.tryEmitEmpty();
+                });
+        };
+        return new OrderedGatewayFilter(filter, UserRateLimitFilter.ORDER + 1);
+    }
+
+    /**
+     * Drops every cached response of the given resources once the request succeeds.
+     */
+    public GatewayFilter evictOnSuccess(CachedResource... resources) {
+        return (exchange, chain) -> chain.filter(exchange)
+            .then(Mono.fromRunnable(() -> {
+                if (succeeded(exchange)) {
+                    responseCache.evictAll(resources);
+                }
+            }));
+    }
+
+    /**
+     * Drops the cached responses of the single resource named by a path variable of the route
+     * once the request succeeds.
+     */
+    public GatewayFilter evictOnSuccess(CachedResource resource, String idPathVariable) {
+        return (exchange, chain) -> chain.filter(exchange)
+            .then(Mono.fromRunnable(() -> {
+                String id = ServerWebExchangeUtils.getUriTemplateVariables(exchange)
+                    .get(idPathVariable);
+                if (id != null && succeeded(exchange)) {
+                    responseCache.evict(resource, id);
+                }
+            }));
+    }
+
+    private static ResponseCache.Key keyOf(CachedResource resource, ServerHttpRequest request) {
+        String userId = resource.isUserDependent()
+            ? request.getHeaders().getFirst(USER_ID_HEADER) : null;
+        return new ResponseCache.Key(resource, request.getPath().value(),
+            request.getURI().getRawQuery(), userId);
+    }
+
+    private static boolean succeeded(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null && status.is2xxSuccessful();
+    }
+
+    private static Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached,
+        String source) {
+        response.setStatusCode(cached.status());
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().set(CACHE_HEADER, source);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    // Captures the body of any status for the requests waiting on this one, but caches only 2xx
+    private ServerHttpResponse recordingResponse(ServerHttpResponse response,
+        ResponseCache.Key key, Mono<CachedResponse> shared, Sinks.One<CachedResponse> sink) {
+        return new ServerHttpResponseDecorator(response) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                HttpStatusCode status = getStatusCode();
+                if (status == null) {
+                    return super.writeWith(body);
+                }
+                return DataBufferUtils.join(body).flatMap(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.putAll(getHeaders());
+                    // Per-request headers; a replay gets its own
+                    headers.remove(CACHE_HEADER);
+                    headers.remove(CorrelationIdFilter.CORRELATION_ID_HEADER);
+                    headers.remove(ServerTimingFilter.SERVER_TIMING_HEADER);
+                    CachedResponse recorded = new CachedResponse(status, headers, bytes);
+                    if (status.is2xxSuccessful()) {
+                        responseCache.put(key, recorded);
+                    }
+                    // Requests arriving from now on must not join a call that has already answered
+                    inFlight.remove(key, shared);
+                    sink.tryEmitValue(recorded);
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        };
+    }
+}
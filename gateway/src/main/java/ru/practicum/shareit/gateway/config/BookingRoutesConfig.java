@@ -8,10 +8,12 @@ import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import reactor.core.publisher.Mono;
 import ru.practicum.shareit.common.dto.booking.NewBookingDto;
 import ru.practicum.shareit.common.enums.BookingState;
-import ru.practicum.shareit.gateway.validation.DtoValidator;
+import ru.practicum.shareit.gateway.cache.CachedResource;
+import ru.practicum.shareit.gateway.cache.ResponseCacheFilter;
+import ru.practicum.shareit.gateway.ratelimit.UserRateLimitFilter;
+import ru.practicum.shareit.gateway.validation.BodyValidationFilter;
 import ru.practicum.shareit.gateway.validation.HeaderValidationFilter;
 import ru.practicum.shareit.gateway.validation.QueryParamValidationFilter;
 
@@ -21,9 +23,11 @@ import ru.practicum.shareit.gateway.validation.QueryParamValidationFilter;
 @SuppressWarnings("unused")
 public class BookingRoutesConfig {
 
-    private final DtoValidator dtoValidator;
+    private final BodyValidationFilter bodyValidationFilter;
     private final HeaderValidationFilter headerValidationFilter;
+    private final UserRateLimitFilter userRateLimitFilter;
     private final QueryParamValidationFilter queryParamValidationFilter;
+    private final ResponseCacheFilter responseCacheFilter;
 
     @Value("${shareit-server.url}")
     private String serverUri;
@@ -44,14 +48,8 @@ public class BookingRoutesConfig {
                 .method(HttpMethod.POST)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
-                    .modifyRequestBody(
-                        NewBookingDto.class, NewBookingDto.class,
-                        (exchange, dto) -> {
-                            log.debug("Validating NewBookingDto for POST {}", BOOKINGS_PATH);
-                            dtoValidator.validate(dto);
-                            return Mono.just(dto);
-                        }
-                    ))
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(bodyValidationFilter.validateBody(NewBookingDto.class)))
                 .uri(serverUri))
 
             // Route: PATCH /bookings/{bookingId}?approved={approved} -> Approve/Reject Booking
@@ -63,6 +61,9 @@ public class BookingRoutesConfig {
                 .query("approved", "true|false")
                 .filters(f -> f
                         .filter(headerValidationFilter.validateUserIdHeader())
+                        .filter(userRateLimitFilter.limitPerUser())
+                        // An approval can change the last/next booking shown on the item
+                        .filter(responseCacheFilter.evictOnSuccess(CachedResource.ITEM))
                 )
                 .uri(serverUri))
 
@@ -73,6 +74,7 @@ public class BookingRoutesConfig {
                 .method(HttpMethod.GET)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
                 )
                 .uri(serverUri))
 
@@ -83,6 +85,7 @@ public class BookingRoutesConfig {
                 .method(HttpMethod.GET)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
                     .filter(queryParamValidationFilter.validateOptionalEnumQueryParam(
                         "state", BookingState.class))
                 )
@@ -95,6 +98,7 @@ public class BookingRoutesConfig {
                 .method(HttpMethod.GET)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
                     .filter(queryParamValidationFilter.validateOptionalEnumQueryParam(
                         "state", BookingState.class))
                 )
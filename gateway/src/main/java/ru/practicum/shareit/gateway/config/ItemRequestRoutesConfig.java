@@ -8,10 +8,13 @@ import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import reactor.core.publisher.Mono;
 import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
-import ru.practicum.shareit.gateway.validation.DtoValidator;
+import ru.practicum.shareit.gateway.cache.CachedResource;
+import ru.practicum.shareit.gateway.cache.ResponseCacheFilter;
+import ru.practicum.shareit.gateway.ratelimit.UserRateLimitFilter;
+import ru.practicum.shareit.gateway.validation.BodyValidationFilter;
 import ru.practicum.shareit.gateway.validation.HeaderValidationFilter;
+import ru.practicum.shareit.gateway.validation.QueryParamValidationFilter;
 
 @Configuration
 @RequiredArgsConstructor
@@ -19,8 +22,11 @@ import ru.practicum.shareit.gateway.validation.HeaderValidationFilter;
 @SuppressWarnings("unused")
 public class ItemRequestRoutesConfig {
 
-    private final DtoValidator dtoValidator;
+    private final BodyValidationFilter bodyValidationFilter;
     private final HeaderValidationFilter headerValidationFilter;
+    private final UserRateLimitFilter userRateLimitFilter;
+    private final QueryParamValidationFilter queryParamValidationFilter;
+    private final ResponseCacheFilter responseCacheFilter;
 
     @Value("${shareit-server.url}")
     private String serverUri;
@@ -41,22 +47,20 @@ public class ItemRequestRoutesConfig {
                 .method(HttpMethod.POST)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
-                    .modifyRequestBody(
-                        NewItemRequestDto.class, NewItemRequestDto.class,
-                        (exchange, dto) -> {
-                            log.debug("Validating NewItemRequestDto for POST {}", REQUESTS_PATH);
-                            dtoValidator.validate(dto);
-                            return Mono.just(dto);
-                        }
-                    ))
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(bodyValidationFilter.validateBody(NewItemRequestDto.class)))
                 .uri(serverUri))
 
-            // Route: GET /requests -> Get user's own requests
+            // Route: GET /requests -> Get user's own requests (keyset-paginated with a cursor)
             .route("get_own_requests", r -> r
                 .path(REQUESTS_PATH)
                 .and()
                 .method(HttpMethod.GET)
-                .filters(f -> f.filter(headerValidationFilter.validateUserIdHeader()))
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(queryParamValidationFilter.validateOptionalPositiveIntQueryParam(
+                        "size")))
                 .uri(serverUri))
 
             // Route: GET /requests/all -> Get requests from other users (paginated)
@@ -64,7 +68,9 @@ public class ItemRequestRoutesConfig {
                 .path(REQUESTS_ALL_PATH)
                 .and()
                 .method(HttpMethod.GET)
-                .filters(f -> f.filter(headerValidationFilter.validateUserIdHeader()))
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser()))
                 .uri(serverUri))
 
             // Route: GET /requests/{requestId} -> Get a specific request by ID
@@ -72,7 +78,10 @@ public class ItemRequestRoutesConfig {
                 .path(REQUESTS_ID_PATH)
                 .and()
                 .method(HttpMethod.GET)
-                .filters(f -> f.filter(headerValidationFilter.validateUserIdHeader()))
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(responseCacheFilter.cacheResponse(CachedResource.REQUEST)))
                 .uri(serverUri))
 
             .build();
@@ -8,11 +8,13 @@ import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import reactor.core.publisher.Mono;
 import ru.practicum.shareit.common.dto.item.NewCommentDto;
 import ru.practicum.shareit.common.dto.item.NewItemDto;
 import ru.practicum.shareit.common.dto.item.UpdateItemDto;
-import ru.practicum.shareit.gateway.validation.DtoValidator;
+import ru.practicum.shareit.gateway.cache.CachedResource;
+import ru.practicum.shareit.gateway.cache.ResponseCacheFilter;
+import ru.practicum.shareit.gateway.ratelimit.UserRateLimitFilter;
+import ru.practicum.shareit.gateway.validation.BodyValidationFilter;
 import ru.practicum.shareit.gateway.validation.HeaderValidationFilter;
 
 @Configuration
@@ -21,8 +23,10 @@ import ru.practicum.shareit.gateway.validation.HeaderValidationFilter;
 @SuppressWarnings("unused")
 public class ItemRoutesConfig {
 
-    private final DtoValidator dtoValidator;
+    private final BodyValidationFilter bodyValidationFilter;
     private final HeaderValidationFilter headerValidationFilter;
+    private final UserRateLimitFilter userRateLimitFilter;
+    private final ResponseCacheFilter responseCacheFilter;
 
     @Value("${shareit-server.url}")
     private String serverUri;
@@ -30,6 +34,8 @@ public class ItemRoutesConfig {
     private static final String ITEMS_PATH = "/items";
     private static final String ITEMS_ID_PATH = ITEMS_PATH + "/{id}";
     private static final String ITEMS_SEARCH_PATH = ITEMS_PATH + "/search";
+    private static final String ITEMS_SEARCH_STREAM_PATH = ITEMS_SEARCH_PATH + "/stream";
+    private static final String ITEMS_SUGGEST_PATH = ITEMS_PATH + "/suggest";
     private static final String ITEMS_COMMENT_PATH = ITEMS_PATH + "/{itemId}/comment";
 
     @Bean
@@ -44,14 +50,11 @@ public class ItemRoutesConfig {
                 .method(HttpMethod.POST)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
-                    .modifyRequestBody(
-                        NewItemDto.class, NewItemDto.class,
-                        (exchange, dto) -> {
-                            log.debug("Validating NewItemDto for POST {}", ITEMS_PATH);
-                            dtoValidator.validate(dto);
-                            return Mono.just(dto);
-                        }
-                    ))
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(bodyValidationFilter.validateBody(NewItemDto.class))
+                    // A new item can show up in searches and under the request it answers
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.SEARCH,
+                        CachedResource.REQUEST)))
                 .uri(serverUri))
 
             // Route: PATCH /items/{id} -> Update Item
@@ -61,16 +64,11 @@ public class ItemRoutesConfig {
                 .method(HttpMethod.PATCH)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
-                    .modifyRequestBody(
-                        UpdateItemDto.class, UpdateItemDto.class,
-                        (exchange, dto) -> {
-                            String itemId = exchange.getRequest().getURI().getPath()
-                                .substring(ITEMS_PATH.length() + 1);
-                            log.debug("Validating UpdateItemDto for PATCH /items/{}", itemId);
-                            dtoValidator.validate(dto);
-                            return Mono.just(dto);
-                        }
-                    ))
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(bodyValidationFilter.validateBody(UpdateItemDto.class))
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.ITEM, "id"))
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.SEARCH,
+                        CachedResource.REQUEST)))
                 .uri(serverUri))
 
             // Route: GET /items -> Get User's Items
@@ -78,25 +76,57 @@ public class ItemRoutesConfig {
                 .path(ITEMS_PATH)
                 .and()
                 .method(HttpMethod.GET)
-                .filters(f -> f.filter(headerValidationFilter.validateUserIdHeader()))
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser()))
                 .uri(serverUri))
 
-            // Route: GET /items/{id} -> Get Item By ID
-            .route("get_item_by_id", r -> r
-                .path(ITEMS_ID_PATH)
+            // Route: GET /items/search -> Search Items
+            .route("search_items", r -> r
+                .path(ITEMS_SEARCH_PATH)
                 .and()
                 .method(HttpMethod.GET)
-                .filters(f -> f.filter(headerValidationFilter.validateUserIdHeader()))
+                .and()
+                .query("text")
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(responseCacheFilter.cacheResponse(CachedResource.SEARCH)))
                 .uri(serverUri))
 
-            // Route: GET /items/search -> Search Items
-            .route("search_items", r -> r
-                .path(ITEMS_SEARCH_PATH)
+            // Route: GET /items/search/stream -> Stream Search Results as NDJSON
+            .route("stream_search_items", r -> r
+                .path(ITEMS_SEARCH_STREAM_PATH)
                 .and()
                 .method(HttpMethod.GET)
                 .and()
                 .query("text")
-                .filters(f -> f.filter(headerValidationFilter.validateUserIdHeader()))
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser()))
+                .uri(serverUri))
+
+            // Route: GET /items/suggest -> Suggest Item Names
+            .route("suggest_items", r -> r
+                .path(ITEMS_SUGGEST_PATH)
+                .and()
+                .method(HttpMethod.GET)
+                .and()
+                .query("prefix")
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser()))
+                .uri(serverUri))
+
+            // Route: GET /items/{id} -> Get Item By ID (kept after the /items/* routes it shadows)
+            .route("get_item_by_id", r -> r
+                .path(ITEMS_ID_PATH)
+                .and()
+                .method(HttpMethod.GET)
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(responseCacheFilter.cacheResponse(CachedResource.ITEM)))
                 .uri(serverUri))
 
             // Route: DELETE /items?id={id} -> Delete Item By ID
@@ -104,7 +134,12 @@ public class ItemRoutesConfig {
                 .path(ITEMS_ID_PATH)
                 .and()
                 .method(HttpMethod.DELETE)
-                .filters(f -> f.filter(headerValidationFilter.validateUserIdHeader()))
+                .filters(f -> f
+                    .filter(headerValidationFilter.validateUserIdHeader())
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.ITEM, "id"))
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.SEARCH,
+                        CachedResource.REQUEST)))
                 .uri(serverUri))
 
             // Route: POST /{itemId}/comment -> Add Comment
@@ -114,18 +149,9 @@ public class ItemRoutesConfig {
                 .method(HttpMethod.POST)
                 .filters(f -> f
                     .filter(headerValidationFilter.validateUserIdHeader())
-                    .modifyRequestBody(
-                        NewCommentDto.class, NewCommentDto.class,
-                        (exchange, dto) -> {
-                            String path = exchange.getRequest().getURI().getPath();
-                            String itemId = path.substring(ITEMS_PATH.length() + 1,
-                                path.indexOf("/comment"));
-                            log.debug("Validating NewCommentDto for POST /items/{}/comment",
-                                itemId);
-                            dtoValidator.validate(dto);
-                            return Mono.just(dto);
-                        }
-                    ))
+                    .filter(userRateLimitFilter.limitPerUser())
+                    .filter(bodyValidationFilter.validateBody(NewCommentDto.class))
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.ITEM, "itemId")))
                 .uri(serverUri))
 
             .build();
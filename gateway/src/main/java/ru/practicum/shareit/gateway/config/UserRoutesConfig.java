@@ -8,10 +8,11 @@ import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import reactor.core.publisher.Mono;
 import ru.practicum.shareit.common.dto.user.NewUserDto;
 import ru.practicum.shareit.common.dto.user.UpdateUserDto;
-import ru.practicum.shareit.gateway.validation.DtoValidator;
+import ru.practicum.shareit.gateway.cache.CachedResource;
+import ru.practicum.shareit.gateway.cache.ResponseCacheFilter;
+import ru.practicum.shareit.gateway.validation.BodyValidationFilter;
 
 @Configuration
 @RequiredArgsConstructor
@@ -19,7 +20,8 @@ import ru.practicum.shareit.gateway.validation.DtoValidator;
 @SuppressWarnings("unused")
 public class UserRoutesConfig {
 
-    private final DtoValidator dtoValidator;
+    private final BodyValidationFilter bodyValidationFilter;
+    private final ResponseCacheFilter responseCacheFilter;
 
     @Value("${shareit-server.url}")
     private String serverUri;
@@ -37,15 +39,7 @@ public class UserRoutesConfig {
                 .path(USERS_PATH)
                 .and()
                 .method(HttpMethod.POST)
-                .filters(f -> f.modifyRequestBody(
-                    NewUserDto.class,
-                    NewUserDto.class,
-                    (exchange, dto) -> {
-                        log.debug("Validating NewUserDto for POST {}", USERS_PATH);
-                        dtoValidator.validate(dto);
-                        return Mono.just(dto);
-                    }
-                ))
+                .filters(f -> f.filter(bodyValidationFilter.validateBody(NewUserDto.class)))
                 .uri(serverUri))
 
             // Route: PATCH /users/{id} -> Update User
@@ -53,17 +47,11 @@ public class UserRoutesConfig {
                 .path(USERS_ID_PATH)
                 .and()
                 .method(HttpMethod.PATCH)
-                .filters(f -> f.modifyRequestBody(
-                    UpdateUserDto.class,
-                    UpdateUserDto.class,
-                    (exchange, dto) -> {
-                        String userId = exchange.getRequest().getURI().getPath()
-                            .substring(USERS_PATH.length() + 1);
-                        log.debug("Validating UpdateUserDto for PATCH /users/{}", userId);
-                        dtoValidator.validate(dto);
-                        return Mono.just(dto);
-                    }
-                ))
+                .filters(f -> f
+                    .filter(bodyValidationFilter.validateBody(UpdateUserDto.class))
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.USER, "id"))
+                    // Item views carry comment author names
+                    .filter(responseCacheFilter.evictOnSuccess(CachedResource.ITEM)))
                 .uri(serverUri))
 
             // Route: GET /users -> Get All Users
@@ -78,6 +66,7 @@ public class UserRoutesConfig {
                 .path(USERS_ID_PATH)
                 .and()
                 .method(HttpMethod.GET)
+                .filters(f -> f.filter(responseCacheFilter.cacheResponse(CachedResource.USER)))
                 .uri(serverUri))
 
             // Route: DELETE /users/{id} -> Delete User By ID
@@ -85,6 +74,9 @@ public class UserRoutesConfig {
                 .path(USERS_ID_PATH)
                 .and()
                 .method(HttpMethod.DELETE)
+                // The user's items, requests, bookings and comments go with them
+                .filters(f -> f.filter(responseCacheFilter.evictOnSuccess(
+                    CachedResource.values())))
                 .uri(serverUri))
 
             .build();
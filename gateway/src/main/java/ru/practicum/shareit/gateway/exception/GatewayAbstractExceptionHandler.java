@@ -19,6 +19,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 import ru.practicum.shareit.common.exception.ErrorMessage;
 
@@ -57,7 +58,12 @@ public class GatewayAbstractExceptionHandler extends AbstractErrorWebExceptionHa
         log.error("Handling error: Status={}, Message='{}', Path={}", status, message,
             errorPropertiesMap.getOrDefault("path", "unknown"));
 
-        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(errorResponse));
+        ServerResponse.BodyBuilder response = ServerResponse.status(status)
+            .contentType(MediaType.APPLICATION_JSON);
+        // e.g. Retry-After of a rejected request
+        if (getError(request) instanceof ResponseStatusException rse) {
+            response.headers(headers -> headers.addAll(rse.getHeaders()));
+        }
+        return response.body(BodyInserters.fromValue(errorResponse));
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times what the gateway adds to a request per route id: the whole filter chain minus the call
+ * timed by {@link UpstreamTimingFilter}, including writing the response body back.
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayOverheadFilter implements GlobalFilter, Ordered {
+
+    static final String OVERHEAD_TIMER = "shareit.gateway.overhead";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long started = System.nanoTime();
+        Runnable record = () -> {
+            Long upstream = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+            long elapsed = System.nanoTime() - started - (upstream != null ? upstream : 0);
+            Timer.builder(OVERHEAD_TIMER)
+                .description("Time a request spends in the gateway outside the server call")
+                .tag("routeId", UpstreamTimingFilter.routeId(exchange))
+                .register(meterRegistry)
+                .record(Math.max(elapsed, 0), TimeUnit.NANOSECONDS);
+        };
+        return chain.filter(exchange).doOnTerminate(record).doOnCancel(record);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.gateway.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adds the gateway's share of a request to the {@code Server-Timing} header, after any entries
+ * the server sent: time spent in validation filters, waiting for the server, and everything else
+ * up to the response headers, reported as routing.
+ */
+@Component
+public class ServerTimingFilter implements GlobalFilter, Ordered {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    static final String VALIDATION_NANOS_ATTR = ServerTimingFilter.class.getName() + ".validation";
+
+    /**
+     * Adds time a validation filter spent on the request to the {@code gateway-validation} entry.
+     */
+    public static void addValidationTime(ServerWebExchange exchange, long nanos) {
+        exchange.getAttributes().merge(VALIDATION_NANOS_ATTR, nanos,
+            (total, more) -> (Long) total + (Long) more);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long started = System.nanoTime();
+        exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() -> {
+            long validation = exchange.getAttributeOrDefault(VALIDATION_NANOS_ATTR, 0L);
+            Long upstream = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+            long routing = System.nanoTime() - started - validation
+                - (upstream != null ? upstream : 0);
+            StringBuilder timing = new StringBuilder()
+                .append(entry("gateway-validation", validation))
+                .append(", ").append(entry("gateway-routing", Math.max(routing, 0)));
+            if (upstream != null) {
+                timing.append(", ").append(entry("gateway-upstream", upstream));
+            }
+            exchange.getResponse().getHeaders().add(SERVER_TIMING_HEADER, timing.toString());
+        }));
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    private static String entry(String name, long nanos) {
+        return String.format(Locale.ROOT, "%s;dur=%.3f", name,
+            nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times the call to the server per route id, from sending the request until its response headers
+ * arrive. Requests answered by the gateway itself, such as cache hits, are not timed.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    static final String UPSTREAM_NANOS_ATTR = UpstreamTimingFilter.class.getName() + ".nanos";
+    static final String UPSTREAM_TIMER = "shareit.gateway.upstream";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long started = System.nanoTime();
+        // Recorded before the outcome reaches GatewayOverheadFilter, which subtracts it
+        return chain.filter(exchange).doOnTerminate(() -> {
+            long elapsed = System.nanoTime() - started;
+            exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, elapsed);
+            Timer.builder(UPSTREAM_TIMER)
+                .description("Time the server takes to answer a proxied request")
+                .tag("routeId", routeId(exchange))
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+
+    static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+}
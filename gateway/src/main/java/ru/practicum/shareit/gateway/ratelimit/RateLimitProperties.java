@@ -0,0 +1,32 @@
+package ru.practicum.shareit.gateway.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "shareit-gateway.rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maximumBuckets = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private Limit defaultLimit = new Limit();
+    // Keyed by route id; routes not listed use the default limit
+    private Map<String, Limit> routes = new HashMap<>();
+
+    @Data
+    public static class Limit {
+
+        private double replenishRate = 20;
+        private long burstCapacity = 40;
+    }
+
+    public Limit limitFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultLimit);
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token bucket refilled continuously at a fixed rate. Taking a token is a compare-and-set on an
+ * immutable state, so concurrent requests of one user never block each other.
+ */
+class TokenBucket {
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(long capacity, double tokensPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one will be
+     */
+    long tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            long at = Math.max(now, current.refilledAt());
+            double tokens = Math.min(capacity,
+                current.tokens() + (at - current.refilledAt()) * tokensPerNano);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, at))) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.gateway.exception.RateLimitExceededException;
+import ru.practicum.shareit.gateway.validation.HeaderValidationFilter;
+
+/**
+ * Per-user, per-route token buckets held in memory. Buckets of users that stay idle are dropped,
+ * and the number of buckets is capped, so memory stays bounded without an external store.
+ */
+@Component
+@Slf4j
+public class UserRateLimitFilter {
+
+    /**
+     * Right after the header check and ahead of the response cache, so cache hits are limited too.
+     */
+    public static final int ORDER = HeaderValidationFilter.ORDER + 1;
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final RateLimitProperties properties;
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    private record BucketKey(String routeId, String userId) {
+    }
+
+    public UserRateLimitFilter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumBuckets())
+            .expireAfterAccess(properties.getIdleTimeout())
+            .build();
+    }
+
+    /**
+     * Rejects the request with {@code 429 Too Many Requests} and a {@code Retry-After} header once
+     * the user has used up the limit configured for the route. It runs after
+     * {@code validateUserIdHeader}, which guarantees the header.
+     */
+    public GatewayFilter limitPerUser() {
+        GatewayFilter filter = (exchange, chain) -> {
+            String userId = exchange.getRequest().getHeaders().getFirst(USER_ID_HEADER);
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (!properties.isEnabled() || userId == null || route == null) {
+                return chain.filter(exchange);
+            }
+
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.get(new BucketKey(route.getId(), userId), key -> {
+                RateLimitProperties.Limit limit = properties.limitFor(key.routeId());
+                return new TokenBucket(limit.getBurstCapacity(), limit.getReplenishRate(), now);
+            });
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                long retryAfter = Math.ceilDiv(waitNanos, TimeUnit.SECONDS.toNanos(1));
+                log.warn("Rate limit exceeded: user {} on route {}, retry after {} s", userId,
+                    route.getId(), retryAfter);
+                throw new RateLimitExceededException(retryAfter);
+            }
+            return chain.filter(exchange);
+        };
+        return new OrderedGatewayFilter(filter, ORDER);
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.gateway.tracing;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tags every request with a correlation id, the client's own if it sent a usable one, passes it
+ * on to the server and returns it with the response.
+ */
+@Component
+@Slf4j
+public class CorrelationIdFilter implements GlobalFilter, Ordered {
+
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+    // Ends up in log lines, so anything else is replaced rather than trusted
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String correlationId = correlationIdOf(exchange);
+        log.trace("Correlation id {} for {} {}", correlationId, exchange.getRequest().getMethod(),
+            exchange.getRequest().getPath());
+        exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+        return chain.filter(exchange.mutate()
+            .request(request -> request.headers(headers ->
+                headers.set(CORRELATION_ID_HEADER, correlationId)))
+            .build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private static String correlationIdOf(ServerWebExchange exchange) {
+        String id = exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER);
+        return id != null && VALID_ID.matcher(id).matches() ? id : UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.gateway.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebInputException;
+import ru.practicum.shareit.gateway.metrics.ServerTimingFilter;
+
+/**
+ * Validates a JSON request body against a DTO class and forwards the original bytes unchanged.
+ * Unlike {@code modifyRequestBody}, the DTO is only read for validation and never written back,
+ * so the body is not re-serialised and keeps its {@code Content-Length}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BodyValidationFilter {
+
+    private final ObjectMapper objectMapper;
+    private final DtoValidator dtoValidator;
+
+    public <T> GatewayFilter validateBody(Class<T> dtoClass) {
+        return (exchange, chain) -> {
+            long started = System.nanoTime();
+            return ServerWebExchangeUtils.cacheRequestBody(exchange, request -> {
+                log.debug("Validating {} for {} {}", dtoClass.getSimpleName(),
+                    request.getMethod(), request.getURI().getPath());
+                DataBuffer body = exchange.getAttribute(
+                    ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR);
+                dtoValidator.validate(read(body, dtoClass));
+                // Includes waiting for the body to arrive
+                ServerTimingFilter.addValidationTime(exchange, System.nanoTime() - started);
+                return chain.filter(exchange.mutate().request(request).build());
+            });
+        };
+    }
+
+    private <T> T read(DataBuffer body, Class<T> dtoClass) {
+        if (body == null || body.readableByteCount() == 0) {
+            return null;
+        }
+        // The cached buffer is replayed to the server, so leave its read position where it was
+        int readPosition = body.readPosition();
+        try {
+            return objectMapper.readValue(body.asInputStream(), dtoClass);
+        } catch (IOException e) {
+            log.warn("Failed to read {} from request body: {}", dtoClass.getSimpleName(),
+                e.getMessage());
+            throw new ServerWebInputException("Failed to read HTTP message", null, e);
+        } finally {
+            body.readPosition(readPosition);
+        }
+    }
+}
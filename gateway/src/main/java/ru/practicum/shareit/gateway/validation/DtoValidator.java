@@ -1,5 +1,6 @@
 package ru.practicum.shareit.gateway.validation;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import java.util.Objects;
@@ -14,11 +15,16 @@ import org.springframework.web.server.ServerWebInputException;
 @Slf4j
 public class DtoValidator {
 
+    static final String FAILURES_COUNTER = "shareit.gateway.validation.failures";
+
     private final Validator validator;
+    private final MeterRegistry meterRegistry;
 
     public <T> void validate(T dto) {
         if (dto == null) {
             log.warn("DTO validation failed: Input object is null");
+            meterRegistry.counter(FAILURES_COUNTER, "source", "body", "reason", "missing")
+                .increment();
             throw new ServerWebInputException("Request body is missing or invalid");
         }
         Set<ConstraintViolation<T>> violations = validator.validate(dto);
@@ -29,6 +35,8 @@ public class DtoValidator {
                 .findFirst().orElse("Unknown validation error");
             log.warn("Validation failed for DTO [{}]: {}", dto.getClass().getSimpleName(),
                 errorMessages);
+            meterRegistry.counter(FAILURES_COUNTER, "source", dto.getClass().getSimpleName(),
+                "reason", "invalid").increment();
             throw new ServerWebInputException("Validation failed: " + errorMessages);
         }
         log.debug("Validation successful for DTO: {}", dto);
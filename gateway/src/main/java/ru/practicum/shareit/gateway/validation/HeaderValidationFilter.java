@@ -1,24 +1,40 @@
 package ru.practicum.shareit.gateway.validation;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
+import ru.practicum.shareit.gateway.metrics.ServerTimingFilter;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class HeaderValidationFilter {
 
+    /**
+     * Ahead of the rate limit and the response cache, which both have to run before
+     * {@link NettyWriteResponseFilter}, so that no request skips the check.
+     */
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 3;
+
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
 
+    private final MeterRegistry meterRegistry;
+
     public GatewayFilter validateUserIdHeader() {
-        return (exchange, chain) -> {
+        GatewayFilter filter = (exchange, chain) -> {
+            long started = System.nanoTime();
             log.trace("Applying validation for header: {}", USER_ID_HEADER);
             String userId = exchange.getRequest().getHeaders().getFirst(USER_ID_HEADER);
 
             if (userId == null || userId.isBlank()) {
                 log.warn("Validation failed: Header '{}' is missing or blank", USER_ID_HEADER);
+                countFailure("missing");
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "Required header '" + USER_ID_HEADER + "' is missing");
             }
@@ -29,11 +45,19 @@ public class HeaderValidationFilter {
             } catch (NumberFormatException e) {
                 log.warn("Validation failed: Header '{}' is not a valid number: {}", USER_ID_HEADER,
                     userId, e);
+                countFailure("invalid");
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "Invalid format for header '" + USER_ID_HEADER + "'");
             }
 
+            ServerTimingFilter.addValidationTime(exchange, System.nanoTime() - started);
             return chain.filter(exchange);
         };
+        return new OrderedGatewayFilter(filter, ORDER);
+    }
+
+    private void countFailure(String reason) {
+        meterRegistry.counter(DtoValidator.FAILURES_COUNTER, "source", USER_ID_HEADER,
+            "reason", reason).increment();
     }
-}
\ No newline at end of file
+}
@@ -52,4 +52,29 @@ public class QueryParamValidationFilter {
             }
         };
     }
-}
\ No newline at end of file
+
+    public GatewayFilter validateOptionalPositiveIntQueryParam(String paramName) {
+        return (exchange, chain) -> {
+            String value = exchange.getRequest().getQueryParams().getFirst(paramName);
+
+            if (!StringUtils.hasText(value)) {
+                log.trace(
+                    "Optional query parameter '{}' is not present or empty, allowing request.",
+                    paramName);
+                return chain.filter(exchange);
+            }
+
+            try {
+                if (Integer.parseInt(value.trim()) > 0) {
+                    return chain.filter(exchange);
+                }
+            } catch (NumberFormatException ignored) {
+                // reported below together with non-positive values
+            }
+            log.warn("Validation failed: Query parameter '{}' has invalid value '{}'.", paramName,
+                value);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                String.format("%s must be a positive integer: %s", paramName, value));
+        };
+    }
+}
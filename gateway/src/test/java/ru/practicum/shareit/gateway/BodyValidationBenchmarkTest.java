@@ -0,0 +1,160 @@
+package ru.practicum.shareit.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.TestSocketUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import ru.practicum.shareit.common.dto.item.NewItemDto;
+import ru.practicum.shareit.gateway.validation.DtoValidator;
+
+/**
+ * Posts the same item through the {@code create_item} route, which validates the original body
+ * bytes, and through a copy of it that still uses {@code modifyRequestBody}, and reports the
+ * throughput and allocation per request of each. Allocation is counted across all threads, test
+ * client included, so only the difference between the two is the gateway's. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"shareit-gateway.rate-limit.enabled=false",
+        // Per-request debug logging would otherwise dominate both numbers
+        "logging.level.org.springframework.cloud.gateway=INFO",
+        "logging.level.reactor.netty.http.client=INFO",
+        "logging.level.ru.practicum.shareit.gateway=INFO"})
+@Tag("benchmark")
+@Slf4j
+@DisplayName("Body Validation Benchmark")
+class BodyValidationBenchmarkTest {
+
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    private static final String MODIFY_BODY_PATH = "/benchmark/modify-body/items";
+    private static final int MOCK_SERVER_PORT = TestSocketUtils.findAvailableTcpPort();
+    private static final int CLIENTS = 16;
+    private static final int WARMUP_REQUESTS = 4_000;
+    private static final int REQUESTS = 20_000;
+
+    private static final String BODY = "{\"name\": \"Cordless drill\", \"description\": \""
+        + "A well-used 18V drill with two batteries and a charger. ".repeat(20)
+        + "\", \"available\": true}";
+
+    private DisposableServer upstream;
+    private AtomicInteger upstreamRequests;
+    private WebClient webClient;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void serverProperties(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + MOCK_SERVER_PORT);
+    }
+
+    @TestConfiguration
+    static class ModifyRequestBodyRoute {
+
+        // create_item as it was routed before: parsed, validated and serialised again
+        @Bean
+        RouteLocator modifyRequestBodyRoutes(RouteLocatorBuilder builder,
+            DtoValidator dtoValidator, @Value("${shareit-server.url}") String serverUri) {
+            return builder.routes()
+                .route("benchmark_modify_body", r -> r
+                    .path(MODIFY_BODY_PATH)
+                    .and()
+                    .method(HttpMethod.POST)
+                    .filters(f -> f
+                        .modifyRequestBody(NewItemDto.class, NewItemDto.class,
+                            (exchange, dto) -> {
+                                dtoValidator.validate(dto);
+                                return Mono.just(dto);
+                            })
+                        .setPath("/items"))
+                    .uri(serverUri))
+                .build();
+        }
+    }
+
+    // MockWebServer handles each connection on a blocking thread and caps throughput well below
+    // the gateway's, so a Reactor Netty server stands in for the server here
+    @BeforeEach
+    void setUp() {
+        upstreamRequests = new AtomicInteger();
+        upstream = HttpServer.create()
+            .port(MOCK_SERVER_PORT)
+            .route(routes -> routes.post("/items", (request, response) -> request.receive()
+                .then(Mono.fromRunnable(upstreamRequests::incrementAndGet))
+                .then(response.status(201)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .sendString(Mono.just("{ \"id\": 1 }"))
+                    .then())))
+            .bindNow();
+        webClient = WebClient.create("http://localhost:" + port);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Validating the original body bytes vs modifyRequestBody on create_item")
+    void createItem_beforeAndAfter() {
+        run(MODIFY_BODY_PATH, WARMUP_REQUESTS);
+        run("/items", WARMUP_REQUESTS);
+
+        long[] before = run(MODIFY_BODY_PATH, REQUESTS);
+        long[] after = run("/items", REQUESTS);
+
+        log.info("{} POSTs of a {} byte item {} at a time: modifyRequestBody {} req/s, {} "
+                + "bytes allocated/req; original bytes {} req/s, {} bytes allocated/req",
+            REQUESTS, BODY.length(), CLIENTS, throughput(before), before[1] / REQUESTS,
+            throughput(after), after[1] / REQUESTS);
+        assertThat(upstreamRequests.get()).isEqualTo(2 * (WARMUP_REQUESTS + REQUESTS));
+    }
+
+    private static long throughput(long[] result) {
+        return REQUESTS * TimeUnit.SECONDS.toNanos(1) / result[0];
+    }
+
+    // Returns the elapsed nanoseconds and the bytes allocated by all threads meanwhile
+    private long[] run(String uri, int requests) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+        long started = System.nanoTime();
+
+        Flux.range(0, requests)
+            .flatMap(i -> webClient.post().uri(uri).header(HEADER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(BODY)
+                .retrieve()
+                .toBodilessEntity(), CLIENTS)
+            .blockLast(Duration.ofMinutes(5));
+
+        return new long[] {System.nanoTime() - started,
+            threads.getTotalThreadAllocatedBytes() - allocatedBefore};
+    }
+}
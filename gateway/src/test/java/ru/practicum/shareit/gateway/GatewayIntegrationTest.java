@@ -8,9 +8,13 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
@@ -41,9 +46,11 @@ import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
 import ru.practicum.shareit.common.dto.user.NewUserDto;
 import ru.practicum.shareit.common.dto.user.UpdateUserDto;
 import ru.practicum.shareit.common.exception.ErrorMessage;
+import ru.practicum.shareit.gateway.cache.ResponseCache;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureWebTestClient
+@AutoConfigureObservability(tracing = false)
 class GatewayIntegrationTest {
 
     private static final String HEADER_USER_ID = "X-Sharer-User-Id";
@@ -58,15 +65,25 @@ class GatewayIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     @DynamicPropertySource
     static void registerPgProperties(DynamicPropertyRegistry registry) {
         registry.add("shareit-server.url", () -> "http://localhost:" + MOCK_SERVER_PORT);
+        registry.add("shareit-gateway.response-cache.maximum-entry-size", () -> "1KB");
+        registry.add("shareit-gateway.rate-limit.routes.suggest_items.burst-capacity", () -> 3);
+        registry.add("shareit-gateway.rate-limit.routes.suggest_items.replenish-rate", () -> 0.1);
+        registry.add("shareit-gateway.rate-limit.routes.get_request_by_id.burst-capacity", () -> 3);
+        registry.add("shareit-gateway.rate-limit.routes.get_request_by_id.replenish-rate",
+            () -> 0.1);
     }
 
     @BeforeEach
     void setUpPerTest() throws IOException {
         mockWebServer = new MockWebServer();
         mockWebServer.start(MOCK_SERVER_PORT);
+        responseCache.invalidateAll();
     }
 
     @AfterEach
@@ -504,6 +521,35 @@ class GatewayIntegrationTest {
                     .isEqualTo("Required header 'X-Sharer-User-Id' is missing"));
         }
 
+        @Test
+        @DisplayName("GET /items/suggest - OK (Valid Header and Prefix)")
+        void suggestItemNames_whenValid_shouldForwardAndReturnOk() throws Exception {
+            String expectedResponseBody = "[\"Drill\",\"Drum Kit\"]";
+            enqueueMockResponse(HttpStatus.OK.value(), expectedResponseBody);
+
+            webTestClient.get().uri(
+                    uriBuilder -> uriBuilder.path(itemsPath + "/suggest").queryParam("prefix", "dr")
+                        .build()).header(HEADER_USER_ID, validUserIdHeader).exchange().expectStatus()
+                .isOk().expectBody(String.class).isEqualTo(expectedResponseBody);
+
+            RecordedRequest recordedRequest = takeRequestOrFail();
+            assertEquals(itemsPath + "/suggest?prefix=dr", recordedRequest.getPath(),
+                "Recorded request path should be /items/suggest with prefix query param");
+            assertEquals(validUserIdHeader, recordedRequest.getHeader(HEADER_USER_ID),
+                "Recorded request should have X-Sharer-User-Id header with correct value");
+        }
+
+        @Test
+        @DisplayName("GET /items/suggest - Bad Request (Missing Header)")
+        void suggestItemNames_whenMissingHeader_shouldReturnBadRequest() {
+            webTestClient.get().uri(
+                    uriBuilder -> uriBuilder.path(itemsPath + "/suggest").queryParam("prefix", "dr")
+                        .build()).exchange().expectStatus().isBadRequest()
+                .expectBody(ErrorMessage.class).value(error -> assertThat(error.getError()).as(
+                        "Error message for missing header should be specific")
+                    .isEqualTo("Required header 'X-Sharer-User-Id' is missing"));
+        }
+
 
         @Test
         @DisplayName("POST /items/{itemId}/comment - OK (Valid Comment, Valid Header)")
@@ -1099,4 +1145,352 @@ class GatewayIntegrationTest {
                         .isEqualTo("Required header 'X-Sharer-User-Id' is missing"));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Response Cache")
+    class ResponseCacheTests {
+
+        private static final String ITEM_BODY = "{ \"id\": 1, \"name\": \"Test Item\" }";
+
+        @Test
+        @DisplayName("GET /items/{id} - second request is served from the cache")
+        void getItemById_whenRepeated_shouldReachServerOnce() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk().expectHeader().valueEquals("X-Cache", "MISS");
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Cache", "HIT")
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(String.class).isEqualTo(ITEM_BODY);
+
+            takeRequestOrFail();
+            assertEquals(1, mockWebServer.getRequestCount(),
+                "Only the first request should reach the server");
+        }
+
+        @Test
+        @DisplayName("GET /items/{id} - responses are cached per user")
+        void getItemById_whenAnotherUser_shouldReachServerAgain() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk();
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "2").exchange()
+                .expectStatus().isOk().expectHeader().valueEquals("X-Cache", "MISS");
+
+            assertEquals(2, mockWebServer.getRequestCount(),
+                "Each user should get their own cached view");
+        }
+
+        @Test
+        @DisplayName("GET /items/{id} - concurrent identical requests share one upstream call")
+        void getItemById_whenConcurrent_shouldCoalesceUpstreamCalls() throws Exception {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(HttpStatus.OK.value())
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(ITEM_BODY)
+                .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+            int clients = 5;
+            ExecutorService executor = Executors.newFixedThreadPool(clients);
+            try {
+                List<Future<String>> sources = new ArrayList<>();
+                for (int i = 0; i < clients; i++) {
+                    sources.add(executor.submit(() -> webTestClient.get().uri("/items/1")
+                        .header(HEADER_USER_ID, "1").exchange()
+                        .expectStatus().isOk()
+                        .expectBody(String.class).isEqualTo(ITEM_BODY)
+                        .returnResult().getResponseHeaders().getFirst("X-Cache")));
+                }
+                List<String> results = new ArrayList<>();
+                for (Future<String> source : sources) {
+                    results.add(source.get(5, TimeUnit.SECONDS));
+                }
+
+                assertEquals(1, mockWebServer.getRequestCount(),
+                    "Only one of the concurrent requests should reach the server");
+                assertThat(results).as("Requests that arrived during the call should share it")
+                    .contains("MISS", "COALESCED");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("GET /items/search - a body over the per-entry limit is not cached")
+        void searchItems_whenBodyOverEntryLimit_shouldNotCache() throws Exception {
+            String body = "[" + String.join(",", Collections.nCopies(40, ITEM_BODY)) + "]";
+            enqueueMockResponse(HttpStatus.OK.value(), body);
+            enqueueMockResponse(HttpStatus.OK.value(), body);
+
+            webTestClient.get().uri("/items/search?text=test").header(HEADER_USER_ID, "1")
+                .exchange().expectStatus().isOk().expectBody(String.class).isEqualTo(body);
+            webTestClient.get().uri("/items/search?text=test").header(HEADER_USER_ID, "1")
+                .exchange().expectStatus().isOk()
+                .expectHeader().valueEquals("X-Cache", "MISS")
+                .expectBody(String.class).isEqualTo(body);
+
+            assertEquals(2, mockWebServer.getRequestCount(),
+                "Both requests should reach the server");
+        }
+
+        @Test
+        @DisplayName("GET /users/{id} - error responses are not cached")
+        void getUserById_whenNotFound_shouldNotCache() throws Exception {
+            String error = toJson(new ErrorMessage("User not found", HttpStatus.NOT_FOUND.value()));
+            enqueueMockResponse(HttpStatus.NOT_FOUND.value(), error);
+            enqueueMockResponse(HttpStatus.NOT_FOUND.value(), error);
+
+            webTestClient.get().uri("/users/9").exchange().expectStatus().isNotFound();
+            webTestClient.get().uri("/users/9").exchange().expectStatus().isNotFound();
+
+            assertEquals(2, mockWebServer.getRequestCount(),
+                "Both requests should reach the server");
+        }
+
+        @Test
+        @DisplayName("GET /users/{id} - a repeat after an error gets its own response")
+        void getUserById_whenRepeatedAfterError_shouldNotReuseEarlierBody() throws Exception {
+            String first = toJson(new ErrorMessage("First", HttpStatus.NOT_FOUND.value()));
+            String second = toJson(new ErrorMessage("Second", HttpStatus.NOT_FOUND.value()));
+            enqueueMockResponse(HttpStatus.NOT_FOUND.value(), first);
+            enqueueMockResponse(HttpStatus.NOT_FOUND.value(), second);
+
+            webTestClient.get().uri("/users/9").exchange().expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo(first);
+            webTestClient.get().uri("/users/9").exchange().expectStatus().isNotFound()
+                .expectHeader().valueEquals("X-Cache", "MISS")
+                .expectBody(String.class).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("PATCH /items/{id} - success evicts the item and searches")
+        void updateItem_whenSucceeds_shouldEvictCachedResponses() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+            enqueueMockResponse(HttpStatus.OK.value(), "[" + ITEM_BODY + "]");
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk();
+            webTestClient.get().uri("/items/search?text=test").header(HEADER_USER_ID, "1")
+                .exchange().expectStatus().isOk();
+
+            UpdateItemDto update = new UpdateItemDto("Renamed", null, null);
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+            webTestClient.patch().uri("/items/1").header(HEADER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON).body(BodyInserters.fromValue(update))
+                .exchange().expectStatus().isOk();
+
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+            enqueueMockResponse(HttpStatus.OK.value(), "[]");
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk().expectHeader().valueEquals("X-Cache", "MISS");
+            webTestClient.get().uri("/items/search?text=test").header(HEADER_USER_ID, "1")
+                .exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("[]");
+
+            assertEquals(5, mockWebServer.getRequestCount(),
+                "Reads after the update should reach the server again");
+        }
+
+        @Test
+        @DisplayName("PATCH /items/{id} - failure keeps cached responses")
+        void updateItem_whenFails_shouldKeepCachedResponses() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk();
+
+            UpdateItemDto update = new UpdateItemDto("Renamed", null, null);
+            enqueueMockResponse(HttpStatus.FORBIDDEN.value(),
+                toJson(new ErrorMessage("Access denied", HttpStatus.FORBIDDEN.value())));
+            webTestClient.patch().uri("/items/1").header(HEADER_USER_ID, "2")
+                .contentType(MediaType.APPLICATION_JSON).body(BodyInserters.fromValue(update))
+                .exchange().expectStatus().isForbidden();
+
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk().expectHeader().valueEquals("X-Cache", "HIT");
+            assertEquals(2, mockWebServer.getRequestCount(),
+                "The failed update should not evict the item");
+        }
+
+        @Test
+        @DisplayName("PATCH /bookings/{id} - approval evicts cached items")
+        void approveBooking_whenSucceeds_shouldEvictCachedItems() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk();
+
+            enqueueMockResponse(HttpStatus.OK.value(), "{ \"id\": 5 }");
+            webTestClient.patch().uri("/bookings/5?approved=true").header(HEADER_USER_ID, "1")
+                .exchange().expectStatus().isOk();
+
+            enqueueMockResponse(HttpStatus.OK.value(), ITEM_BODY);
+            webTestClient.get().uri("/items/1").header(HEADER_USER_ID, "1").exchange()
+                .expectStatus().isOk().expectHeader().valueEquals("X-Cache", "MISS");
+            assertEquals(3, mockWebServer.getRequestCount(),
+                "The item should be fetched again after the approval");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rate Limiting")
+    class RateLimitTests {
+
+        @Test
+        @DisplayName("GET /items/suggest - Too Many Requests once the user's burst is used up")
+        void suggestItemNames_whenLimitExceeded_shouldReturnTooManyRequests() throws Exception {
+            String userId = "4242";
+            for (int i = 0; i < 3; i++) {
+                enqueueMockResponse(HttpStatus.OK.value(), "[]");
+                webTestClient.get().uri("/items/suggest?prefix=dr").header(HEADER_USER_ID, userId)
+                    .exchange().expectStatus().isOk();
+            }
+
+            webTestClient.get().uri("/items/suggest?prefix=dr").header(HEADER_USER_ID, userId)
+                .exchange().expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "10")
+                .expectBody(ErrorMessage.class).value(error -> {
+                    assertThat(error.getResponseCode()).isEqualTo(429);
+                    assertThat(error.getError()).startsWith("Too many requests");
+                });
+
+            assertEquals(3, mockWebServer.getRequestCount(),
+                "The rejected request should not reach the server");
+        }
+
+        @Test
+        @DisplayName("GET /requests/{id} - cached responses count against the limit too")
+        void getRequestById_whenCachedAndLimitExceeded_shouldReturnTooManyRequests() {
+            String userId = "4343";
+            enqueueMockResponse(HttpStatus.OK.value(), "{ \"id\": 7 }");
+            webTestClient.get().uri("/requests/7").header(HEADER_USER_ID, userId).exchange()
+                .expectStatus().isOk().expectHeader().valueEquals("X-Cache", "MISS");
+            for (int i = 0; i < 2; i++) {
+                webTestClient.get().uri("/requests/7").header(HEADER_USER_ID, userId).exchange()
+                    .expectStatus().isOk().expectHeader().valueEquals("X-Cache", "HIT");
+            }
+
+            webTestClient.get().uri("/requests/7").header(HEADER_USER_ID, userId).exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("GET /actuator/prometheus - route latency split into upstream and overhead")
+        void prometheus_afterProxiedRequest_shouldExposeRouteTimers() {
+            enqueueMockResponse(HttpStatus.OK.value(), "[]");
+            webTestClient.get().uri("/users").exchange().expectStatus().isOk();
+
+            webTestClient.get().uri("/actuator/prometheus").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).value(metrics -> assertThat(metrics)
+                    .contains("spring_cloud_gateway_requests_seconds_bucket{")
+                    .containsPattern("shareit_gateway_upstream_seconds_bucket\\{.*"
+                        + "routeId=\"get_all_users\"")
+                    .containsPattern("shareit_gateway_overhead_seconds_count\\{"
+                        + "routeId=\"get_all_users\"}")
+                    .contains("reactor_netty_connection_provider_"));
+        }
+
+        @Test
+        @DisplayName("GET /actuator/prometheus - counts header validation failures")
+        void prometheus_afterMissingHeader_shouldCountValidationFailure() {
+            webTestClient.get().uri("/bookings").exchange().expectStatus().isBadRequest();
+
+            webTestClient.get().uri("/actuator/prometheus").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).value(metrics -> assertThat(metrics)
+                    .containsPattern("shareit_gateway_validation_failures_total\\{"
+                        + "reason=\"missing\",source=\"X-Sharer-User-Id\"}"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Correlation Id and Server-Timing")
+    class TracingTests {
+
+        @Test
+        @DisplayName("GET /users - generates a correlation id and passes it to the server")
+        void getUsers_withoutCorrelationId_shouldGenerateAndForwardIt() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), "[]");
+
+            String correlationId = webTestClient.get().uri("/users").exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders()
+                .getFirst("X-Correlation-Id");
+
+            assertNotNull(correlationId, "The response should carry a correlation id");
+            assertEquals(correlationId, takeRequestOrFail().getHeader("X-Correlation-Id"));
+        }
+
+        @Test
+        @DisplayName("GET /users - keeps the client's correlation id")
+        void getUsers_withCorrelationId_shouldKeepIt() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), "[]");
+
+            webTestClient.get().uri("/users").header("X-Correlation-Id", "client-42").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Correlation-Id", "client-42");
+
+            assertEquals("client-42", takeRequestOrFail().getHeader("X-Correlation-Id"));
+        }
+
+        @Test
+        @DisplayName("GET /users - replaces a correlation id that is not safe to log")
+        void getUsers_withUnsafeCorrelationId_shouldReplaceIt() throws Exception {
+            enqueueMockResponse(HttpStatus.OK.value(), "[]");
+
+            webTestClient.get().uri("/users").header("X-Correlation-Id", "a b\tc").exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("X-Correlation-Id",
+                    id -> assertThat(id).matches("[0-9a-f-]{36}"));
+        }
+
+        @Test
+        @DisplayName("POST /items - adds gateway entries after the server's Server-Timing")
+        void createItem_shouldAppendGatewayServerTiming() {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(201)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setHeader("Server-Timing", "db;dur=2.000, mapping;dur=0.100")
+                .setBody("{ \"id\": 1 }"));
+            NewItemDto newItem = new NewItemDto();
+            newItem.setName("Drill");
+            newItem.setDescription("Cordless");
+            newItem.setAvailable(true);
+
+            List<String> timing = webTestClient.post().uri("/items").header(HEADER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(newItem)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(String.class).getResponseHeaders().get("Server-Timing");
+
+            assertNotNull(timing);
+            assertThat(String.join(", ", timing))
+                .startsWith("db;dur=2.000, mapping;dur=0.100")
+                .containsPattern("gateway-validation;dur=\\d+\\.\\d{3}")
+                .containsPattern("gateway-routing;dur=\\d+\\.\\d{3}")
+                .containsPattern("gateway-upstream;dur=\\d+\\.\\d{3}");
+        }
+
+        @Test
+        @DisplayName("GET /users/{id} - a cache hit reports neither the server nor the first id")
+        void getUserById_whenCached_shouldNotReplayPerRequestHeaders() {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setHeader("Server-Timing", "db;dur=2.000")
+                .setBody("{ \"id\": 3 }"));
+            webTestClient.get().uri("/users/3").header("X-Correlation-Id", "first").exchange()
+                .expectStatus().isOk();
+
+            webTestClient.get().uri("/users/3").header("X-Correlation-Id", "second").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Cache", "HIT")
+                .expectHeader().valueEquals("X-Correlation-Id", "second")
+                .expectHeader().value("Server-Timing", timing -> assertThat(timing)
+                    .startsWith("gateway-validation;dur=")
+                    .doesNotContain("db;dur=", "gateway-upstream"));
+        }
+    }
+}
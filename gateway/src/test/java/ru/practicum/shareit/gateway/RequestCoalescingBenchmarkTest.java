@@ -0,0 +1,137 @@
+package ru.practicum.shareit.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.TestSocketUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import ru.practicum.shareit.gateway.cache.ResponseCache;
+
+/**
+ * Sends waves of identical concurrent GETs through the gateway to a slow MockWebServer standing in
+ * for the server, once on a coalesced route and once on a route without coalescing, and reports
+ * the upstream calls and client latency of each. Run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "shareit-gateway.rate-limit.enabled=false")
+@AutoConfigureWebTestClient(timeout = "30s")
+@Tag("benchmark")
+@Slf4j
+@DisplayName("Request Coalescing Benchmark")
+class RequestCoalescingBenchmarkTest {
+
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    private static final int MOCK_SERVER_PORT = TestSocketUtils.findAvailableTcpPort();
+    private static final int CLIENTS = 50;
+    private static final int WAVES = 10;
+    private static final long UPSTREAM_DELAY_MS = 100;
+
+    private MockWebServer mockWebServer;
+    private ExecutorService executor;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @DynamicPropertySource
+    static void serverProperties(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + MOCK_SERVER_PORT);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(200)
+                    .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .setBody("[{ \"id\": 1, \"name\": \"Popular Item\" }]")
+                    .setHeadersDelay(UPSTREAM_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        });
+        mockWebServer.start(MOCK_SERVER_PORT);
+        executor = Executors.newFixedThreadPool(CLIENTS);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        executor.shutdownNow();
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Coalesced route vs route without coalescing under identical concurrent GETs")
+    void identicalConcurrentGets_beforeAndAfter() throws Exception {
+        // Warm up both routes so connection setup is not measured
+        run("/items/1", 1);
+        run("/items", 1);
+
+        int before = mockWebServer.getRequestCount();
+        long uncoalescedNanos = run("/items", WAVES);
+        int uncoalescedCalls = mockWebServer.getRequestCount() - before;
+
+        before = mockWebServer.getRequestCount();
+        long coalescedNanos = run("/items/1", WAVES);
+        int coalescedCalls = mockWebServer.getRequestCount() - before;
+
+        log.info("{} waves of {} identical GETs, upstream {} ms: without coalescing {} upstream "
+                + "calls, {} ms/wave; coalesced {} upstream calls, {} ms/wave", WAVES, CLIENTS,
+            UPSTREAM_DELAY_MS, uncoalescedCalls, Duration.ofNanos(uncoalescedNanos).toMillis(),
+            coalescedCalls, Duration.ofNanos(coalescedNanos).toMillis());
+        assertThat(uncoalescedCalls).isEqualTo(WAVES * CLIENTS);
+        assertThat(coalescedCalls).isLessThan(WAVES * CLIENTS / 10);
+    }
+
+    // Each wave starts every client at once on an empty cache; returns the mean wave time
+    private long run(String uri, int waves) throws Exception {
+        long total = 0;
+        for (int wave = 0; wave < waves; wave++) {
+            responseCache.invalidateAll();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    return webTestClient.get().uri(uri).header(HEADER_USER_ID, "1").exchange()
+                        .expectStatus().isOk()
+                        .returnResult(String.class).getResponseBody().blockLast();
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> client : clients) {
+                client.get(30, TimeUnit.SECONDS);
+            }
+            total += System.nanoTime() - started;
+        }
+        return total / waves;
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.gateway.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import ru.practicum.shareit.gateway.cache.ResponseCache.CachedResponse;
+import ru.practicum.shareit.gateway.cache.ResponseCache.Key;
+
+@DisplayName("Response Cache Tests")
+class ResponseCacheTest {
+
+    private ResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        Duration ttl = Duration.ofMinutes(1);
+        responseCache = new ResponseCache(new SimpleMeterRegistry(), DataSize.ofKilobytes(16),
+            DataSize.ofKilobytes(4), ttl, ttl, ttl, ttl);
+    }
+
+    @Test
+    @DisplayName("put should keep the total size of cached bodies within the limit")
+    void put_whenBodiesExceedTotalSize_shouldEvictByWeight() {
+        for (int i = 0; i < 50; i++) {
+            responseCache.put(key(i), response(2048));
+        }
+        responseCache.cleanUp();
+
+        long cachedBytes = 0;
+        for (int i = 0; i < 50; i++) {
+            CachedResponse cached = responseCache.get(key(i));
+            if (cached != null) {
+                cachedBytes += cached.body().length;
+            }
+        }
+        assertThat(cachedBytes).isPositive()
+            .isLessThanOrEqualTo(DataSize.ofKilobytes(16).toBytes());
+    }
+
+    @Test
+    @DisplayName("put should skip a body over the per-entry limit")
+    void put_whenBodyOverEntryLimit_shouldNotCache() {
+        responseCache.put(key(1), response(4096));
+        responseCache.put(key(2), response(4097));
+
+        assertNotNull(responseCache.get(key(1)), "A body at the limit should be cached");
+        assertNull(responseCache.get(key(2)), "A body over the limit should not be cached");
+    }
+
+    private static Key key(int id) {
+        return new Key(CachedResource.ITEM, "/items/" + id, null, "1");
+    }
+
+    private static CachedResponse response(int bodyBytes) {
+        return new CachedResponse(HttpStatus.OK, new HttpHeaders(), new byte[bodyBytes]);
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.gateway.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class GatewayOverheadFilterTest {
+
+    @Mock
+    private GatewayFilterChain mockChain;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayOverheadFilter filter;
+    private MockServerWebExchange exchange;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new GatewayOverheadFilter(meterRegistry);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
+    }
+
+    private Timer overheadTimer() {
+        // No route attribute on the test exchange
+        return meterRegistry.get(GatewayOverheadFilter.OVERHEAD_TIMER)
+            .tag("routeId", "unknown").timer();
+    }
+
+    @Test
+    @DisplayName("filter should leave the upstream call out of the recorded time")
+    void filter_whenUpstreamWasTimed_shouldSubtractIt() {
+        when(mockChain.filter(any())).thenReturn(Mono.delay(Duration.ofMillis(100))
+            .then(Mono.fromRunnable(() -> exchange.getAttributes().put(
+                UpstreamTimingFilter.UPSTREAM_NANOS_ATTR, TimeUnit.MILLISECONDS.toNanos(100)))));
+
+        StepVerifier.create(filter.filter(exchange, mockChain)).verifyComplete();
+
+        assertThat(overheadTimer().count()).isEqualTo(1);
+        assertThat(overheadTimer().totalTime(TimeUnit.MILLISECONDS)).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("filter should record the whole time when the server was not called")
+    void filter_whenNoUpstreamCall_shouldRecordWholeTime() {
+        when(mockChain.filter(any())).thenReturn(Mono.delay(Duration.ofMillis(50)).then());
+
+        StepVerifier.create(filter.filter(exchange, mockChain)).verifyComplete();
+
+        assertThat(overheadTimer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.gateway.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter();
+
+    @Mock
+    private GatewayFilterChain mockChain;
+
+    private MockServerWebExchange exchange;
+
+    @BeforeEach
+    void setUp() {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test"));
+    }
+
+    @Test
+    @DisplayName("filter should report validation, routing and upstream time on commit")
+    void filter_whenServerWasCalled_shouldAppendAllEntries() {
+        exchange.getResponse().getHeaders().add("Server-Timing", "db;dur=1.000");
+        when(mockChain.filter(any())).thenReturn(Mono.fromRunnable(() -> {
+            ServerTimingFilter.addValidationTime(exchange, TimeUnit.MICROSECONDS.toNanos(250));
+            ServerTimingFilter.addValidationTime(exchange, TimeUnit.MICROSECONDS.toNanos(250));
+            exchange.getAttributes().put(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR,
+                TimeUnit.MILLISECONDS.toNanos(3));
+        }));
+
+        StepVerifier.create(filter.filter(exchange, mockChain)
+            .then(exchange.getResponse().setComplete())).verifyComplete();
+
+        assertThat(exchange.getResponse().getHeaders().get("Server-Timing"))
+            .hasSize(2)
+            .first().isEqualTo("db;dur=1.000");
+        assertThat(exchange.getResponse().getHeaders().get("Server-Timing").get(1))
+            .startsWith("gateway-validation;dur=0.500, gateway-routing;dur=")
+            .endsWith(", gateway-upstream;dur=3.000");
+    }
+
+    @Test
+    @DisplayName("filter should leave out upstream time when the server was not called")
+    void filter_whenServerWasNotCalled_shouldOmitUpstream() {
+        when(mockChain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange, mockChain)
+            .then(exchange.getResponse().setComplete())).verifyComplete();
+
+        assertThat(exchange.getResponse().getHeaders().getFirst("Server-Timing"))
+            .startsWith("gateway-validation;dur=0.000, gateway-routing;dur=")
+            .doesNotContain("gateway-upstream");
+    }
+}
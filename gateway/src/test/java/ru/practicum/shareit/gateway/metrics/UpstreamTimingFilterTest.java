@@ -0,0 +1,77 @@
+package ru.practicum.shareit.gateway.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class UpstreamTimingFilterTest {
+
+    @Mock
+    private GatewayFilterChain mockChain;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UpstreamTimingFilter(meterRegistry);
+    }
+
+    private static MockServerWebExchange exchange(String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/test").build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+            Route.async().id(routeId).uri(URI.create("http://localhost"))
+                .predicate(e -> true).build());
+        return exchange;
+    }
+
+    @Test
+    @DisplayName("filter should time the rest of the chain under the route id")
+    void filter_whenChainCompletes_shouldRecordUpstreamTime() {
+        MockServerWebExchange exchange = exchange("get_user_by_id");
+        when(mockChain.filter(any())).thenReturn(Mono.delay(Duration.ofMillis(50)).then());
+
+        StepVerifier.create(filter.filter(exchange, mockChain)).verifyComplete();
+
+        Timer timer = meterRegistry.get(UpstreamTimingFilter.UPSTREAM_TIMER)
+            .tag("routeId", "get_user_by_id").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+        assertThat((Long) exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR))
+            .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    @DisplayName("filter should time a failed call too")
+    void filter_whenChainFails_shouldRecordUpstreamTime() {
+        when(mockChain.filter(any())).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        StepVerifier.create(filter.filter(exchange("create_item"), mockChain))
+            .verifyError(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(UpstreamTimingFilter.UPSTREAM_TIMER)
+            .tag("routeId", "create_item").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.gateway.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("tryConsume should allow a full burst and then report the wait for a token")
+    void tryConsume_whenBurstUsedUp_shouldReturnWaitUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(3, 2, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryConsume(0), "Token " + i + " of the burst should be taken");
+        }
+
+        assertEquals(SECOND / 2, bucket.tryConsume(0),
+            "At 2 tokens per second the next token should come in half a second");
+    }
+
+    @Test
+    @DisplayName("tryConsume should refill over time but never above the capacity")
+    void tryConsume_afterIdling_shouldRefillUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertEquals(0, bucket.tryConsume(SECOND), "A token should be back after a second");
+
+        long later = 100 * SECOND;
+        assertEquals(0, bucket.tryConsume(later));
+        assertEquals(0, bucket.tryConsume(later));
+        assertTrue(bucket.tryConsume(later) > 0, "Idling should not grow the bucket past capacity");
+    }
+
+    @Test
+    @DisplayName("tryConsume should hand out exactly the capacity to concurrent callers")
+    void tryConsume_whenConcurrent_shouldNotOverspend() throws Exception {
+        int capacity = 100;
+        int threads = 8;
+        TokenBucket bucket = new TokenBucket(capacity, 0.001, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int taken = 0;
+                    for (int i = 0; i < capacity; i++) {
+                        if (bucket.tryConsume(0) == 0) {
+                            taken++;
+                        }
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(5, TimeUnit.SECONDS);
+            }
+
+            assertEquals(capacity, total, "Exactly the capacity should be handed out");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
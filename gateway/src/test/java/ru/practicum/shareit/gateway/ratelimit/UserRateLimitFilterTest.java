@@ -0,0 +1,137 @@
+package ru.practicum.shareit.gateway.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import ru.practicum.shareit.gateway.exception.RateLimitExceededException;
+
+@ExtendWith(MockitoExtension.class)
+class UserRateLimitFilterTest {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @Mock
+    private GatewayFilterChain mockChain;
+
+    private RateLimitProperties properties;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.getDefaultLimit().setBurstCapacity(2);
+        properties.getDefaultLimit().setReplenishRate(0.001);
+        RateLimitProperties.Limit strict = new RateLimitProperties.Limit();
+        strict.setBurstCapacity(1);
+        strict.setReplenishRate(0.001);
+        properties.getRoutes().put("strict_route", strict);
+        filter = new UserRateLimitFilter(properties).limitPerUser();
+    }
+
+    private MockServerWebExchange exchange(String routeId, String userId) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/test");
+        if (userId != null) {
+            request.header(USER_ID_HEADER, userId);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request.build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+            Route.async().id(routeId).uri(URI.create("http://localhost"))
+                .predicate(e -> true).build());
+        return exchange;
+    }
+
+    @Test
+    @DisplayName("limitPerUser should pass requests within the default limit")
+    void limitPerUser_whenWithinLimit_shouldPassFilter() {
+        when(mockChain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange("route", "1"), mockChain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("route", "1"), mockChain)).verifyComplete();
+
+        verify(mockChain, times(2)).filter(any());
+    }
+
+    @Test
+    @DisplayName("limitPerUser should reject with 429 and Retry-After once the limit is used up")
+    void limitPerUser_whenLimitExceeded_shouldThrowWithRetryAfter() {
+        when(mockChain.filter(any())).thenReturn(Mono.empty());
+        filter.filter(exchange("route", "1"), mockChain).block();
+        filter.filter(exchange("route", "1"), mockChain).block();
+
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+            () -> filter.filter(exchange("route", "1"), mockChain).block());
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+        assertEquals("1000", exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER),
+            "Retry-After should be the whole seconds until the next token");
+        verify(mockChain, times(2)).filter(any());
+    }
+
+    @Test
+    @DisplayName("limitPerUser should keep separate buckets per user")
+    void limitPerUser_whenAnotherUser_shouldUseOwnBucket() {
+        when(mockChain.filter(any())).thenReturn(Mono.empty());
+        filter.filter(exchange("strict_route", "1"), mockChain).block();
+
+        StepVerifier.create(filter.filter(exchange("strict_route", "2"), mockChain))
+            .verifyComplete();
+        assertThrows(RateLimitExceededException.class,
+            () -> filter.filter(exchange("strict_route", "1"), mockChain).block());
+    }
+
+    @Test
+    @DisplayName("limitPerUser should apply the limit configured for the route")
+    void limitPerUser_whenRouteConfigured_shouldUseRouteLimit() {
+        when(mockChain.filter(any())).thenReturn(Mono.empty());
+        filter.filter(exchange("strict_route", "1"), mockChain).block();
+
+        assertThrows(RateLimitExceededException.class,
+            () -> filter.filter(exchange("strict_route", "1"), mockChain).block());
+        StepVerifier.create(filter.filter(exchange("other_route", "1"), mockChain))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("limitPerUser should pass everything when disabled")
+    void limitPerUser_whenDisabled_shouldPassFilter() {
+        properties.setEnabled(false);
+        when(mockChain.filter(any())).thenReturn(Mono.empty());
+
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(filter.filter(exchange("strict_route", "1"), mockChain))
+                .verifyComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("limitPerUser should leave requests without the user header to validation")
+    void limitPerUser_whenHeaderMissing_shouldPassFilter() {
+        when(mockChain.filter(any())).thenReturn(Mono.empty());
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(filter.filter(exchange("strict_route", null), mockChain))
+                .verifyComplete();
+        }
+    }
+}
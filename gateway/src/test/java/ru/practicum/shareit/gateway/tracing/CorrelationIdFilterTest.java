@@ -0,0 +1,76 @@
+package ru.practicum.shareit.gateway.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CorrelationIdFilterTest {
+
+    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @Mock
+    private GatewayFilterChain mockChain;
+
+    private ServerWebExchange filter(MockServerWebExchange exchange) {
+        ArgumentCaptor<ServerWebExchange> forwarded =
+            ArgumentCaptor.forClass(ServerWebExchange.class);
+        when(mockChain.filter(forwarded.capture())).thenReturn(Mono.empty());
+        StepVerifier.create(filter.filter(exchange, mockChain)).verifyComplete();
+        return forwarded.getValue();
+    }
+
+    @Test
+    @DisplayName("filter should forward and return the client's correlation id")
+    void filter_whenIdIsValid_shouldKeepIt() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/test").header(CORRELATION_ID_HEADER, "req-1.A_b"));
+
+        ServerWebExchange forwarded = filter(exchange);
+
+        assertThat(forwarded.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER))
+            .isEqualTo("req-1.A_b");
+        assertThat(exchange.getResponse().getHeaders().getFirst(CORRELATION_ID_HEADER))
+            .isEqualTo("req-1.A_b");
+    }
+
+    @Test
+    @DisplayName("filter should generate an id when the client sent none")
+    void filter_whenIdIsMissing_shouldGenerateOne() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/test"));
+
+        ServerWebExchange forwarded = filter(exchange);
+
+        String id = forwarded.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER);
+        assertThat(id).hasSize(36);
+        assertThat(exchange.getResponse().getHeaders().getFirst(CORRELATION_ID_HEADER))
+            .isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("filter should replace an id that is too long or has unsafe characters")
+    void filter_whenIdIsInvalid_shouldReplaceIt() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/test").header(CORRELATION_ID_HEADER, "x".repeat(65)));
+
+        ServerWebExchange forwarded = filter(exchange);
+
+        assertThat(forwarded.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER))
+            .hasSize(36);
+    }
+}
@@ -0,0 +1,124 @@
+package ru.practicum.shareit.gateway.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.common.dto.user.NewUserDto;
+
+@ExtendWith(MockitoExtension.class)
+class BodyValidationFilterTest {
+
+    @Mock
+    private GatewayFilterChain mockChain;
+
+    private ValidatorFactory validatorFactory;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        BodyValidationFilter bodyValidationFilter = new BodyValidationFilter(new ObjectMapper(),
+            new DtoValidator(validatorFactory.getValidator(), new SimpleMeterRegistry()));
+        filter = bodyValidationFilter.validateBody(NewUserDto.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private static MockServerWebExchange createExchangeWithBody(String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/users")
+            .contentType(MediaType.APPLICATION_JSON)
+            .contentLength(body.getBytes(StandardCharsets.UTF_8).length)
+            .body(body));
+    }
+
+    @Test
+    @DisplayName("validateBody should forward the original bytes and Content-Length when valid")
+    void validateBody_whenBodyIsValid_shouldForwardOriginalBytes() {
+        // Whitespace and key order that a re-serialised DTO would not keep
+        String body = "{ \"email\" : \"john@example.com\",\n  \"name\" : \"John\" }";
+        MockServerWebExchange exchange = createExchangeWithBody(body);
+        ArgumentCaptor<ServerWebExchange> forwarded =
+            ArgumentCaptor.forClass(ServerWebExchange.class);
+        when(mockChain.filter(forwarded.capture())).thenReturn(Mono.empty());
+
+        filter.filter(exchange, mockChain).block();
+
+        String forwardedBody = DataBufferUtils.join(forwarded.getValue().getRequest().getBody())
+            .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+            .block();
+        assertEquals(body, forwardedBody, "Body should be forwarded byte for byte");
+        assertEquals(body.length(),
+            forwarded.getValue().getRequest().getHeaders().getContentLength(),
+            "Content-Length should be kept");
+    }
+
+    @Test
+    @DisplayName("validateBody should reject a body that fails DTO validation")
+    void validateBody_whenDtoIsInvalid_shouldThrowServerWebInputException() {
+        MockServerWebExchange exchange = createExchangeWithBody(
+            "{\"name\": \"John\", \"email\": \"not-an-email\"}");
+
+        ServerWebInputException exception = assertThrows(ServerWebInputException.class,
+            () -> filter.filter(exchange, mockChain).block());
+
+        assertEquals("Validation failed: Invalid email format", exception.getReason());
+        verify(mockChain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("validateBody should reject a body that is not valid JSON")
+    void validateBody_whenBodyIsMalformed_shouldThrowServerWebInputException() {
+        MockServerWebExchange exchange = createExchangeWithBody("{\"name\": ");
+
+        ServerWebInputException exception = assertThrows(ServerWebInputException.class,
+            () -> filter.filter(exchange, mockChain).block());
+
+        assertEquals("Failed to read HTTP message", exception.getReason());
+        verify(mockChain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("validateBody should reject a missing body")
+    void validateBody_whenBodyIsMissing_shouldThrowServerWebInputException() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/users")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build());
+
+        ServerWebInputException exception = assertThrows(ServerWebInputException.class,
+            () -> filter.filter(exchange, mockChain).block());
+
+        assertEquals("Request body is missing or invalid", exception.getReason());
+        verify(mockChain, never()).filter(any());
+    }
+}
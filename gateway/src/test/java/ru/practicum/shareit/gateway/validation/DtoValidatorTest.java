@@ -15,6 +15,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import java.util.Collections;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.server.ServerWebInputException;
 
@@ -34,6 +37,9 @@ class DtoValidatorTest {
     @Mock
     private Validator mockValidator;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private DtoValidator dtoValidator;
 
@@ -86,6 +92,8 @@ class DtoValidatorTest {
         assertThat(exception,
             hasProperty("reason", is(equalTo("Validation failed: Error message for field X"))));
         verify(mockValidator, times(1)).validate(testDto);
+        assertThat(meterRegistry.counter("shareit.gateway.validation.failures",
+            "source", "Object", "reason", "invalid").count(), is(1.0));
     }
 
     @Test
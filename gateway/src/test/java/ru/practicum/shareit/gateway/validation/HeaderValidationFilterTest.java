@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -22,6 +25,8 @@ import reactor.test.StepVerifier;
 class HeaderValidationFilterTest {
 
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
     @InjectMocks
     private HeaderValidationFilter headerValidationFilter;
     @Mock
@@ -96,6 +101,9 @@ class HeaderValidationFilterTest {
 
         assertEquals("Invalid format for header '" + USER_ID_HEADER + "'", exception.getReason(),
             "Exception reason should indicate invalid format");
+        assertEquals(1.0, meterRegistry.counter("shareit.gateway.validation.failures",
+            "source", USER_ID_HEADER, "reason", "invalid").count(),
+            "The failure should be counted");
     }
 
     @Test
@@ -210,4 +210,62 @@ class QueryParamValidationFilterTest {
 
         verify(mockChain, never()).filter(exchange);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("validateOptionalPositiveIntQueryParam should pass filter when parameter is "
+        + "missing")
+    void validateOptionalPositiveIntQueryParam_whenParamIsMissing_shouldPassFilter() {
+        MockServerWebExchange exchange = createExchangeWithoutQueryParam();
+        GatewayFilter filter = queryParamValidationFilter.validateOptionalPositiveIntQueryParam(
+            "size");
+
+        when(mockChain.filter(exchange)).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange, mockChain)).verifyComplete();
+
+        verify(mockChain).filter(exchange);
+    }
+
+    @Test
+    @DisplayName("validateOptionalPositiveIntQueryParam should pass filter for a positive value")
+    void validateOptionalPositiveIntQueryParam_whenParamIsPositive_shouldPassFilter() {
+        MockServerWebExchange exchange = createExchangeWithQueryParam("size", "20");
+        GatewayFilter filter = queryParamValidationFilter.validateOptionalPositiveIntQueryParam(
+            "size");
+
+        when(mockChain.filter(exchange)).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange, mockChain)).verifyComplete();
+
+        verify(mockChain).filter(exchange);
+    }
+
+    @Test
+    @DisplayName("validateOptionalPositiveIntQueryParam should throw for zero")
+    void validateOptionalPositiveIntQueryParam_whenParamIsZero_shouldThrowException() {
+        MockServerWebExchange exchange = createExchangeWithQueryParam("size", "0");
+        GatewayFilter filter = queryParamValidationFilter.validateOptionalPositiveIntQueryParam(
+            "size");
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+            () -> filter.filter(exchange, mockChain).block(),
+            "Should throw ResponseStatusException for a non-positive value");
+
+        assertEquals("size must be a positive integer: 0", exception.getReason(),
+            "Exception reason should describe the invalid value");
+        verify(mockChain, never()).filter(exchange);
+    }
+
+    @Test
+    @DisplayName("validateOptionalPositiveIntQueryParam should throw for a non-numeric value")
+    void validateOptionalPositiveIntQueryParam_whenParamIsNotNumeric_shouldThrowException() {
+        MockServerWebExchange exchange = createExchangeWithQueryParam("size", "ten");
+        GatewayFilter filter = queryParamValidationFilter.validateOptionalPositiveIntQueryParam(
+            "size");
+
+        assertThrows(ResponseStatusException.class,
+            () -> filter.filter(exchange, mockChain).block(),
+            "Should throw ResponseStatusException for a non-numeric value");
+        verify(mockChain, never()).filter(exchange);
+    }
+}
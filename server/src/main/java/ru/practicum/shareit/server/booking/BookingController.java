@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.common.dto.booking.BookingDto;
 import ru.practicum.shareit.common.dto.booking.NewBookingDto;
 import ru.practicum.shareit.common.enums.BookingState;
+import ru.practicum.shareit.server.pagination.CursorSlice;
 
 @RestController
 @RequestMapping(path = "/bookings")
@@ -26,6 +27,7 @@ import ru.practicum.shareit.common.enums.BookingState;
 public class BookingController {
 
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     private final BookingService bookingService;
 
     @PostMapping
@@ -55,8 +57,12 @@ public class BookingController {
         @RequestHeader(USER_ID_HEADER) Long userId,
         @RequestParam(name = "state", defaultValue = "ALL") BookingState state,
         @RequestParam(name = "from", required = false) Integer from,
-        @RequestParam(name = "size", required = false) Integer size) {
+        @RequestParam(name = "size", required = false) Integer size,
+        @RequestParam(name = "cursor", required = false) String cursor) {
         log.info("Processing request to fetch {} bookings by booker with id: {}", state.name().toLowerCase(), userId);
+        if (cursor != null) {
+            return toResponse(bookingService.scrollBookingsByBooker(userId, state, cursor, size));
+        }
         return ResponseEntity.ok(bookingService.getBookingsByBooker(userId, state, from, size));
     }
 
@@ -65,8 +71,21 @@ public class BookingController {
         @RequestHeader(USER_ID_HEADER) Long userId,
         @RequestParam(name = "state", defaultValue = "ALL") BookingState state,
         @RequestParam(name = "from", required = false) Integer from,
-        @RequestParam(name = "size", required = false) Integer size) {
+        @RequestParam(name = "size", required = false) Integer size,
+        @RequestParam(name = "cursor", required = false) String cursor) {
         log.info("Processing request to fetch {} bookings by item owner with id: {}", state.name().toLowerCase(), userId);
+        if (cursor != null) {
+            return toResponse(bookingService.scrollBookingsByOwner(userId, state, cursor, size));
+        }
         return ResponseEntity.ok(bookingService.getBookingsByOwner(userId, state, from, size));
     }
+
+    // An empty cursor asks for the first keyset page; the next one's cursor comes back in a header
+    private static ResponseEntity<List<BookingDto>> toResponse(CursorSlice<BookingDto> slice) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, slice.nextCursor());
+        }
+        return response.body(slice.content());
+    }
 }
@@ -2,51 +2,199 @@ package ru.practicum.shareit.server.booking;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.common.dto.booking.BookingShortDto;
+import ru.practicum.shareit.common.enums.BookingState;
+import ru.practicum.shareit.common.enums.BookingStatus;
 
 @Repository
 @SuppressWarnings("unused")
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // The access check needs the item's owner and the response both, so they come in one query
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Optional<Booking> findWithItemAndBookerById(Long id);
+
+    // One query per state instead of a single OR chain over the state name: each is a plain
+    // predicate the planner can serve from the (booker_id, ...) and (item_id, ...) indexes
+    default Page<Booking> findBookingsByBookerAndState(Long bookerId, BookingState state,
+        LocalDateTime now, Pageable pageable) {
+        return switch (state) {
+            case ALL -> findAllByBookerId(bookerId, pageable);
+            case CURRENT -> findCurrentByBookerId(bookerId, now, pageable);
+            case PAST -> findPastByBookerId(bookerId, now, pageable);
+            case FUTURE -> findFutureByBookerId(bookerId, now, pageable);
+            case WAITING -> findByBookerIdAndStatus(bookerId, BookingStatus.WAITING, pageable);
+            case REJECTED -> findByBookerIdAndStatus(bookerId, BookingStatus.REJECTED, pageable);
+        };
+    }
+
+    default Page<Booking> findBookingsByItemOwnerAndState(Long ownerId, BookingState state,
+        LocalDateTime now, Pageable pageable) {
+        return switch (state) {
+            case ALL -> findAllByItemOwnerId(ownerId, pageable);
+            case CURRENT -> findCurrentByItemOwnerId(ownerId, now, pageable);
+            case PAST -> findPastByItemOwnerId(ownerId, now, pageable);
+            case FUTURE -> findFutureByItemOwnerId(ownerId, now, pageable);
+            case WAITING -> findByItemOwnerIdAndStatus(ownerId, BookingStatus.WAITING, pageable);
+            case REJECTED -> findByItemOwnerIdAndStatus(ownerId, BookingStatus.REJECTED, pageable);
+        };
+    }
+
+    Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "startDate", "id");
+
+    // Keyset counterparts of the paged queries above: no OFFSET and no COUNT, so any page costs
+    // the same as the first one
+    default Window<Booking> scrollBookingsByBookerAndState(Long bookerId, BookingState state,
+        LocalDateTime now, ScrollPosition position, Limit limit) {
+        return switch (state) {
+            case ALL -> findByBookerId(bookerId, position, KEYSET_SORT, limit);
+            case CURRENT -> findByBookerIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                bookerId, now, now, position, KEYSET_SORT, limit);
+            case PAST -> findByBookerIdAndEndDateBefore(bookerId, now, position, KEYSET_SORT, limit);
+            case FUTURE -> findByBookerIdAndStartDateAfter(bookerId, now, position, KEYSET_SORT,
+                limit);
+            case WAITING -> findByBookerIdAndStatus(bookerId, BookingStatus.WAITING, position,
+                KEYSET_SORT, limit);
+            case REJECTED -> findByBookerIdAndStatus(bookerId, BookingStatus.REJECTED, position,
+                KEYSET_SORT, limit);
+        };
+    }
+
+    default Window<Booking> scrollBookingsByItemOwnerAndState(Long ownerId, BookingState state,
+        LocalDateTime now, ScrollPosition position, Limit limit) {
+        return switch (state) {
+            case ALL -> findByItemOwnerId(ownerId, position, KEYSET_SORT, limit);
+            case CURRENT -> findByItemOwnerIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                ownerId, now, now, position, KEYSET_SORT, limit);
+            case PAST -> findByItemOwnerIdAndEndDateBefore(ownerId, now, position, KEYSET_SORT,
+                limit);
+            case FUTURE -> findByItemOwnerIdAndStartDateAfter(ownerId, now, position, KEYSET_SORT,
+                limit);
+            case WAITING -> findByItemOwnerIdAndStatus(ownerId, BookingStatus.WAITING, position,
+                KEYSET_SORT, limit);
+            case REJECTED -> findByItemOwnerIdAndStatus(ownerId, BookingStatus.REJECTED, position,
+                KEYSET_SORT, limit);
+        };
+    }
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByBookerId(Long bookerId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByBookerIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+        Long bookerId, LocalDateTime startedBy, LocalDateTime endsAfter, ScrollPosition position,
+        Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByBookerIdAndEndDateBefore(Long bookerId, LocalDateTime now,
+        ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByBookerIdAndStartDateAfter(Long bookerId, LocalDateTime now,
+        ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByBookerIdAndStatus(Long bookerId, BookingStatus status,
+        ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByItemOwnerId(Long ownerId, ScrollPosition position, Sort sort,
+        Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByItemOwnerIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+        Long ownerId, LocalDateTime startedBy, LocalDateTime endsAfter, ScrollPosition position,
+        Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByItemOwnerIdAndEndDateBefore(Long ownerId, LocalDateTime now,
+        ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByItemOwnerIdAndStartDateAfter(Long ownerId, LocalDateTime now,
+        ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Window<Booking> findByItemOwnerIdAndStatus(Long ownerId, BookingStatus status,
+        ScrollPosition position, Sort sort, Limit limit);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.booker.id = :bookerId")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findAllByBookerId(@Param("bookerId") Long bookerId, Pageable pageable);
+
     @Query("SELECT b FROM Booking b " +
         "WHERE b.booker.id = :bookerId " +
-        "AND (" +
-        "   (:stateName = 'ALL') OR " +
-        "   (:stateName = 'CURRENT' AND :now BETWEEN b.startDate AND b.endDate) OR " +
-        "   (:stateName = 'PAST' AND b.endDate < :now) OR " +
-        "   (:stateName = 'FUTURE' AND b.startDate > :now) OR " +
-        "   (:stateName = 'WAITING' AND b.status = ru.practicum.shareit.common.enums.BookingStatus.WAITING) OR " +
-        "   (:stateName = 'REJECTED' AND b.status = ru.practicum.shareit.common.enums.BookingStatus.REJECTED)" +
-        ") ")
-    Page<Booking> findBookingsByBookerAndState(
-        @Param("bookerId") Long bookerId,
-        @Param("stateName") String stateName,
-        @Param("now") LocalDateTime now,
-        Pageable pageable
-    );
+        "AND b.startDate <= :now AND b.endDate >= :now")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findCurrentByBookerId(@Param("bookerId") Long bookerId,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.booker.id = :bookerId " +
+        "AND b.endDate < :now")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findPastByBookerId(@Param("bookerId") Long bookerId,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.booker.id = :bookerId " +
+        "AND b.startDate > :now")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findFutureByBookerId(@Param("bookerId") Long bookerId,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.booker.id = :bookerId " +
+        "AND b.status = :status")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findByBookerIdAndStatus(@Param("bookerId") Long bookerId,
+        @Param("status") BookingStatus status, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.item.owner.id = :ownerId")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findAllByItemOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
 
     @Query("SELECT b FROM Booking b " +
         "WHERE b.item.owner.id = :ownerId " +
-        "AND (" +
-        "   (:stateName = 'ALL') OR " +
-        "   (:stateName = 'CURRENT' AND :now BETWEEN b.startDate AND b.endDate) OR " +
-        "   (:stateName = 'PAST' AND b.endDate < :now) OR " +
-        "   (:stateName = 'FUTURE' AND b.startDate > :now) OR " +
-        "   (:stateName = 'WAITING' AND b.status = ru.practicum.shareit.common.enums.BookingStatus.WAITING) OR " +
-        "   (:stateName = 'REJECTED' AND b.status = ru.practicum.shareit.common.enums.BookingStatus.REJECTED)" +
-        ") ")
-    Page<Booking> findBookingsByItemOwnerAndState(
-        @Param("ownerId") Long ownerId,
-        @Param("stateName") String stateName,
-        @Param("now") LocalDateTime now,
-        Pageable pageable
-    );
+        "AND b.startDate <= :now AND b.endDate >= :now")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findCurrentByItemOwnerId(@Param("ownerId") Long ownerId,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.item.owner.id = :ownerId " +
+        "AND b.endDate < :now")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findPastByItemOwnerId(@Param("ownerId") Long ownerId,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.item.owner.id = :ownerId " +
+        "AND b.startDate > :now")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findFutureByItemOwnerId(@Param("ownerId") Long ownerId,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b " +
+        "WHERE b.item.owner.id = :ownerId " +
+        "AND b.status = :status")
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Page<Booking> findByItemOwnerIdAndStatus(@Param("ownerId") Long ownerId,
+        @Param("status") BookingStatus status, Pageable pageable);
 
     @Query("SELECT new ru.practicum.shareit.common.dto.booking.BookingShortDto(b.id, b.booker.id, b.item.id, b.startDate, b.endDate) " +
         "FROM Booking b " +
@@ -63,4 +211,27 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         "AND b.startDate > :now " +
         "ORDER BY b.startDate ASC")
     List<BookingShortDto> findNextApprovedBookingsShortForItems(@Param("itemIds") List<Long> itemIds, @Param("now") LocalDateTime now);
+
+    // Each LATERAL subquery reads at most one row through the (item_id, start_date) index, so the
+    // result has exactly one row per item however long its booking history is
+    @Query(value = "SELECT i.id AS \"itemId\", " +
+        "lb.id AS \"lastId\", lb.booker_id AS \"lastBookerId\", " +
+        "lb.start_date AS \"lastStart\", lb.end_date AS \"lastEnd\", " +
+        "nb.id AS \"nextId\", nb.booker_id AS \"nextBookerId\", " +
+        "nb.start_date AS \"nextStart\", nb.end_date AS \"nextEnd\" " +
+        "FROM items i " +
+        "LEFT JOIN LATERAL (" +
+        "   SELECT b.id, b.booker_id, b.start_date, b.end_date FROM bookings b " +
+        "   WHERE b.item_id = i.id AND b.status = 'APPROVED' AND b.start_date <= :now " +
+        "   ORDER BY b.start_date DESC, b.id DESC LIMIT 1" +
+        ") lb ON true " +
+        "LEFT JOIN LATERAL (" +
+        "   SELECT b.id, b.booker_id, b.start_date, b.end_date FROM bookings b " +
+        "   WHERE b.item_id = i.id AND b.status = 'APPROVED' AND b.start_date > :now " +
+        "   ORDER BY b.start_date, b.id LIMIT 1" +
+        ") nb ON true " +
+        "WHERE i.id IN (:itemIds)",
+        nativeQuery = true)
+    List<LastNextBookingView> findLastAndNextApprovedBookingsForItems(
+        @Param("itemIds") List<Long> itemIds, @Param("now") LocalDateTime now);
 }
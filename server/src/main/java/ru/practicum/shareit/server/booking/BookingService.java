@@ -4,6 +4,7 @@ import java.util.List;
 import ru.practicum.shareit.common.enums.BookingState;
 import ru.practicum.shareit.common.dto.booking.BookingDto;
 import ru.practicum.shareit.common.dto.booking.NewBookingDto;
+import ru.practicum.shareit.server.pagination.CursorSlice;
 
 public interface BookingService {
 
@@ -20,4 +21,8 @@ public interface BookingService {
     List<BookingDto> getBookingsByBooker(Long bookerId, BookingState state, Integer from, Integer size);
 
     List<BookingDto> getBookingsByOwner(Long ownerId, BookingState state, Integer from, Integer size);
+
+    CursorSlice<BookingDto> scrollBookingsByBooker(Long bookerId, BookingState state, String cursor, Integer size);
+
+    CursorSlice<BookingDto> scrollBookingsByOwner(Long ownerId, BookingState state, String cursor, Integer size);
 }
@@ -2,12 +2,17 @@ package ru.practicum.shareit.server.booking;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.common.dto.booking.BookingDto;
 import ru.practicum.shareit.common.dto.booking.NewBookingDto;
@@ -17,12 +22,11 @@ import ru.practicum.shareit.server.booking.mapper.BookingMapper;
 import ru.practicum.shareit.server.exception.AccessDeniedException;
 import ru.practicum.shareit.server.exception.BookingBadRequestException;
 import ru.practicum.shareit.server.exception.BookingNotFoundException;
-import ru.practicum.shareit.server.exception.ItemNotFoundException;
-import ru.practicum.shareit.server.exception.UserNotFoundException;
 import ru.practicum.shareit.server.item.Item;
-import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.lookup.EntityLookup;
+import ru.practicum.shareit.server.pagination.CursorSlice;
+import ru.practicum.shareit.server.pagination.KeysetCursor;
 import ru.practicum.shareit.server.user.User;
-import ru.practicum.shareit.server.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -31,10 +35,11 @@ import ru.practicum.shareit.server.user.UserRepository;
 public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository bookingRepository;
-    private final UserRepository userRepository;
-    private final ItemRepository itemRepository;
+    private final EntityLookup entityLookup;
     private final BookingMapper bookingMapper;
 
+    private static final int DEFAULT_SCROLL_SIZE = 10;
+
     @Override
     public List<BookingDto> getAllBookings() {
         List<BookingDto> bookings = bookingRepository.findAll().stream()
@@ -45,15 +50,8 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public BookingDto saveBooking(NewBookingDto booking, Long userId) {
-        User booker = userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new UserNotFoundException("User with id " + userId + " not found");
-        });
-        Item item = itemRepository.findById(booking.getItemId()).orElseThrow(() -> {
-            log.warn("Item with id {} not found", booking.getItemId());
-            return new ItemNotFoundException(
-                "Item with id " + booking.getItemId() + " not found");
-        });
+        User booker = entityLookup.requireUser(userId);
+        Item item = entityLookup.requireItem(booking.getItemId());
         if (item.getOwner().getId().equals(userId)) {
             log.warn("User with id {} is the owner of item with id {}", userId, booking.getItemId());
             throw new BookingBadRequestException(
@@ -83,15 +81,16 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public BookingDto getById(Long userId, Long id) {
-        if (userRepository.findById(userId).isEmpty()) {
-            log.warn("User with id {} not found", userId);
-            throw new UserNotFoundException("User with id " + userId + " not found");
+        Optional<Booking> found = bookingRepository.findWithItemAndBookerById(id);
+        // The booker and the item owner are known to exist from the booking itself
+        if (found.isEmpty() || !isBookerOrOwner(found.get(), userId)) {
+            entityLookup.requireUserExists(userId);
         }
-        Booking booking = bookingRepository.findById(id).orElseThrow(() -> {
+        Booking booking = found.orElseThrow(() -> {
             log.warn("Booking with id {} not found", id);
             return new BookingNotFoundException("Booking with id " + id + " not found");
         });
-        if (!booking.getBooker().getId().equals(userId) && !booking.getItem().getOwner().getId().equals(userId)) {
+        if (!isBookerOrOwner(booking, userId)) {
             log.warn("User with id {} is not the booker or owner of booking with id {}", userId, id);
             throw new AccessDeniedException(
                 "User with id " + userId + " is not the booker or owner of booking with id " + id);
@@ -101,7 +100,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public BookingDto approveBooking(Long bookingId, Long userId, Boolean approved) {
-        Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> {
+        Booking booking = bookingRepository.findWithItemAndBookerById(bookingId).orElseThrow(() -> {
             log.warn("Booking with id {} not found for {}", bookingId, approved ? "approval" : "rejection");
             return new BookingNotFoundException("Booking with id " + bookingId + " not found");
         });
@@ -120,12 +119,11 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public void delete(Long id, Long userId) {
-        if (userRepository.findById(userId).isEmpty()) {
-            log.warn("User with id {} not found", userId);
-            throw new UserNotFoundException(
-                "User with id " + userId + " not found");
+        Optional<Booking> found = bookingRepository.findById(id);
+        if (found.isEmpty() || !found.get().getBooker().getId().equals(userId)) {
+            entityLookup.requireUserExists(userId);
         }
-        Booking booking = bookingRepository.findById(id).orElseThrow(() -> {
+        Booking booking = found.orElseThrow(() -> {
             log.warn("Booking with id {} not found for deletion", id);
             return new BookingNotFoundException("Booking with id " + id + " not found");
         });
@@ -140,32 +138,83 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<BookingDto> getBookingsByBooker(Long bookerId, BookingState state, Integer from, Integer size) {
-        if (userRepository.findById(bookerId).isEmpty()) {
-            log.warn("User with id {} not found", bookerId);
-            throw new UserNotFoundException(
-                "User with id " + bookerId + " not found");
-        }
         Pageable pageable = getPageableWithDefaultSort(from, size);
-        return bookingRepository.findBookingsByBookerAndState(bookerId, state.name(), LocalDateTime.now(), pageable)
-            .stream()
+        Page<Booking> bookings = bookingRepository.findBookingsByBookerAndState(bookerId, state,
+            LocalDateTime.now(), pageable);
+        // Any booking found already proves the user exists
+        if (bookings.isEmpty()) {
+            entityLookup.requireUserExists(bookerId);
+        }
+        return bookings.stream()
             .map(bookingMapper::mapToDto)
             .collect(Collectors.toList());
     }
 
     @Override
     public List<BookingDto> getBookingsByOwner(Long ownerId, BookingState state, Integer from, Integer size) {
-        if (userRepository.findById(ownerId).isEmpty()) {
-            log.warn("User with id {} not found", ownerId);
-            throw new UserNotFoundException(
-                "User with id " + ownerId + " not found");
-        }
         Pageable pageable = getPageableWithDefaultSort(from, size);
-        return bookingRepository.findBookingsByItemOwnerAndState(ownerId, state.name(), LocalDateTime.now(), pageable)
-            .stream()
+        Page<Booking> bookings = bookingRepository.findBookingsByItemOwnerAndState(ownerId, state,
+            LocalDateTime.now(), pageable);
+        if (bookings.isEmpty()) {
+            entityLookup.requireUserExists(ownerId);
+        }
+        return bookings.stream()
             .map(bookingMapper::mapToDto)
             .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorSlice<BookingDto> scrollBookingsByBooker(Long bookerId, BookingState state, String cursor,
+        Integer size) {
+        Window<Booking> bookings = bookingRepository.scrollBookingsByBookerAndState(bookerId, state,
+            LocalDateTime.now(), getScrollPosition(cursor), getScrollLimit(size));
+        if (bookings.isEmpty()) {
+            entityLookup.requireUserExists(bookerId);
+        }
+        return toSlice(bookings);
+    }
+
+    @Override
+    public CursorSlice<BookingDto> scrollBookingsByOwner(Long ownerId, BookingState state, String cursor,
+        Integer size) {
+        Window<Booking> bookings = bookingRepository.scrollBookingsByItemOwnerAndState(ownerId, state,
+            LocalDateTime.now(), getScrollPosition(cursor), getScrollLimit(size));
+        if (bookings.isEmpty()) {
+            entityLookup.requireUserExists(ownerId);
+        }
+        return toSlice(bookings);
+    }
+
+    private static boolean isBookerOrOwner(Booking booking, Long userId) {
+        return booking.getBooker().getId().equals(userId)
+            || booking.getItem().getOwner().getId().equals(userId);
+    }
+
+    private CursorSlice<BookingDto> toSlice(Window<Booking> window) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            Booking last = window.getContent().getLast();
+            nextCursor = new KeysetCursor(last.getStartDate(), last.getId()).encode();
+        }
+        return new CursorSlice<>(window.map(bookingMapper::mapToDto).getContent(), nextCursor);
+    }
+
+    private ScrollPosition getScrollPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        return KeysetCursor.decode(cursor).toScrollPosition("startDate");
+    }
+
+    private Limit getScrollLimit(Integer size) {
+        if (size == null || size <= 0) {
+            log.debug("Scroll size {} missing or invalid. Defaulting to {}.", size,
+                DEFAULT_SCROLL_SIZE);
+            return Limit.of(DEFAULT_SCROLL_SIZE);
+        }
+        return Limit.of(size);
+    }
+
     private Pageable getPageableWithDefaultSort(Integer from, Integer size) {
         Sort defaultSort = Sort.by("startDate").descending();
         if (from == null || size == null || from < 0 || size <= 0) {
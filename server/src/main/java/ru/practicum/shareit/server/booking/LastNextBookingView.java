@@ -0,0 +1,39 @@
+package ru.practicum.shareit.server.booking;
+
+import java.time.LocalDateTime;
+import ru.practicum.shareit.common.dto.booking.BookingShortDto;
+
+/**
+ * One row of {@link BookingRepository#findLastAndNextApprovedBookingsForItems}: an item with its
+ * latest started and earliest upcoming approved booking, either of which may be absent.
+ */
+public interface LastNextBookingView {
+
+    Long getItemId();
+
+    Long getLastId();
+
+    Long getLastBookerId();
+
+    LocalDateTime getLastStart();
+
+    LocalDateTime getLastEnd();
+
+    Long getNextId();
+
+    Long getNextBookerId();
+
+    LocalDateTime getNextStart();
+
+    LocalDateTime getNextEnd();
+
+    default BookingShortDto lastBooking() {
+        return getLastId() == null ? null : new BookingShortDto(getLastId(), getLastBookerId(),
+            getItemId(), getLastStart(), getLastEnd());
+    }
+
+    default BookingShortDto nextBooking() {
+        return getNextId() == null ? null : new BookingShortDto(getNextId(), getNextBookerId(),
+            getItemId(), getNextStart(), getNextEnd());
+    }
+}
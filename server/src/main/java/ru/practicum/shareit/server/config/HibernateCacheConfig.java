@@ -0,0 +1,53 @@
+package ru.practicum.shareit.server.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.user.User;
+
+/**
+ * Caffeine regions behind Hibernate's second-level cache. Each instance caches only what it has
+ * read and invalidates only what it writes itself, so entries expire after a short TTL to bound
+ * how long another instance's changes stay invisible. Region statistics are published through
+ * the {@code hibernate.second.level.cache.*} meters.
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class HibernateCacheConfig {
+
+    @Bean
+    public CacheManager hibernateCacheManager(
+        @Value("${shareit.entity-cache.maximum-size:10000}") long maximumSize,
+        @Value("${shareit.entity-cache.ttl:30s}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(
+            CaffeineCachingProvider.class.getName());
+        // A manager of its own, so each application context can create the same regions
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("shareit-entities-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : new String[]{User.CACHE_REGION, Item.CACHE_REGION}) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(
+        CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
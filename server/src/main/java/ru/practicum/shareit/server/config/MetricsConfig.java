@@ -0,0 +1,46 @@
+package ru.practicum.shareit.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.server.metrics.HibernateCallCounter;
+import ru.practicum.shareit.server.metrics.JdbcTimingListener;
+import ru.practicum.shareit.server.metrics.RequestSqlMetricsFilter;
+import ru.practicum.shareit.server.metrics.ServerTimingFilter;
+import ru.practicum.shareit.server.metrics.ServerTimingJsonHttpMessageConverter;
+
+// Declared here rather than as components so @WebMvcTest slices, which pick up every Filter and
+// message converter component but have no JPA or meter registry, leave them out
+@Configuration
+@SuppressWarnings("unused")
+public class MetricsConfig {
+
+    @Bean
+    public RequestSqlMetricsFilter requestSqlMetricsFilter(MeterRegistry meterRegistry,
+        HibernateCallCounter hibernateCallCounter) {
+        return new RequestSqlMetricsFilter(meterRegistry, hibernateCallCounter);
+    }
+
+    @Bean
+    public ServerTimingFilter serverTimingFilter() {
+        return new ServerTimingFilter();
+    }
+
+    // Replaces Boot's default JSON converter
+    @Bean
+    public ServerTimingJsonHttpMessageConverter mappingJackson2HttpMessageConverter(
+        ObjectMapper objectMapper,
+        @Value("${shareit.server-timing.max-buffered-bytes:8192}") int maxBufferedBytes) {
+        return new ServerTimingJsonHttpMessageConverter(objectMapper, maxBufferedBytes);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcTimingCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+            JdbcTimingListener.class.getName());
+    }
+}
@@ -34,7 +34,8 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(403).body(new ErrorMessage(e.getMessage(), 403));
     }
 
-    @ExceptionHandler({MissingRequestHeaderException.class, BookingBadRequestException.class})
+    @ExceptionHandler({MissingRequestHeaderException.class, BookingBadRequestException.class,
+        InvalidCursorException.class})
     public ResponseEntity<ErrorMessage> handleMissingHeader(final RuntimeException e) {
         log.warn("Encountered {} while processing request: returning 400 Bad Request",
             e.getClass().getSimpleName());
@@ -1,10 +1,18 @@
 package ru.practicum.shareit.server.item;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @SuppressWarnings("unused")
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+        "WHERE c.item.id IN :itemIds " +
+        "ORDER BY c.created")
+    List<Comment> findAllWithAuthorByItemIds(@Param("itemIds") Collection<Long> itemIds);
 }
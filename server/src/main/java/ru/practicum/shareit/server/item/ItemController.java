@@ -1,8 +1,14 @@
 package ru.practicum.shareit.server.item;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,6 +35,7 @@ import ru.practicum.shareit.common.dto.item.UpdateItemDto;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
 
     @GetMapping
@@ -63,9 +70,30 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<List<ItemDto>> searchItems(@RequestHeader(USER_ID_HEADER) Long userId,
-        @RequestParam String text) {
-        log.info("Processing request to search items by query: {}", text);
-        return ResponseEntity.ok(itemService.searchItems(text, userId));
+        @RequestParam String text,
+        @RequestParam(name = "from", required = false) Integer from,
+        @RequestParam(name = "size", required = false) Integer size) {
+        log.info("Processing request to search items by query: {} (from={}, size={})", text, from,
+            size);
+        return ResponseEntity.ok(itemService.searchItems(text, userId, from, size));
+    }
+
+    @GetMapping("/search/stream")
+    public void streamSearchItems(@RequestHeader(USER_ID_HEADER) Long userId,
+        @RequestParam String text, HttpServletResponse response) throws IOException {
+        log.info("Processing request to stream items by query: {}", text);
+        itemService.streamSearchItems(text, userId, item -> writeNdjsonLine(response, item));
+        if (response.getContentType() == null) {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        }
+        response.flushBuffer();
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggestItemNames(
+        @RequestHeader(USER_ID_HEADER) Long userId, @RequestParam String prefix) {
+        log.info("Processing request to suggest item names for prefix: {}", prefix);
+        return ResponseEntity.ok(itemService.suggestItemNames(prefix));
     }
 
     @DeleteMapping("/{id}")
@@ -83,4 +111,18 @@ public class ItemController {
         return ResponseEntity.created(java.net.URI.create("/items/" + itemId + "/comment"))
             .body(itemService.saveComment(newCommentDto, itemId, userId));
     }
+
+    private void writeNdjsonLine(HttpServletResponse response, ItemDto item) {
+        try {
+            if (response.getContentType() == null) {
+                // Set with the first line, so errors thrown before it still render as JSON
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            }
+            OutputStream out = response.getOutputStream();
+            out.write(objectMapper.writeValueAsBytes(item));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,10 +1,18 @@
 package ru.practicum.shareit.server.item;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.search.ItemSearchDocument;
 
 @Repository
 @SuppressWarnings("unused")
@@ -17,4 +25,69 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
         "LOWER(i.description) LIKE LOWER(CONCAT('%', :searchText, '%'))) " +
         "AND i.available = true")
     List<Item> search(@Param("searchText") String text);
+
+    @Query("SELECT i FROM Item i " +
+        "WHERE (LOWER(i.name) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
+        "LOWER(i.description) LIKE LOWER(CONCAT('%', :searchText, '%'))) " +
+        "AND i.available = true " +
+        "ORDER BY i.id")
+    List<Item> search(@Param("searchText") String text, Pageable pageable);
+
+    @Query("SELECT new ru.practicum.shareit.common.dto.item.ItemDto(" +
+        "i.id, i.name, i.description, i.available) " +
+        "FROM Item i " +
+        "WHERE (LOWER(i.name) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
+        "LOWER(i.description) LIKE LOWER(CONCAT('%', :searchText, '%'))) " +
+        "AND i.available = true " +
+        "ORDER BY i.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    Stream<ItemDto> streamSearch(@Param("searchText") String text);
+
+    @Query(value = "SELECT i.id, i.name, i.description, i.owner_id, i.available, i.request_id " +
+        "FROM items i " +
+        "WHERE i.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "AND i.available = true " +
+        "ORDER BY ts_rank(i.search_vector, to_tsquery('simple', :tsQuery)) DESC, i.id",
+        nativeQuery = true)
+    List<Item> searchFullText(@Param("tsQuery") String tsQuery, Pageable pageable);
+
+    @Query(value = "SELECT i.id, i.name, i.description, i.owner_id, i.available, i.request_id " +
+        "FROM items i " +
+        "WHERE i.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "AND i.available = true " +
+        "ORDER BY ts_rank(i.search_vector, to_tsquery('simple', :tsQuery)) DESC, i.id",
+        nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    Stream<Item> streamFullText(@Param("tsQuery") String tsQuery);
+
+    @Query(value = "SELECT i.id, i.name, i.description, i.owner_id, i.available, i.request_id " +
+        "FROM items i " +
+        "WHERE :text <% lower(i.name || ' ' || i.description) " +
+        "AND i.available = true " +
+        "ORDER BY word_similarity(:text, lower(i.name || ' ' || i.description)) DESC, i.id " +
+        "LIMIT :limit",
+        nativeQuery = true)
+    List<Item> searchFuzzy(@Param("text") String text, @Param("limit") int limit);
+
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', " +
+        "CAST(:threshold AS TEXT), true)", nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") double threshold);
+
+    @Query("SELECT new ru.practicum.shareit.server.item.search.ItemSearchDocument(" +
+        "i.id, i.name, i.description, i.available) " +
+        "FROM Item i WHERE i.available = true")
+    List<ItemSearchDocument> findAllAvailableSearchDocuments();
+
+    @Query("SELECT new ru.practicum.shareit.server.item.search.ItemSearchDocument(" +
+        "i.id, i.name, i.description, i.available) " +
+        "FROM Item i WHERE i.owner.id = :ownerId")
+    List<ItemSearchDocument> findSearchDocumentsByOwnerId(@Param("ownerId") long ownerId);
+
+    // A bulk delete, unlike the database cascade, makes Hibernate invalidate the cached items
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.owner.id = :ownerId")
+    int deleteAllByOwnerId(@Param("ownerId") long ownerId);
+
+    @Query("SELECT i.name FROM Item i WHERE i.available = true")
+    List<String> findAllAvailableNames();
 }
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.server.item;
 
 import java.util.List;
+import java.util.function.Consumer;
 import ru.practicum.shareit.common.dto.item.CommentDto;
 import ru.practicum.shareit.common.dto.item.ItemDto;
 import ru.practicum.shareit.common.dto.item.ItemWithBookingInfoDto;
@@ -26,7 +27,15 @@ public interface ItemService {
 
     void delete(Long id, Long userId);
 
-    List<ItemDto> searchItems(String query, Long userId);
+    /**
+     * Returns the page of matches starting at {@code from}, or every match when {@code from} or
+     * {@code size} is missing or invalid, the same as the booking lists.
+     */
+    List<ItemDto> searchItems(String query, Long userId, Integer from, Integer size);
+
+    void streamSearchItems(String query, Long userId, Consumer<ItemDto> action);
+
+    List<String> suggestItemNames(String prefix);
 
     CommentDto saveComment(NewCommentDto comment, Long itemId, Long userId);
 }
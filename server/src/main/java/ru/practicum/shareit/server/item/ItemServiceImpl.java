@@ -5,9 +5,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.common.dto.booking.BookingShortDto;
@@ -18,17 +24,24 @@ import ru.practicum.shareit.common.dto.item.NewCommentDto;
 import ru.practicum.shareit.common.dto.item.NewItemDto;
 import ru.practicum.shareit.common.dto.item.UpdateItemDto;
 import ru.practicum.shareit.server.booking.BookingRepository;
+import ru.practicum.shareit.server.booking.LastNextBookingView;
 import ru.practicum.shareit.server.exception.AccessDeniedException;
 import ru.practicum.shareit.server.exception.BookingBadRequestException;
 import ru.practicum.shareit.server.exception.ItemNotFoundException;
 import ru.practicum.shareit.server.exception.ItemRequestNotFoundException;
-import ru.practicum.shareit.server.exception.UserNotFoundException;
 import ru.practicum.shareit.server.item.mapper.CommentMapper;
 import ru.practicum.shareit.server.item.mapper.ItemMapper;
+import ru.practicum.shareit.server.item.search.CachedSearchResult;
+import ru.practicum.shareit.server.item.search.FuzzyItemSearch;
+import ru.practicum.shareit.server.item.search.ItemChangedEvent;
+import ru.practicum.shareit.server.item.search.ItemNameSuggester;
+import ru.practicum.shareit.server.item.search.ItemSearchCache;
+import ru.practicum.shareit.server.item.search.ItemSearchDocument;
+import ru.practicum.shareit.server.item.search.ItemSearchEngine;
+import ru.practicum.shareit.server.lookup.EntityLookup;
 import ru.practicum.shareit.server.request.ItemRequest;
 import ru.practicum.shareit.server.request.ItemRequestRepository;
 import ru.practicum.shareit.server.user.User;
-import ru.practicum.shareit.server.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -37,12 +50,17 @@ import ru.practicum.shareit.server.user.UserRepository;
 public class ItemServiceImpl implements ItemService {
 
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final EntityLookup entityLookup;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final FuzzyItemSearch fuzzyItemSearch;
+    private final ItemNameSuggester itemNameSuggester;
+    private final ItemSearchCache itemSearchCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private record LastNextBookingPair(BookingShortDto lastBooking, BookingShortDto nextBooking) {}
 
@@ -52,34 +70,22 @@ public class ItemServiceImpl implements ItemService {
             return Collections.emptyMap();
         }
 
-        List<BookingShortDto> pastAndCurrentBookings =
-            bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(
-            itemIds, now);
-        List<BookingShortDto> nextBookings =
-            bookingRepository.findNextApprovedBookingsShortForItems(
-            itemIds, now);
-
-        Map<Long, BookingShortDto> lastBookingsMap = pastAndCurrentBookings.stream()
-            .collect(Collectors.groupingBy(
-                BookingShortDto::getItemId, Collectors.collectingAndThen(Collectors.toList(),
-                    list -> list.isEmpty() ? null : list.getFirst())
-            ));
-
-        Map<Long, BookingShortDto> nextBookingsMap = nextBookings.stream()
-            .collect(Collectors.groupingBy(
-                BookingShortDto::getItemId, Collectors.collectingAndThen(Collectors.toList(),
-                    list -> list.isEmpty() ? null : list.getFirst())
-            ));
-
         Map<Long, LastNextBookingPair> result = new HashMap<>();
-        for (Long itemId : itemIds) {
-            BookingShortDto last = lastBookingsMap.get(itemId);
-            BookingShortDto next = nextBookingsMap.get(itemId);
-            result.put(itemId, new LastNextBookingPair(last, next));
+        for (LastNextBookingView view
+            : bookingRepository.findLastAndNextApprovedBookingsForItems(itemIds, now)) {
+            result.put(view.getItemId(),
+                new LastNextBookingPair(view.lastBooking(), view.nextBooking()));
         }
         return result;
     }
 
+    // Item.comments is lazy and each comment's author is too, so mapping items one by one would
+    // cost a query per item plus one per author
+    private Map<Long, List<Comment>> getCommentsForItems(List<Long> itemIds) {
+        return commentRepository.findAllWithAuthorByItemIds(itemIds).stream()
+            .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
+    }
+
     @Override
     public List<ItemDto> getAllItems() {
         List<ItemDto> items = itemRepository.findAll().stream().map(itemMapper::mapToDto).toList();
@@ -90,13 +96,10 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemWithBookingInfoDto> getAllItemsByOwnerWithBookingInfo(Long userId) {
-        if (userRepository.findById(userId).isEmpty()) {
-            log.warn("User with id {} not found", userId);
-            throw new UserNotFoundException("User with id " + userId + " not found");
-        }
-
         List<Item> items = itemRepository.findByOwnerId(userId);
         if (items.isEmpty()) {
+            // Owning an item already proves the user exists, so only check when there are none
+            entityLookup.requireUserExists(userId);
             return Collections.emptyList();
         }
 
@@ -104,11 +107,13 @@ public class ItemServiceImpl implements ItemService {
         LocalDateTime now = LocalDateTime.now();
         Map<Long, LastNextBookingPair> bookingInfoMap = getLastAndNextBookingsForItems(itemIds,
             now);
+        Map<Long, List<Comment>> commentsMap = getCommentsForItems(itemIds);
 
         log.debug("Fetched {} items with booking info for user with id {}", items.size(), userId);
 
         return items.stream().map(item -> {
-            ItemWithBookingInfoDto dto = itemMapper.mapToItemWithBookingInfoDto(item);
+            ItemWithBookingInfoDto dto = itemMapper.mapToItemWithBookingInfoDto(item,
+                commentsMap.getOrDefault(item.getId(), List.of()));
             LastNextBookingPair bookingPair = bookingInfoMap.getOrDefault(item.getId(),
                 new LastNextBookingPair(null, null));
             dto.setLastBooking(bookingPair.lastBooking());
@@ -119,11 +124,7 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public ItemDto saveItem(NewItemDto newItemDto, Long userId) {
-        User owner = userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new UserNotFoundException(
-                "User with id " + userId + " not found");
-        });
+        User owner = entityLookup.requireUser(userId);
 
         Item item = itemMapper.mapToItem(newItemDto);
         item.setOwner(owner);
@@ -142,6 +143,7 @@ public class ItemServiceImpl implements ItemService {
 
         Item savedItem = itemRepository.save(item);
         log.debug("Saved new item: {}", savedItem);
+        eventPublisher.publishEvent(ItemChangedEvent.created(ItemSearchDocument.of(savedItem)));
         return itemMapper.mapToDto(savedItem);
     }
 
@@ -157,17 +159,17 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional(readOnly = true)
     public ItemWithBookingInfoDto getItemByIdWithBookingInfo(Long itemId, Long userId) {
-        if (userRepository.findById(userId).isEmpty()) {
-            log.warn("User with id {} not found", userId);
-            throw new UserNotFoundException(
-                "User with id " + userId + " not found");
+        Optional<Item> found = itemRepository.findById(itemId);
+        if (found.isEmpty() || !found.get().getOwner().getId().equals(userId)) {
+            entityLookup.requireUserExists(userId);
         }
-        Item item = itemRepository.findById(itemId).orElseThrow(() -> {
+        Item item = found.orElseThrow(() -> {
             log.warn("Item with id {} not found when requested by user {}", itemId, userId);
             return new ItemNotFoundException("Item with id " + itemId + " not found");
         });
 
-        ItemWithBookingInfoDto itemDto = itemMapper.mapToItemWithBookingInfoDto(item);
+        ItemWithBookingInfoDto itemDto = itemMapper.mapToItemWithBookingInfoDto(item,
+            commentRepository.findAllWithAuthorByItemIds(List.of(itemId)));
 
         if (item.getOwner().getId().equals(userId)) {
             log.debug("User {} is owner of item {}. Fetching booking info.", userId, itemId);
@@ -196,33 +198,33 @@ public class ItemServiceImpl implements ItemService {
             throw new AccessDeniedException(
                 "User with id " + userId + " does not own item with id " + itemId);
         }
+        ItemSearchDocument previous = ItemSearchDocument.of(item);
         Item updatedItem = itemMapper.updateItemFields(updateItemDto, item);
         itemRepository.save(updatedItem);
         log.debug("Updated item: {}", updatedItem);
+        eventPublisher.publishEvent(
+            ItemChangedEvent.updated(previous, ItemSearchDocument.of(updatedItem)));
         return itemMapper.mapToDto(updatedItem);
     }
 
     @Override
     public List<ItemDto> getItemsByUserId(Long userId) {
-        if (userRepository.findById(userId).isEmpty()) {
-            log.warn("User with id {} not found", userId);
-            throw new UserNotFoundException(
-                "User with id " + userId + " not found");
-        }
         List<ItemDto> items = itemRepository.findByOwnerId(userId).stream()
             .map(itemMapper::mapToDto).toList();
+        if (items.isEmpty()) {
+            entityLookup.requireUserExists(userId);
+        }
         log.debug("Fetched {} items for user with id {}", items.size(), userId);
         return items;
     }
 
     @Override
     public void delete(Long id, Long userId) {
-        if (userRepository.findById(userId).isEmpty()) {
-            log.warn("User with id {} not found", userId);
-            throw new UserNotFoundException(
-                "User with id " + userId + " not found");
+        Optional<Item> found = itemRepository.findById(id);
+        if (found.isEmpty() || !found.get().getOwner().getId().equals(userId)) {
+            entityLookup.requireUserExists(userId);
         }
-        Item item = itemRepository.findById(id).orElseThrow(() -> {
+        Item item = found.orElseThrow(() -> {
             log.warn("Item with id {} not found for delete", id);
             return new ItemNotFoundException(
                 "Item with id " + id + " not found");
@@ -234,38 +236,50 @@ public class ItemServiceImpl implements ItemService {
         }
         log.debug("Deleting item with id {} by user with id {}", id, userId);
         itemRepository.deleteById(id);
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(ItemSearchDocument.of(item)));
     }
 
     @Override
-    public List<ItemDto> searchItems(String query, Long userId) {
-        if (userRepository.findById(userId).isEmpty()) {
-            log.warn("User with id {} not found", userId);
-            throw new UserNotFoundException(
-                "User with id " + userId + " not found");
-        }
+    public List<ItemDto> searchItems(String query, Long userId, Integer from, Integer size) {
+        entityLookup.requireUserExists(userId);
         if (query.isBlank()) {
             log.debug("Search query is blank, returning empty list");
             return List.of();
         }
+        Pageable pageable = createSearchPageable(from, size);
         // Shouldn't we filter out user's own items when searching?..
-        List<ItemDto> items = itemRepository.search(query).stream().map(itemMapper::mapToDto)
-            .toList();
-        log.debug("Found {} items by query: {}", items.size(), query);
+        List<ItemDto> items = itemSearchCache.get(query, pageable,
+            normalized -> runSearch(normalized, pageable));
+        log.debug("Found {} items by query: {} (from={}, size={})", items.size(), query, from,
+            size);
         return items;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamSearchItems(String query, Long userId, Consumer<ItemDto> action) {
+        entityLookup.requireUserExists(userId);
+        if (query.isBlank()) {
+            log.debug("Search query is blank, streaming nothing");
+            return;
+        }
+        try (Stream<ItemDto> items = itemSearchEngine.stream(query)) {
+            items.forEach(action);
+        }
+    }
+
+    @Override
+    public List<String> suggestItemNames(String prefix) {
+        // Called on every keystroke, so it is served from memory without even a user lookup
+        List<String> suggestions = itemNameSuggester.suggest(prefix);
+        log.debug("Found {} name suggestions for prefix: {}", suggestions.size(), prefix);
+        return suggestions;
+    }
+
     @Override
     public CommentDto saveComment(NewCommentDto newCommentDto, Long itemId, Long userId) {
-        User author = userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new UserNotFoundException(
-                "User with id " + userId + " not found");
-        });
-        Item item = itemRepository.findById(itemId).orElseThrow(() -> {
-            log.warn("Item with id {} not found", itemId);
-            return new ItemNotFoundException(
-                "Item with id " + itemId + " not found");
-        });
+        User author = entityLookup.requireUser(userId);
+        Item item = entityLookup.requireItem(itemId);
 
         List<BookingShortDto> bookings =
             bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(
@@ -289,4 +303,23 @@ public class ItemServiceImpl implements ItemService {
         log.debug("Saved new comment: {}", savedComment);
         return commentMapper.mapToDto(savedComment);
     }
+
+    private CachedSearchResult runSearch(String query, Pageable pageable) {
+        List<ItemDto> items = itemSearchEngine.search(query, pageable);
+        if (items.isEmpty() && (pageable.isUnpaged() || pageable.getOffset() == 0)) {
+            // Nothing matched at all, so offer typo-tolerant matches on the first page instead
+            int maxResults = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+            return CachedSearchResult.fuzzy(fuzzyItemSearch.search(query, maxResults));
+        }
+        return CachedSearchResult.exact(items);
+    }
+
+    private Pageable createSearchPageable(Integer from, Integer size) {
+        if (from == null || size == null || from < 0 || size <= 0) {
+            log.debug("Search pagination parameters (from={}, size={}) missing or invalid. "
+                + "Returning all matches.", from, size);
+            return Pageable.unpaged();
+        }
+        return PageRequest.of(from / size, size);
+    }
 }
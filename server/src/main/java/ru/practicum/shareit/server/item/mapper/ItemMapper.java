@@ -1,10 +1,12 @@
 package ru.practicum.shareit.server.item.mapper;
 
+import java.util.Collection;
 import ru.practicum.shareit.common.dto.item.ItemDto;
 import ru.practicum.shareit.common.dto.item.ItemShortDto;
 import ru.practicum.shareit.common.dto.item.ItemWithBookingInfoDto;
 import ru.practicum.shareit.common.dto.item.NewItemDto;
 import ru.practicum.shareit.common.dto.item.UpdateItemDto;
+import ru.practicum.shareit.server.item.Comment;
 import ru.practicum.shareit.server.item.Item;
 
 public interface ItemMapper {
@@ -13,6 +15,8 @@ public interface ItemMapper {
 
     ItemWithBookingInfoDto mapToItemWithBookingInfoDto(Item item);
 
+    ItemWithBookingInfoDto mapToItemWithBookingInfoDto(Item item, Collection<Comment> comments);
+
     Item mapToItem(NewItemDto newItemDto);
 
     Item updateItemFields(UpdateItemDto updateItemDto, Item item);
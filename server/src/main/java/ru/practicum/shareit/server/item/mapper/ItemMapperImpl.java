@@ -1,5 +1,6 @@
 package ru.practicum.shareit.server.item.mapper;
 
+import java.util.Collection;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -8,6 +9,7 @@ import ru.practicum.shareit.common.dto.item.ItemShortDto;
 import ru.practicum.shareit.common.dto.item.ItemWithBookingInfoDto;
 import ru.practicum.shareit.common.dto.item.NewItemDto;
 import ru.practicum.shareit.common.dto.item.UpdateItemDto;
+import ru.practicum.shareit.server.item.Comment;
 import ru.practicum.shareit.server.item.Item;
 
 @Component
@@ -24,12 +26,18 @@ public class ItemMapperImpl implements ItemMapper {
 
     @Override
     public ItemWithBookingInfoDto mapToItemWithBookingInfoDto(Item item) {
+        return mapToItemWithBookingInfoDto(item, item.getComments());
+    }
+
+    @Override
+    public ItemWithBookingInfoDto mapToItemWithBookingInfoDto(Item item,
+        Collection<Comment> comments) {
         ItemWithBookingInfoDto dto = new ItemWithBookingInfoDto(item.getId(), item.getName(),
             item.getDescription(), item.getAvailable(), null, null, null);
 
-        if (item.getComments() != null) {
+        if (comments != null) {
             dto.setComments(
-                item.getComments().stream().map(commentMapper::mapToDto).collect(Collectors.toSet()));
+                comments.stream().map(commentMapper::mapToDto).collect(Collectors.toSet()));
         }
         return dto;
     }
@@ -0,0 +1,146 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable inverted index over available items, ranked with Okapi BM25. The documents, the term
+ * dictionary and every posting list are {@link PersistentTreeMap}s, so an update copies only
+ * O(log n) nodes per changed term and shares the rest with the original; a published instance can
+ * be read by any number of threads without locking.
+ */
+final class Bm25Index {
+
+    static final Bm25Index EMPTY = new Bm25Index(PersistentTreeMap.empty(),
+        PersistentTreeMap.empty(), 0L);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Words from the name count twice, so name matches outrank description-only matches
+    private static final int NAME_WEIGHT = 2;
+
+    private final PersistentTreeMap<Long, Entry> entries;
+    private final PersistentTreeMap<String, PersistentTreeMap<Long, Integer>> postings;
+    private final long totalLength;
+
+    private record Entry(ItemSearchDocument document, Map<String, Integer> termFrequencies,
+                         int length) {
+    }
+
+    private record ScoredDocument(ItemSearchDocument document, double score) {
+    }
+
+    private Bm25Index(PersistentTreeMap<Long, Entry> entries,
+        PersistentTreeMap<String, PersistentTreeMap<Long, Integer>> postings, long totalLength) {
+        this.entries = entries;
+        this.postings = postings;
+        this.totalLength = totalLength;
+    }
+
+    static Bm25Index of(Collection<ItemSearchDocument> documents) {
+        Bm25Index index = EMPTY;
+        for (ItemSearchDocument document : documents) {
+            index = index.withDocument(document);
+        }
+        return index;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a copy of this index with the document added or replaced; unavailable documents are
+     * removed instead.
+     */
+    Bm25Index withDocument(ItemSearchDocument document) {
+        Bm25Index base = withoutDocument(document.id());
+        if (!document.available()) {
+            return base;
+        }
+        Entry entry = toEntry(document);
+        PersistentTreeMap<String, PersistentTreeMap<Long, Integer>> newPostings = base.postings;
+        for (Map.Entry<String, Integer> term : entry.termFrequencies().entrySet()) {
+            PersistentTreeMap<Long, Integer> posting = newPostings.get(term.getKey());
+            if (posting == null) {
+                posting = PersistentTreeMap.empty();
+            }
+            newPostings = newPostings.plus(term.getKey(),
+                posting.plus(document.id(), term.getValue()));
+        }
+        return new Bm25Index(base.entries.plus(document.id(), entry), newPostings,
+            base.totalLength + entry.length());
+    }
+
+    Bm25Index withoutDocument(Long id) {
+        Entry previous = entries.get(id);
+        if (previous == null) {
+            return this;
+        }
+        PersistentTreeMap<String, PersistentTreeMap<Long, Integer>> newPostings = postings;
+        for (String term : previous.termFrequencies().keySet()) {
+            PersistentTreeMap<Long, Integer> posting = newPostings.get(term).minus(id);
+            newPostings = posting.isEmpty() ? newPostings.minus(term)
+                : newPostings.plus(term, posting);
+        }
+        return new Bm25Index(entries.minus(id), newPostings, totalLength - previous.length());
+    }
+
+    /**
+     * Finds documents containing every query term as a word prefix, best BM25 score first.
+     */
+    List<ItemSearchDocument> search(List<String> queryTerms) {
+        if (queryTerms.isEmpty() || entries.isEmpty()) {
+            return List.of();
+        }
+        double averageLength = (double) totalLength / entries.size();
+        Map<Long, Double> scores = null;
+        for (String queryTerm : new HashSet<>(queryTerms)) {
+            Map<Long, Double> termScores = scoreTerm(queryTerm, averageLength);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        return scores.entrySet().stream()
+            .map(e -> new ScoredDocument(entries.get(e.getKey()).document(), e.getValue()))
+            .sorted(Comparator.comparingDouble(ScoredDocument::score).reversed()
+                .thenComparing(scored -> scored.document().id()))
+            .map(ScoredDocument::document)
+            .toList();
+    }
+
+    private Map<Long, Double> scoreTerm(String queryTerm, double averageLength) {
+        Map<Long, Double> termScores = new HashMap<>();
+        int documentCount = entries.size();
+        // A query term matches every indexed word it is a prefix of
+        postings.forEachInRange(queryTerm, queryTerm + Character.MAX_VALUE, (term, posting) -> {
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5)
+                / (posting.size() + 0.5));
+            posting.forEach((id, frequency) -> {
+                double lengthNorm = 1 - B + B * entries.get(id).length() / averageLength;
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                termScores.merge(id, score, Double::sum);
+            });
+        });
+        return termScores;
+    }
+
+    private static Entry toEntry(ItemSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> nameTerms = SearchTokenizer.tokenize(document.name());
+        List<String> descriptionTerms = SearchTokenizer.tokenize(document.description());
+        nameTerms.forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        descriptionTerms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return new Entry(document, frequencies, nameTerms.size() + descriptionTerms.size());
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.List;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+
+/**
+ * One page of search results as stored by {@link ItemSearchCache}. {@code fuzzy} marks pages that
+ * came from the trigram fallback, which any item change may affect.
+ */
+public record CachedSearchResult(List<ItemDto> items, boolean fuzzy) {
+
+    public static CachedSearchResult exact(List<ItemDto> items) {
+        return new CachedSearchResult(List.copyOf(items), false);
+    }
+
+    public static CachedSearchResult fuzzy(List<ItemDto> items) {
+        return new CachedSearchResult(List.copyOf(items), true);
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.server.item.search;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+
+/**
+ * Postgres full-text search over the GIN-indexed {@code items.search_vector} column. Every word of
+ * the query is matched as a prefix, so "drill" still finds "drills", and results are ordered by
+ * {@code ts_rank} with name matches weighted above description matches.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "full-text")
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextItemSearchEngine implements ItemSearchEngine {
+
+    private final ItemRepository itemRepository;
+    private final ItemMapper itemMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ItemDto> search(String text, Pageable pageable) {
+        List<String> terms = SearchTokenizer.tokenize(text);
+        if (terms.isEmpty()) {
+            log.debug("Search text '{}' has no searchable terms", text);
+            return List.of();
+        }
+        String tsQuery = toPrefixTsQuery(terms);
+        log.trace("Running full-text search with tsquery '{}', page {}", tsQuery, pageable);
+        return itemRepository.searchFullText(tsQuery, pageable).stream()
+            .map(itemMapper::mapToDto).toList();
+    }
+
+    @Override
+    public Stream<ItemDto> stream(String text) {
+        List<String> terms = SearchTokenizer.tokenize(text);
+        if (terms.isEmpty()) {
+            log.debug("Search text '{}' has no searchable terms", text);
+            return Stream.empty();
+        }
+        String tsQuery = toPrefixTsQuery(terms);
+        log.trace("Streaming full-text search with tsquery '{}'", tsQuery);
+        // Detach rows as they are mapped so the persistence context does not grow with the result
+        return itemRepository.streamFullText(tsQuery).map(item -> {
+            ItemDto itemDto = itemMapper.mapToDto(item);
+            entityManager.detach(item);
+            return itemDto;
+        });
+    }
+
+    static String toPrefixTsQuery(List<String> terms) {
+        return String.join(" & ", terms.stream().map(term -> term + ":*").toList());
+    }
+}
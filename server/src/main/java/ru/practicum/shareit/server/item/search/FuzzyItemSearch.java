@@ -0,0 +1,60 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+
+/**
+ * Typo-tolerant search backed by the {@code pg_trgm} GIN index on item name and description, used
+ * when the configured {@link ItemSearchEngine} finds nothing. Matches are items whose text contains
+ * a word at least {@code threshold} trigram-similar to the query, best first, at most {@code limit}
+ * per call.
+ */
+@Component
+@Slf4j
+public class FuzzyItemSearch {
+
+    private final ItemRepository itemRepository;
+    private final ItemMapper itemMapper;
+    private final boolean enabled;
+    private final double threshold;
+    private final int limit;
+
+    public FuzzyItemSearch(ItemRepository itemRepository, ItemMapper itemMapper,
+        @Value("${shareit.search.fuzzy.enabled:false}") boolean enabled,
+        @Value("${shareit.search.fuzzy.threshold:0.35}") double threshold,
+        @Value("${shareit.search.fuzzy.limit:20}") int limit) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Fuzzy search threshold must be in (0, 1]");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Fuzzy search limit must be positive");
+        }
+        this.itemRepository = itemRepository;
+        this.itemMapper = itemMapper;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.limit = limit;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemDto> search(String text, int maxResults) {
+        if (!enabled || text.isBlank()) {
+            return List.of();
+        }
+        // The threshold is a session setting; scoping it to the transaction keeps pooled
+        // connections clean.
+        itemRepository.setWordSimilarityThreshold(threshold);
+        String normalized = text.strip().toLowerCase(Locale.ROOT);
+        List<ItemDto> items = itemRepository.searchFuzzy(normalized, Math.min(maxResults, limit))
+            .stream().map(itemMapper::mapToDto).toList();
+        log.debug("Fuzzy search for '{}' found {} items", text, items.size());
+        return items;
+    }
+}
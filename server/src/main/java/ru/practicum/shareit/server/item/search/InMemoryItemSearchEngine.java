@@ -0,0 +1,60 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.ItemRepository;
+
+/**
+ * Serves searches from an in-process BM25 index without touching the database. The index is
+ * loaded once the application is ready and then kept current from {@link ItemChangedEvent}s.
+ * Writers are serialised and publish a fresh {@link Bm25Index} snapshot, so readers never block.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "in-memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+
+    private final ItemRepository itemRepository;
+
+    private volatile Bm25Index index = Bm25Index.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        index = Bm25Index.of(itemRepository.findAllAvailableSearchDocuments());
+        log.info("Built in-memory search index with {} items", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onItemChanged(ItemChangedEvent event) {
+        index = event.current() != null
+            ? index.withDocument(event.current())
+            : index.withoutDocument(event.itemId());
+        log.trace("Applied change of item {} to search index", event.itemId());
+    }
+
+    @Override
+    public List<ItemDto> search(String text, Pageable pageable) {
+        Stream<ItemDto> items = stream(text);
+        if (pageable.isPaged()) {
+            items = items.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return items.toList();
+    }
+
+    @Override
+    public Stream<ItemDto> stream(String text) {
+        return index.search(SearchTokenizer.tokenize(text)).stream()
+            .map(document -> new ItemDto(document.id(), document.name(), document.description(),
+                document.available()));
+    }
+}
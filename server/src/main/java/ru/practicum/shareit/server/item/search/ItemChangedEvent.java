@@ -0,0 +1,22 @@
+package ru.practicum.shareit.server.item.search;
+
+/**
+ * Published by the item service after an item is created, updated or deleted. {@code previous}
+ * is {@code null} for a new item and {@code current} is {@code null} for a deleted one.
+ */
+public record ItemChangedEvent(Long itemId, ItemSearchDocument previous,
+                               ItemSearchDocument current) {
+
+    public static ItemChangedEvent created(ItemSearchDocument current) {
+        return new ItemChangedEvent(current.id(), null, current);
+    }
+
+    public static ItemChangedEvent updated(ItemSearchDocument previous,
+        ItemSearchDocument current) {
+        return new ItemChangedEvent(current.id(), previous, current);
+    }
+
+    public static ItemChangedEvent deleted(ItemSearchDocument previous) {
+        return new ItemChangedEvent(previous.id(), previous, null);
+    }
+}
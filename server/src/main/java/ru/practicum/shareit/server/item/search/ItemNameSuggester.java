@@ -0,0 +1,65 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.server.item.ItemRepository;
+
+/**
+ * Autocompletes available item names from an in-memory {@link ItemNameTrie}, so suggestions never
+ * reach the database. The trie is loaded once the application is ready and kept current from
+ * {@link ItemChangedEvent}s. Writers are serialised and publish a fresh trie, so a change that
+ * arrives during a rebuild is applied to the rebuilt trie and readers never block.
+ */
+@Component
+@Slf4j
+public class ItemNameSuggester {
+
+    private final ItemRepository itemRepository;
+    private final int limit;
+
+    private volatile ItemNameTrie trie = ItemNameTrie.EMPTY;
+
+    public ItemNameSuggester(ItemRepository itemRepository,
+        @Value("${shareit.search.suggest.limit:10}") int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive");
+        }
+        this.itemRepository = itemRepository;
+        this.limit = limit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        ItemNameTrie rebuilt = ItemNameTrie.EMPTY;
+        List<String> names = itemRepository.findAllAvailableNames();
+        for (String name : names) {
+            rebuilt = rebuilt.withName(name);
+        }
+        trie = rebuilt;
+        log.info("Built item name suggestion trie with {} names", names.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onItemChanged(ItemChangedEvent event) {
+        ItemNameTrie updated = trie;
+        if (event.previous() != null && event.previous().available()) {
+            updated = updated.withoutName(event.previous().name());
+        }
+        if (event.current() != null && event.current().available()) {
+            updated = updated.withName(event.current().name());
+        }
+        trie = updated;
+    }
+
+    public List<String> suggest(String prefix) {
+        if (prefix.isBlank()) {
+            return List.of();
+        }
+        return trie.suggest(prefix, limit);
+    }
+}
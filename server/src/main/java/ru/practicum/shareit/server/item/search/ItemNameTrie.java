@@ -0,0 +1,169 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable, case-insensitive prefix tree over item names. Children are kept in parallel sorted
+ * arrays rather than per-node maps, which keeps nodes small and walks them in alphabetical order.
+ * An update copies only the nodes on the changed name's path and shares the rest, so a published
+ * trie can be read by any number of threads without locking. Names are reference-counted, so
+ * several items sharing a name yield a single suggestion.
+ */
+final class ItemNameTrie {
+
+    static final ItemNameTrie EMPTY = new ItemNameTrie(Node.EMPTY);
+
+    private final Node root;
+
+    private record Node(char[] keys, Node[] children, NavigableMap<String, Integer> names) {
+
+        private static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node withChild(char key, Node child) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                Node[] newChildren = children.clone();
+                newChildren[index] = child;
+                return new Node(keys, newChildren, names);
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = child;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1,
+                children.length - insertAt);
+            return new Node(newKeys, newChildren, names);
+        }
+
+        Node withoutChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return this;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index,
+                children.length - index - 1);
+            return new Node(newKeys, newChildren, names);
+        }
+
+        Node withNames(NavigableMap<String, Integer> newNames) {
+            return new Node(keys, children, newNames.isEmpty() ? null : newNames);
+        }
+
+        boolean isEmpty() {
+            return keys.length == 0 && names == null;
+        }
+    }
+
+    private ItemNameTrie(Node root) {
+        this.root = root;
+    }
+
+    ItemNameTrie withName(String name) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return this;
+        }
+        return new ItemNameTrie(add(root, key, 0, name.strip()));
+    }
+
+    ItemNameTrie withoutName(String name) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return this;
+        }
+        Node newRoot = remove(root, key, 0, name.strip());
+        if (newRoot == root) {
+            return this;
+        }
+        return new ItemNameTrie(newRoot == null ? Node.EMPTY : newRoot);
+    }
+
+    List<String> suggest(String prefix, int limit) {
+        Node node = root;
+        String key = normalize(prefix);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        List<String> suggestions = new ArrayList<>(Math.min(limit, 16));
+        if (node != null && node != root) {
+            collect(node, limit, suggestions);
+        }
+        return suggestions;
+    }
+
+    private static Node add(Node node, String key, int depth, String name) {
+        if (depth == key.length()) {
+            NavigableMap<String, Integer> names = node.names() == null
+                ? new TreeMap<>() : new TreeMap<>(node.names());
+            names.merge(name, 1, Integer::sum);
+            return node.withNames(names);
+        }
+        char next = key.charAt(depth);
+        Node child = node.child(next);
+        return node.withChild(next, add(child == null ? Node.EMPTY : child, key, depth + 1, name));
+    }
+
+    // Returns the node unchanged if the name is unknown, or null once the node is left empty
+    private static Node remove(Node node, String key, int depth, String name) {
+        Node updated;
+        if (depth == key.length()) {
+            if (node.names() == null || !node.names().containsKey(name)) {
+                return node;
+            }
+            NavigableMap<String, Integer> names = new TreeMap<>(node.names());
+            names.computeIfPresent(name, (n, count) -> count > 1 ? count - 1 : null);
+            updated = node.withNames(names);
+        } else {
+            char next = key.charAt(depth);
+            Node child = node.child(next);
+            if (child == null) {
+                return node;
+            }
+            Node newChild = remove(child, key, depth + 1, name);
+            if (newChild == child) {
+                return node;
+            }
+            updated = newChild == null ? node.withoutChild(next) : node.withChild(next, newChild);
+        }
+        return updated.isEmpty() ? null : updated;
+    }
+
+    // Pre-order walk: a name comes before its extensions, siblings in alphabetical order
+    private static void collect(Node node, int limit, List<String> suggestions) {
+        if (node.names() != null) {
+            suggestions.add(node.names().firstKey());
+            if (suggestions.size() >= limit) {
+                return;
+            }
+        }
+        for (Node child : node.children()) {
+            collect(child, limit, suggestions);
+            if (suggestions.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+}
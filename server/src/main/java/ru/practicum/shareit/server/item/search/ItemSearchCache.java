@@ -0,0 +1,107 @@
+package ru.practicum.shareit.server.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+
+/**
+ * Bounded cache of search result pages keyed by the normalised query and page. The loader is given
+ * the normalised query, so every spelling sharing an entry runs the same search. After an item
+ * change commits, only entries whose query the old or new version of the item could match are
+ * dropped; the check is a superset of what every engine matches, so it never keeps a stale page.
+ * A page still loading when a change commits is not in the map yet, so every change also bumps a
+ * generation that the loader checks before keeping its page. Statistics are published as
+ * {@code cache.*} meters with {@code cache=itemSearch}.
+ */
+@Component
+@Slf4j
+public class ItemSearchCache {
+
+    private static final String CACHE_NAME = "itemSearch";
+
+    private final Cache<Key, CachedSearchResult> cache;
+    private final Counter invalidations;
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Key(String query, Pageable pageable) {
+    }
+
+    public ItemSearchCache(MeterRegistry meterRegistry,
+        @Value("${shareit.search.cache.maximum-size:1000}") long maximumSize,
+        @Value("${shareit.search.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidations = Counter.builder("cache.invalidations")
+            .description("Entries dropped because an item change could affect them")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+    }
+
+    public List<ItemDto> get(String query, Pageable pageable,
+        Function<String, CachedSearchResult> search) {
+        Key key = new Key(normalize(query), pageable);
+        long loadGeneration = generation.get();
+        CachedSearchResult result = cache.get(key, k -> search.apply(k.query()));
+        if (generation.get() != loadGeneration) {
+            // An item changed while the page may have been loading, so it may predate the change
+            cache.asMap().remove(key, result);
+        }
+        return result.items();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        String previous = searchableText(event.previous());
+        String current = searchableText(event.current());
+        if (previous == null && current == null) {
+            // Unavailable before and after, so the item is in no result page
+            return;
+        }
+        // Bumped before the scan, so a page the scan misses is dropped by its loader instead
+        generation.incrementAndGet();
+        List<Key> affected = cache.asMap().entrySet().stream()
+            .filter(entry -> entry.getValue().fuzzy()
+                || mayMatch(entry.getKey(), previous) || mayMatch(entry.getKey(), current))
+            .map(Map.Entry::getKey)
+            .toList();
+        cache.invalidateAll(affected);
+        invalidations.increment(affected.size());
+        log.trace("Change of item {} invalidated {} cached searches", event.itemId(),
+            affected.size());
+    }
+
+    static String normalize(String query) {
+        return query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // Every engine only returns items whose text contains each query word
+    private static boolean mayMatch(Key key, String text) {
+        return text != null && SearchTokenizer.tokenize(key.query()).stream()
+            .allMatch(text::contains);
+    }
+
+    private static String searchableText(ItemSearchDocument document) {
+        if (document == null || !document.available()) {
+            return null;
+        }
+        return (document.name() + " " + document.description()).toLowerCase(Locale.ROOT);
+    }
+}
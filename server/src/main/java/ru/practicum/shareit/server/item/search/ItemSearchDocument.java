@@ -0,0 +1,14 @@
+package ru.practicum.shareit.server.item.search;
+
+import ru.practicum.shareit.server.item.Item;
+
+/**
+ * The searchable part of an item: everything a search result needs, without the entity graph.
+ */
+public record ItemSearchDocument(Long id, String name, String description, boolean available) {
+
+    public static ItemSearchDocument of(Item item) {
+        return new ItemSearchDocument(item.getId(), item.getName(), item.getDescription(),
+            Boolean.TRUE.equals(item.getAvailable()));
+    }
+}
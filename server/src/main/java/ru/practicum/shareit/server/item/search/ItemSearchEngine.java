@@ -0,0 +1,24 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+
+/**
+ * Strategy behind {@code GET /items/search}. The active implementation is picked by the
+ * {@code shareit.search.engine} property.
+ */
+public interface ItemSearchEngine {
+
+    /**
+     * Finds one page of available items matching the given non-blank text, best matches first.
+     */
+    List<ItemDto> search(String text, Pageable pageable);
+
+    /**
+     * Streams every match in the same order as {@link #search}. Database-backed engines read
+     * through a cursor, so the stream must be consumed inside a transaction and closed.
+     */
+    Stream<ItemDto> stream(String text);
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+
+/**
+ * Substring search over name and description ({@code LIKE '%text%'}). Needs a sequential scan of
+ * {@code items}, kept mostly to compare results against the other engines.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LikeItemSearchEngine implements ItemSearchEngine {
+
+    private final ItemRepository itemRepository;
+    private final ItemMapper itemMapper;
+
+    @Override
+    public List<ItemDto> search(String text, Pageable pageable) {
+        log.trace("Running LIKE search for '{}', page {}", text, pageable);
+        return itemRepository.search(text, pageable).stream().map(itemMapper::mapToDto).toList();
+    }
+
+    @Override
+    public Stream<ItemDto> stream(String text) {
+        log.trace("Streaming LIKE search for '{}'", text);
+        return itemRepository.streamSearch(text);
+    }
+}
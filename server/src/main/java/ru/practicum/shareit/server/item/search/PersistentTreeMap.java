@@ -0,0 +1,188 @@
+package ru.practicum.shareit.server.item.search;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable sorted map backed by an AVL tree. An update copies only the path from the root to the
+ * changed node and shares every other node with the original, so it costs O(log n) and each
+ * version can be read by any number of threads without locking.
+ */
+final class PersistentTreeMap<K extends Comparable<K>, V> {
+
+    private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null);
+
+    private final Node<K, V> root;
+
+    private record Node<K, V>(K key, V value, Node<K, V> left, Node<K, V> right, int height,
+                              int size) {
+    }
+
+    private PersistentTreeMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K extends Comparable<K>, V> PersistentTreeMap<K, V> empty() {
+        return (PersistentTreeMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key());
+            if (comparison == 0) {
+                return node.value();
+            }
+            node = comparison < 0 ? node.left() : node.right();
+        }
+        return null;
+    }
+
+    PersistentTreeMap<K, V> plus(K key, V value) {
+        Node<K, V> updated = put(root, key, value);
+        return updated == root ? this : new PersistentTreeMap<>(updated);
+    }
+
+    PersistentTreeMap<K, V> minus(K key) {
+        Node<K, V> updated = remove(root, key);
+        return updated == root ? this : new PersistentTreeMap<>(updated);
+    }
+
+    void forEach(BiConsumer<? super K, ? super V> action) {
+        forEach(root, action);
+    }
+
+    /**
+     * Visits the entries with keys from {@code from}, inclusive, to {@code to}, exclusive, in key
+     * order.
+     */
+    void forEachInRange(K from, K to, BiConsumer<? super K, ? super V> action) {
+        forEachInRange(root, from, to, action);
+    }
+
+    private static <K extends Comparable<K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return node(key, value, null, null);
+        }
+        int comparison = key.compareTo(node.key());
+        if (comparison == 0) {
+            return value == node.value() ? node
+                : new Node<>(key, value, node.left(), node.right(), node.height(), node.size());
+        }
+        if (comparison < 0) {
+            Node<K, V> left = put(node.left(), key, value);
+            return left == node.left() ? node : balance(node.key(), node.value(), left,
+                node.right());
+        }
+        Node<K, V> right = put(node.right(), key, value);
+        return right == node.right() ? node : balance(node.key(), node.value(), node.left(), right);
+    }
+
+    private static <K extends Comparable<K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = key.compareTo(node.key());
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left(), key);
+            return left == node.left() ? node : balance(node.key(), node.value(), left,
+                node.right());
+        }
+        if (comparison > 0) {
+            Node<K, V> right = remove(node.right(), key);
+            return right == node.right() ? node : balance(node.key(), node.value(), node.left(),
+                right);
+        }
+        if (node.left() == null) {
+            return node.right();
+        }
+        if (node.right() == null) {
+            return node.left();
+        }
+        Node<K, V> successor = node.right();
+        while (successor.left() != null) {
+            successor = successor.left();
+        }
+        return balance(successor.key(), successor.value(), node.left(),
+            removeFirst(node.right()));
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left() == null) {
+            return node.right();
+        }
+        return balance(node.key(), node.value(), removeFirst(node.left()), node.right());
+    }
+
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left()) >= height(left.right())) {
+                return node(left.key(), left.value(), left.left(),
+                    node(key, value, left.right(), right));
+            }
+            Node<K, V> pivot = left.right();
+            return node(pivot.key(), pivot.value(),
+                node(left.key(), left.value(), left.left(), pivot.left()),
+                node(key, value, pivot.right(), right));
+        }
+        if (difference < -1) {
+            if (height(right.right()) >= height(right.left())) {
+                return node(right.key(), right.value(), node(key, value, left, right.left()),
+                    right.right());
+            }
+            Node<K, V> pivot = right.left();
+            return node(pivot.key(), pivot.value(),
+                node(key, value, left, pivot.left()),
+                node(right.key(), right.value(), pivot.right(), right.right()));
+        }
+        return node(key, value, left, right);
+    }
+
+    private static <K, V> Node<K, V> node(K key, V value, Node<K, V> left, Node<K, V> right) {
+        return new Node<>(key, value, left, right, 1 + Math.max(height(left), height(right)),
+            1 + size(left) + size(right));
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height();
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size();
+    }
+
+    private static <K, V> void forEach(Node<K, V> node, BiConsumer<? super K, ? super V> action) {
+        if (node != null) {
+            forEach(node.left(), action);
+            action.accept(node.key(), node.value());
+            forEach(node.right(), action);
+        }
+    }
+
+    private static <K extends Comparable<K>, V> void forEachInRange(Node<K, V> node, K from, K to,
+        BiConsumer<? super K, ? super V> action) {
+        if (node == null) {
+            return;
+        }
+        int fromComparison = from.compareTo(node.key());
+        boolean beforeTo = node.key().compareTo(to) < 0;
+        if (fromComparison < 0) {
+            forEachInRange(node.left(), from, to, action);
+        }
+        if (fromComparison <= 0 && beforeTo) {
+            action.accept(node.key(), node.value());
+        }
+        if (beforeTo) {
+            forEachInRange(node.right(), from, to, action);
+        }
+    }
+}
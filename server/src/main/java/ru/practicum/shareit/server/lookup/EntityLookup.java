@@ -0,0 +1,51 @@
+package ru.practicum.shareit.server.lookup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.exception.ItemNotFoundException;
+import ru.practicum.shareit.server.exception.UserNotFoundException;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserExistenceCache;
+import ru.practicum.shareit.server.user.UserRepository;
+
+/**
+ * Loads the users and items a request refers to, or checks that they exist. Existence checks go
+ * through {@link UserExistenceCache}, so most requests do not query the {@code users} table at
+ * all; users loaded anyway are recorded there as existing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityLookup {
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final UserExistenceCache userExistenceCache;
+
+    public User requireUser(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow(() -> userNotFound(userId));
+        userExistenceCache.remember(userId);
+        return user;
+    }
+
+    public void requireUserExists(Long userId) {
+        if (!userExistenceCache.exists(userId)) {
+            throw userNotFound(userId);
+        }
+    }
+
+    public Item requireItem(Long itemId) {
+        return itemRepository.findById(itemId).orElseThrow(() -> {
+            log.warn("Item with id {} not found", itemId);
+            return new ItemNotFoundException("Item with id " + itemId + " not found");
+        });
+    }
+
+    private static UserNotFoundException userNotFound(Long userId) {
+        log.warn("User with id {} not found", userId);
+        return new UserNotFoundException("User with id " + userId + " not found");
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.server.metrics;
+
+import java.util.Map;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads on the current thread, so
+ * a request or a service call can be charged with the queries it caused. The session factory's
+ * {@link org.hibernate.stat.Statistics} only add up across all threads at once.
+ */
+@Component
+public class HibernateCallCounter implements StatementInspector, Interceptor,
+    HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<Counts> counts = ThreadLocal.withInitial(Counts::new);
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counts.get().statements++;
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames,
+        Type[] types) {
+        counts.get().entityLoads++;
+        return false;
+    }
+
+    public long statements() {
+        return counts.get().statements;
+    }
+
+    public long entityLoads() {
+        return counts.get().entityLoads;
+    }
+
+    public void reset() {
+        counts.remove();
+    }
+
+    private static final class Counts {
+
+        private long statements;
+        private long entityLoads;
+    }
+}
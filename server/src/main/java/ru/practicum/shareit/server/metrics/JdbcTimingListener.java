@@ -0,0 +1,32 @@
+package ru.practicum.shareit.server.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time JDBC statements take to execute to the request's DB time. Hibernate creates one
+ * per session from the {@code hibernate.session.events.auto} setting.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+
+    private long started;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.current().addDbTime(System.nanoTime() - started);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.current().addDbTime(System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.server.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the time spent in entity-to-DTO mappers to the request's mapping time. Lazy loads the
+ * mapping triggers are left to DB time.
+ */
+@Aspect
+@Component
+public class MapperTimingAspect {
+
+    @Around("execution(public * ru.practicum.shareit.server..mapper.*MapperImpl.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        boolean outermost = timings.enterMapping();
+        long db = timings.dbNanos();
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.exitMapping(System.nanoTime() - started - (timings.dbNanos() - db),
+                outermost);
+        }
+    }
+}
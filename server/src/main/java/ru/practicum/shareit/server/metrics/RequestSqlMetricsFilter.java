@@ -0,0 +1,56 @@
+package ru.practicum.shareit.server.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the SQL statements and entity loads of each request per endpoint, including lazy loads
+ * made while the response is written. Registered by
+ * {@link ru.practicum.shareit.server.config.MetricsConfig}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_SUMMARY = "shareit.request.sql.statements";
+    static final String ENTITY_LOADS_SUMMARY = "shareit.request.entity.loads";
+
+    private final MeterRegistry meterRegistry;
+    private final HibernateCallCounter callCounter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        callCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            long statements = callCounter.statements();
+            long entityLoads = callCounter.entityLoads();
+            log.debug("{} {} issued {} SQL statements and loaded {} entities",
+                request.getMethod(), uri, statements, entityLoads);
+            DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("SQL statements prepared while handling one request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+            DistributionSummary.builder(ENTITY_LOADS_SUMMARY)
+                .description("Entities loaded while handling one request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(entityLoads);
+            callCounter.reset();
+        }
+    }
+}
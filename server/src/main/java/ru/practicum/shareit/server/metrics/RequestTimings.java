@@ -0,0 +1,71 @@
+package ru.practicum.shareit.server.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Where the current request's time went, reported in its {@code Server-Timing} header. Kept per
+ * thread, like the request itself, and reset by {@link ServerTimingFilter}.
+ */
+public final class RequestTimings {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> CURRENT =
+        ThreadLocal.withInitial(RequestTimings::new);
+
+    private long dbNanos;
+    private long mappingNanos;
+    private long serializationNanos;
+    private int mappingDepth;
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void reset() {
+        CURRENT.remove();
+    }
+
+    void addDbTime(long nanos) {
+        dbNanos += nanos;
+    }
+
+    long dbNanos() {
+        return dbNanos;
+    }
+
+    // Mappers call each other, so only the outermost call is added
+    boolean enterMapping() {
+        return mappingDepth++ == 0;
+    }
+
+    void exitMapping(long nanos, boolean outermost) {
+        mappingDepth--;
+        if (outermost) {
+            mappingNanos += nanos;
+        }
+    }
+
+    void addSerializationTime(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    public String toServerTiming() {
+        return toServerTiming(true);
+    }
+
+    String toServerTiming(boolean includeSerialization) {
+        String timing = entry("db", dbNanos) + ", " + entry("mapping", mappingNanos);
+        return includeSerialization ? timing + ", " + entry("serialization", serializationNanos)
+            : timing;
+    }
+
+    private static String entry(String name, long nanos) {
+        return String.format(Locale.ROOT, "%s;dur=%.3f", name,
+            nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.server.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts each request with fresh {@link RequestTimings} and reports them for responses without a
+ * JSON body, which {@link ServerTimingJsonHttpMessageConverter} does not see. Registered by
+ * {@link ru.practicum.shareit.server.config.MetricsConfig}.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings.reset();
+        try {
+            filterChain.doFilter(request, response);
+            if (!response.isCommitted()
+                && !response.containsHeader(RequestTimings.SERVER_TIMING_HEADER)) {
+                response.addHeader(RequestTimings.SERVER_TIMING_HEADER,
+                    RequestTimings.current().toServerTiming());
+            }
+        } finally {
+            RequestTimings.reset();
+        }
+    }
+}
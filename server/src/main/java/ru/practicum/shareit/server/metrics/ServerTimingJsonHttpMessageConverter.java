@@ -0,0 +1,101 @@
+package ru.practicum.shareit.server.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Holds back JSON bodies of up to {@code maxBufferedBytes}, so the {@code Server-Timing} header
+ * can report their serialisation time before they are sent. A larger body is streamed as soon as
+ * it outgrows the limit, with a header that leaves the serialisation time out.
+ */
+public class ServerTimingJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final int maxBufferedBytes;
+
+    public ServerTimingJsonHttpMessageConverter(ObjectMapper objectMapper, int maxBufferedBytes) {
+        super(objectMapper);
+        if (maxBufferedBytes < 0) {
+            throw new IllegalArgumentException("Buffered body limit must not be negative");
+        }
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+        throws IOException {
+        long started = System.nanoTime();
+        BoundedBody body = new BoundedBody(outputMessage);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        if (body.isBuffered()) {
+            RequestTimings timings = RequestTimings.current();
+            timings.addSerializationTime(System.nanoTime() - started);
+            outputMessage.getHeaders().add(RequestTimings.SERVER_TIMING_HEADER,
+                timings.toServerTiming());
+            body.writeBuffered();
+        }
+    }
+
+    // Buffers up to the limit, then sends the header and switches to the response stream
+    private final class BoundedBody extends OutputStream {
+
+        private final HttpOutputMessage outputMessage;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private OutputStream target;
+
+        private BoundedBody(HttpOutputMessage outputMessage) {
+            this.outputMessage = outputMessage;
+        }
+
+        boolean isBuffered() {
+            return target == null;
+        }
+
+        void writeBuffered() throws IOException {
+            buffer.writeTo(outputMessage.getBody());
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null && buffer.size() + length > maxBufferedBytes) {
+                outputMessage.getHeaders().add(RequestTimings.SERVER_TIMING_HEADER,
+                    RequestTimings.current().toServerTiming(false));
+                target = outputMessage.getBody();
+                buffer.writeTo(target);
+                buffer = null;
+            }
+            if (target != null) {
+                target.write(bytes, offset, length);
+            } else {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+    }
+}
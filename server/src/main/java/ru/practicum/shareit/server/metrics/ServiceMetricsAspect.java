@@ -0,0 +1,61 @@
+package ru.practicum.shareit.server.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public service method and records how many SQL statements and entity loads it
+ * caused. Runs outside the transaction advice, so statements flushed on commit are counted too.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String CALLS_TIMER = "shareit.service.calls";
+    static final String STATEMENTS_SUMMARY = "shareit.service.sql.statements";
+    static final String ENTITY_LOADS_SUMMARY = "shareit.service.entity.loads";
+
+    private final MeterRegistry meterRegistry;
+    private final HibernateCallCounter callCounter;
+
+    @Around("execution(public * ru.practicum.shareit.server..*ServiceImpl.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        long statements = callCounter.statements();
+        long entityLoads = callCounter.entityLoads();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(CALLS_TIMER)
+                .description("Time spent in a service method")
+                .tags("service", service, "method", method, "exception", exception)
+                .register(meterRegistry));
+            DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("SQL statements prepared by one call of a service method")
+                .tags("service", service, "method", method)
+                .register(meterRegistry)
+                .record(callCounter.statements() - statements);
+            DistributionSummary.builder(ENTITY_LOADS_SUMMARY)
+                .description("Entities loaded by one call of a service method")
+                .tags("service", service, "method", method)
+                .register(meterRegistry)
+                .record(callCounter.entityLoads() - entityLoads);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.server.pagination;
+
+import java.util.List;
+
+/**
+ * One keyset page. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorSlice<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.server.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import ru.practicum.shareit.server.exception.InvalidCursorException;
+
+/**
+ * Position in a list ordered by a timestamp, then id, both descending. Clients get it as an opaque
+ * URL-safe token and pass it back to fetch the rows after it.
+ */
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    private static final String SEPARATOR = "~";
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token),
+                StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException
+                 | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((timestamp + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public KeysetScrollPosition toScrollPosition(String timestampProperty) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(timestampProperty, timestamp);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
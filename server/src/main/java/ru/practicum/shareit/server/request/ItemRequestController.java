@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.common.dto.request.ItemRequestDto;
 import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
+import ru.practicum.shareit.server.pagination.CursorSlice;
 
 @RestController
 @RequestMapping(path = "/requests")
@@ -24,6 +25,7 @@ import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
 public class ItemRequestController {
 
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     private final ItemRequestService itemRequestService;
 
     @PostMapping
@@ -41,9 +43,22 @@ public class ItemRequestController {
 
     @GetMapping
     public ResponseEntity<List<ItemRequestDto>> getOwnRequests(
-        @RequestHeader(USER_ID_HEADER) Long userId) {
+        @RequestHeader(USER_ID_HEADER) Long userId,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false) Integer size) {
 
         log.info("Processing request from user {} to get their own item requests", userId);
+        if (cursor != null) {
+            CursorSlice<ItemRequestDto> slice = itemRequestService.getOwnRequests(userId, cursor,
+                size);
+            log.info("Found {} own item requests for user {} in this slice",
+                slice.content().size(), userId);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (slice.hasNext()) {
+                response.header(NEXT_CURSOR_HEADER, slice.nextCursor());
+            }
+            return response.body(slice.content());
+        }
         List<ItemRequestDto> requests = itemRequestService.getOwnRequests(userId);
         log.info("Found {} own item requests for user {}", requests.size(), userId);
         return ResponseEntity.ok(requests);
@@ -1,9 +1,18 @@
 package ru.practicum.shareit.server.request;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,8 +24,42 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
     @Query("SELECT ir FROM ItemRequest ir LEFT JOIN FETCH ir.items WHERE ir.requestor.id = :requestorId ORDER BY ir.created DESC")
     List<ItemRequest> findByRequestorIdOrderByCreatedDesc(@Param("requestorId") Long requestorId);
 
-    @Query("SELECT ir FROM ItemRequest ir LEFT JOIN FETCH ir.items WHERE ir.requestor.id <> :userId")
-    Page<ItemRequest> findAllByRequestorIdNot(@Param("userId") Long userId, Pageable pageable);
+    // Paging a JOIN FETCH over a collection would make Hibernate load every row and cut the page
+    // in memory, so the page is taken over ids in SQL first and only its requests get fetched
+    default Page<ItemRequest> findAllByRequestorIdNot(Long userId, Pageable pageable) {
+        Page<Long> ids = findIdsByRequestorIdNot(userId, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<Long, ItemRequest> requests = findAllByIdInFetchingItems(ids.getContent()).stream()
+            .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        return ids.map(requests::get);
+    }
+
+    Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "created", "id");
+
+    // Same two phases over a keyset window: the window is read without the items, then its
+    // requests are fetched with them
+    default Window<ItemRequest> scrollByRequestorIdFetchingItems(Long requestorId,
+        ScrollPosition position, Limit limit) {
+        Window<ItemRequest> window = findByRequestorId(requestorId, position, KEYSET_SORT, limit);
+        if (window.isEmpty()) {
+            return window;
+        }
+        Map<Long, ItemRequest> requests = findAllByIdInFetchingItems(
+            window.map(ItemRequest::getId).getContent()).stream()
+            .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        return window.map(request -> requests.get(request.getId()));
+    }
+
+    Window<ItemRequest> findByRequestorId(Long requestorId, ScrollPosition position, Sort sort,
+        Limit limit);
+
+    @Query("SELECT ir.id FROM ItemRequest ir WHERE ir.requestor.id <> :userId")
+    Page<Long> findIdsByRequestorIdNot(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT DISTINCT ir FROM ItemRequest ir LEFT JOIN FETCH ir.items WHERE ir.id IN :ids")
+    List<ItemRequest> findAllByIdInFetchingItems(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT ir FROM ItemRequest ir LEFT JOIN FETCH ir.items WHERE ir.id = :id")
     Optional<ItemRequest> findByIdFetchingItems(@Param("id") Long id);
@@ -3,6 +3,7 @@ package ru.practicum.shareit.server.request;
 import java.util.List;
 import ru.practicum.shareit.common.dto.request.ItemRequestDto;
 import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
+import ru.practicum.shareit.server.pagination.CursorSlice;
 
 public interface ItemRequestService {
 
@@ -10,6 +11,8 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getOwnRequests(Long userId);
 
+    CursorSlice<ItemRequestDto> getOwnRequests(Long userId, String cursor, Integer size);
+
     List<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size);
 
     ItemRequestDto getRequestById(Long requestId, Long userId);
@@ -4,33 +4,39 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.common.dto.request.ItemRequestDto;
 import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
 import ru.practicum.shareit.server.exception.ItemRequestNotFoundException;
-import ru.practicum.shareit.server.exception.UserNotFoundException;
+import ru.practicum.shareit.server.lookup.EntityLookup;
+import ru.practicum.shareit.server.pagination.CursorSlice;
+import ru.practicum.shareit.server.pagination.KeysetCursor;
 import ru.practicum.shareit.server.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.server.user.User;
-import ru.practicum.shareit.server.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ItemRequestServiceImpl implements ItemRequestService {
 
+    private static final int DEFAULT_SCROLL_SIZE = 10;
+
     private final ItemRequestRepository itemRequestRepository;
-    private final UserRepository userRepository;
+    private final EntityLookup entityLookup;
     private final ItemRequestMapper itemRequestMapper;
 
     @Override
     @Transactional
     public ItemRequestDto addRequest(NewItemRequestDto dto, Long userId) {
         log.debug("Attempting to add new item request by user {}", userId);
-        User requestor = findUserOrThrow(userId);
+        User requestor = entityLookup.requireUser(userId);
 
         ItemRequest request = itemRequestMapper.mapToEntity(dto);
         request.setRequestor(requestor);
@@ -44,7 +50,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Transactional(readOnly = true)
     public List<ItemRequestDto> getOwnRequests(Long userId) {
         log.debug("Fetching own item requests for user {}", userId);
-        findUserOrThrow(userId);
+        entityLookup.requireUserExists(userId);
 
         List<ItemRequest> requests = itemRequestRepository.findByRequestorIdOrderByCreatedDesc(userId);
 
@@ -54,11 +60,30 @@ public class ItemRequestServiceImpl implements ItemRequestService {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ItemRequestDto> getOwnRequests(Long userId, String cursor, Integer size) {
+        log.debug("Scrolling own item requests for user {} (cursor={}, size={})", userId, cursor,
+            size);
+        entityLookup.requireUserExists(userId);
+
+        Window<ItemRequest> window = itemRequestRepository.scrollByRequestorIdFetchingItems(userId,
+            getScrollPosition(cursor), getScrollLimit(size));
+
+        log.info("Found {} requests for user {} in this slice", window.size(), userId);
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            ItemRequest last = window.getContent().getLast();
+            nextCursor = new KeysetCursor(last.getCreated(), last.getId()).encode();
+        }
+        return new CursorSlice<>(window.map(itemRequestMapper::mapToDto).getContent(), nextCursor);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size) {
         log.debug("Fetching all item requests (excluding user {}) with pagination from={}, size={}", userId, from, size);
-        findUserOrThrow(userId);
+        entityLookup.requireUserExists(userId);
 
         Pageable pageable = createPageable(from, size);
 
@@ -75,7 +100,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Transactional(readOnly = true)
     public ItemRequestDto getRequestById(Long requestId, Long userId) {
         log.debug("Fetching item request {} for user {}", requestId, userId);
-        findUserOrThrow(userId);
+        entityLookup.requireUserExists(userId);
 
         ItemRequest request = itemRequestRepository.findByIdFetchingItems(requestId)
             .orElseThrow(() -> {
@@ -87,13 +112,6 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         return itemRequestMapper.mapToDto(request);
     }
 
-    private User findUserOrThrow(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new UserNotFoundException("User with id " + userId + " not found");
-        });
-    }
-
     private Pageable createPageable(Integer from, Integer size) {
         Sort defaultSort = Sort.by("created").descending();
         if (from == null || size == null || from < 0 || size <= 0) {
@@ -103,4 +121,20 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         }
         return PageRequest.of(from / size, size, defaultSort);
     }
-}
\ No newline at end of file
+
+    private ScrollPosition getScrollPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        return KeysetCursor.decode(cursor).toScrollPosition("created");
+    }
+
+    private Limit getScrollLimit(Integer size) {
+        if (size == null || size <= 0) {
+            log.debug("Scroll size {} missing or invalid. Defaulting to {}.", size,
+                DEFAULT_SCROLL_SIZE);
+            return Limit.of(DEFAULT_SCROLL_SIZE);
+        }
+        return Limit.of(size);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.server.user;
+
+/**
+ * Published by {@link UserService#delete} and handled once the delete has committed.
+ */
+public record UserDeletedEvent(Long userId) {
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.server.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded cache of whether a user id exists, so the {@code X-Sharer-User-Id} check on most
+ * requests does not need the database. Users are only removed through {@link UserService#delete},
+ * whose {@link UserDeletedEvent} invalidates their entry only once the delete has committed, so a
+ * lookup racing the delete cannot leave the user cached as existing. Missing ids are remembered
+ * only briefly, and the id of a newly saved user is invalidated too. Entries are per process, so
+ * another instance may keep seeing a deleted user until its entry expires. Statistics are
+ * published as {@code cache.*} meters with {@code cache=userExistence}.
+ */
+@Component
+@Slf4j
+public class UserExistenceCache {
+
+    private static final String CACHE_NAME = "userExistence";
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> cache;
+
+    public UserExistenceCache(UserRepository userRepository, MeterRegistry meterRegistry,
+        @Value("${shareit.users.existence-cache.maximum-size:10000}") long maximumSize,
+        @Value("${shareit.users.existence-cache.ttl:10m}") Duration ttl,
+        @Value("${shareit.users.existence-cache.negative-ttl:5s}") Duration negativeTtl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ExpireAfterWrite(ttl.toNanos(), negativeTtl.toNanos()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean exists(Long userId) {
+        return cache.get(userId, userRepository::existsById);
+    }
+
+    // For users just loaded anyway
+    public void remember(Long userId) {
+        cache.put(userId, true);
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        log.trace("Invalidated cached existence of user {}", userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private record ExpireAfterWrite(long ttlNanos, long negativeTtlNanos)
+        implements Expiry<Long, Boolean> {
+
+        @Override
+        public long expireAfterCreate(Long userId, Boolean exists, long currentTime) {
+            return exists ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, Boolean exists, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(userId, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, Boolean exists, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
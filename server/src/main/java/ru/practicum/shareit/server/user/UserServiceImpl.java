@@ -3,12 +3,17 @@ package ru.practicum.shareit.server.user;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.common.dto.user.NewUserDto;
 import ru.practicum.shareit.common.dto.user.UpdateUserDto;
 import ru.practicum.shareit.common.dto.user.UserDto;
 import ru.practicum.shareit.server.exception.EmailAlreadyExistsException;
 import ru.practicum.shareit.server.exception.UserNotFoundException;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.search.ItemChangedEvent;
+import ru.practicum.shareit.server.item.search.ItemSearchDocument;
 import ru.practicum.shareit.server.user.mapper.UserMapper;
 
 @Service
@@ -19,6 +24,9 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserExistenceCache userExistenceCache;
+    private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<UserDto> getAllUsers() {
@@ -36,6 +44,8 @@ public class UserServiceImpl implements UserService {
                 "User with email " + user.getEmail() + " already exists");
         }
         User savedUser = userRepository.save(user);
+        // The new id may have been looked up, and cached as missing, before it was assigned
+        userExistenceCache.invalidate(savedUser.getId());
         log.debug("Saved new user: {}", savedUser);
         return userMapper.mapToDto(savedUser);
     }
@@ -66,8 +76,14 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         log.debug("Deleting user with id {}", id);
+        List<ItemSearchDocument> ownedItems = itemRepository.findSearchDocumentsByOwnerId(id);
+        // Deleted explicitly rather than by the database cascade, so the items cache is evicted
+        itemRepository.deleteAllByOwnerId(id);
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
+        ownedItems.forEach(item -> eventPublisher.publishEvent(ItemChangedEvent.deleted(item)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+-- Written idempotently: databases from a later schema.sql already have these
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted document for the full-text search engine; names rank above descriptions
+ALTER TABLE items ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', name), 'A') ||
+    setweight(to_tsvector('simple', description), 'B')
+) STORED;
@@ -0,0 +1,39 @@
+-- Built concurrently so existing tables stay writable; Flyway runs these outside a transaction.
+-- IF NOT EXISTS skips the ones a later schema.sql already created.
+
+-- Full-text search and the LIKE / fuzzy trigram searches
+CREATE INDEX CONCURRENTLY IF NOT EXISTS items_search_vector_idx
+    ON items USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS items_search_text_trgm_idx
+    ON items USING GIN (lower(name || ' ' || description) gin_trgm_ops);
+
+-- Items of an owner
+CREATE INDEX CONCURRENTLY IF NOT EXISTS items_owner_id_idx ON items (owner_id);
+
+-- A user's own requests, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS requests_requestor_id_created_idx
+    ON requests (requestor_id, created DESC, id DESC);
+
+-- Last/next bookings of items, and a booker's bookings by state, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_item_id_start_date_idx
+    ON bookings (item_id, start_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_item_id_status_start_date_idx
+    ON bookings (item_id, status, start_date DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_booker_id_start_date_idx
+    ON bookings (booker_id, start_date DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_booker_id_status_start_date_idx
+    ON bookings (booker_id, status, start_date DESC);
+
+-- Items of a request, for LEFT JOIN FETCH ir.items
+CREATE INDEX CONCURRENTLY IF NOT EXISTS items_request_id_idx ON items (request_id);
+
+-- Comments of an item in creation order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS comments_item_id_created_idx
+    ON comments (item_id, created);
+
+-- Cascading deletes of a user's comments
+CREATE INDEX CONCURRENTLY IF NOT EXISTS comments_author_id_idx ON comments (author_id);
+
+-- Other users' requests, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS requests_created_id_idx
+    ON requests (created DESC, id DESC);
@@ -0,0 +1,8 @@
+-- Hibernate now takes ids from these identity sequences in blocks of 50 (allocationSize) instead
+-- of reading them back after each insert, which lets it batch inserts. Rows inserted without an
+-- id still get one from the column default.
+ALTER TABLE users ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE requests ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE items ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE bookings ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE comments ALTER COLUMN id SET INCREMENT BY 50;
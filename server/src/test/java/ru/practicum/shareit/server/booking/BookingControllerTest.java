@@ -34,9 +34,11 @@ import ru.practicum.shareit.common.enums.BookingState;
 import ru.practicum.shareit.common.enums.BookingStatus;
 import ru.practicum.shareit.server.exception.AccessDeniedException;
 import ru.practicum.shareit.server.exception.BookingBadRequestException;
+import ru.practicum.shareit.server.exception.InvalidCursorException;
 import ru.practicum.shareit.server.exception.BookingNotFoundException;
 import ru.practicum.shareit.server.exception.ItemNotFoundException;
 import ru.practicum.shareit.server.exception.UserNotFoundException;
+import ru.practicum.shareit.server.pagination.CursorSlice;
 
 @WebMvcTest(BookingController.class)
 @DisplayName("Booking Controller WebMvc Tests")
@@ -383,4 +385,52 @@ class BookingControllerTest {
         verify(bookingService).getBookingsByOwner(eq(nonExistentBookingId), eq(BookingState.ALL),
             isNull(), isNull());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /bookings?cursor= - Success (first keyset page with next cursor)")
+    void getBookingsByBooker_whenCursorEmpty_shouldReturnFirstSliceAndNextCursorHeader()
+        throws Exception {
+        when(bookingService.scrollBookingsByBooker(bookerId, BookingState.ALL, "", 1))
+            .thenReturn(new CursorSlice<>(List.of(bookingDto1), "next-token"));
+
+        mockMvc.perform(get("/bookings")
+                .header(userIdHeaderName, bookerId)
+                .param("cursor", "")
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", "next-token"))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", is(booking1Id.intValue())));
+
+        verify(bookingService).scrollBookingsByBooker(bookerId, BookingState.ALL, "", 1);
+    }
+
+    @Test
+    @DisplayName("GET /bookings/owner?cursor=... - Success (last keyset page)")
+    void getBookingsByOwner_whenLastSlice_shouldOmitNextCursorHeader() throws Exception {
+        when(bookingService.scrollBookingsByOwner(ownerId, BookingState.WAITING, "token", null))
+            .thenReturn(new CursorSlice<>(List.of(bookingDto2), null));
+
+        mockMvc.perform(get("/bookings/owner")
+                .header(userIdHeaderName, ownerId)
+                .param("state", "WAITING")
+                .param("cursor", "token"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", is(booking2Id.intValue())));
+    }
+
+    @Test
+    @DisplayName("GET /bookings?cursor=... - Failure (Malformed Cursor)")
+    void getBookingsByBooker_whenCursorMalformed_shouldReturnBadRequest() throws Exception {
+        when(bookingService.scrollBookingsByBooker(eq(bookerId), eq(BookingState.ALL),
+            eq("bad"), any())).thenThrow(new InvalidCursorException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/bookings")
+                .header(userIdHeaderName, bookerId)
+                .param("cursor", "bad"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.responseCode", is(400)));
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.server.booking;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.enums.BookingStatus;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.user.User;
+
+/**
+ * Compares inserting bookings one statement per row, which was all {@code IDENTITY} ids allowed,
+ * against the JDBC batches pooled sequence ids make possible. Run with {@code mvn test -Pbenchmark}.
+ */
+// Logging 200k statements would dominate the timings
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Tag("benchmark")
+@Slf4j
+@DisplayName("Booking Insert Benchmark")
+class BookingInsertBenchmarkTest {
+
+    private static final int USERS = 100;
+    private static final int ITEMS_PER_USER = 5;
+    private static final int BOOKINGS = 100_000;
+    // Matches hibernate.jdbc.batch_size, so each flush sends one full batch
+    private static final int FLUSH_EVERY = 50;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    private EntityManager entityManager;
+    private LocalDateTime now;
+    private List<Long> userIds;
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = testEntityManager.getEntityManager();
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        entityManager.createNativeQuery(
+                "INSERT INTO users (email, name) " +
+                    "SELECT 'user' || n || '@example.com', 'User ' || n " +
+                    "FROM generate_series(1, :users) AS n")
+            .setParameter("users", USERS)
+            .executeUpdate();
+        entityManager.createNativeQuery(
+                "INSERT INTO items (name, description, owner_id, available) " +
+                    "SELECT 'Item ' || n, 'Benchmark item', u.id, true " +
+                    "FROM users u CROSS JOIN generate_series(1, :perUser) AS n")
+            .setParameter("perUser", ITEMS_PER_USER)
+            .executeUpdate();
+        userIds = entityManager.createQuery("SELECT u.id FROM User u ORDER BY u.id", Long.class)
+            .getResultList();
+        itemIds = entityManager.createQuery("SELECT i.id FROM Item i ORDER BY i.id", Long.class)
+            .getResultList();
+    }
+
+    @Test
+    @DisplayName("Batched inserts vs one insert statement per booking")
+    void insertBookings_beforeAndAfter() {
+        Session session = entityManager.unwrap(Session.class);
+
+        // "Before": no batching, so every booking is its own round trip
+        session.setJdbcBatchSize(1);
+        long unbatchedNanos = insertBookings();
+
+        session.setJdbcBatchSize(null);
+        long batchedNanos = insertBookings();
+
+        log.info("{} bookings: one per statement {} ms ({} rows/s), batched {} ms ({} rows/s)",
+            BOOKINGS, unbatchedNanos / 1_000_000, rowsPerSecond(unbatchedNanos),
+            batchedNanos / 1_000_000, rowsPerSecond(batchedNanos));
+        assertThat(entityManager.createQuery("SELECT COUNT(b) FROM Booking b", Long.class)
+            .getSingleResult(), equalTo(2L * BOOKINGS));
+    }
+
+    private long insertBookings() {
+        long start = System.nanoTime();
+        for (int n = 0; n < BOOKINGS; n++) {
+            Booking booking = new Booking();
+            booking.setStartDate(now.plusHours(n % 337 - 168));
+            booking.setEndDate(booking.getStartDate().plusHours(1 + n % 48));
+            booking.setItem(entityManager.getReference(Item.class,
+                itemIds.get(n % itemIds.size())));
+            booking.setBooker(entityManager.getReference(User.class,
+                userIds.get(n % userIds.size())));
+            booking.setStatus(BookingStatus.values()[n % BookingStatus.values().length]);
+            entityManager.persist(booking);
+            if ((n + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return System.nanoTime() - start;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return BOOKINGS * 1_000_000_000L / nanos;
+    }
+}
@@ -0,0 +1,206 @@
+package ru.practicum.shareit.server.booking;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.enums.BookingStatus;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.support.SqlStatementCounter;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserRepository;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Testcontainers
+@DisplayName("Booking Endpoints SQL Statement Count Tests")
+class BookingQueryCountTest {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final int ITEMS = 5;
+    private static final int BOOKERS = 10;
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SqlStatementCounter statementCounter;
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new SqlStatementCounter(entityManagerFactory);
+        owner = userRepository.save(user("Owner", "owner@example.com"));
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item();
+            item.setName("Item " + i);
+            item.setDescription("Description " + i);
+            item.setAvailable(true);
+            item.setOwner(owner);
+            items.add(itemRepository.save(item));
+        }
+
+        // Every booker books every item, so each page holds distinct items and bookers that
+        // would each cost a lazy load
+        LocalDateTime now = LocalDateTime.now();
+        for (int b = 0; b < BOOKERS; b++) {
+            User user = userRepository.save(user("Booker " + b, "booker" + b + "@example.com"));
+            for (int i = 0; i < ITEMS; i++) {
+                Booking booking = new Booking();
+                booking.setItem(items.get(i));
+                booking.setBooker(user);
+                booking.setStartDate(now.plusDays(b * ITEMS + i + 1));
+                booking.setEndDate(now.plusDays(b * ITEMS + i + 2));
+                booking.setStatus(BookingStatus.WAITING);
+                bookingRepository.save(booking);
+            }
+            booker = user;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE comments, bookings, items, requests, users CASCADE");
+    }
+
+    @Test
+    @DisplayName("GET /bookings should load items and booker with the bookings")
+    void getBookingsByBooker_shouldNotIssueStatementsPerBooking() throws Exception {
+        statementCounter.reset();
+
+        mockMvc.perform(get("/bookings").header(USER_ID_HEADER, booker.getId())
+                .param("from", "0").param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(ITEMS)))
+            .andExpect(jsonPath("$[0].item.name").exists())
+            .andExpect(jsonPath("$[0].booker.name").exists());
+
+        // bookings with items and booker, which also prove the user exists; the page is not
+        // full, so no count
+        assertThat(statementCounter.count(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/owner should load items and bookers with the bookings")
+    void getBookingsByOwner_shouldNotIssueStatementsPerBooking() throws Exception {
+        statementCounter.reset();
+
+        mockMvc.perform(get("/bookings/owner").header(USER_ID_HEADER, owner.getId())
+                .param("from", "0").param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(20)))
+            .andExpect(jsonPath("$[19].item.name").exists())
+            .andExpect(jsonPath("$[19].booker.name").exists());
+
+        // bookings with items and bookers, total count for the full page
+        assertThat(statementCounter.count(), equalTo(2L));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/owner?cursor= should load a keyset slice in one statement")
+    void scrollBookingsByOwner_shouldNotIssueStatementsPerBooking() throws Exception {
+        statementCounter.reset();
+
+        mockMvc.perform(get("/bookings/owner").header(USER_ID_HEADER, owner.getId())
+                .param("cursor", "").param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Next-Cursor"))
+            .andExpect(jsonPath("$", hasSize(20)))
+            .andExpect(jsonPath("$[19].booker.name").exists());
+
+        // bookings with items and bookers
+        assertThat(statementCounter.count(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/{id} should load the booking with its item and booker")
+    void getBooking_shouldLoadItemAndBookerWithBooking() throws Exception {
+        Booking booking = bookingRepository.findAll().getFirst();
+        statementCounter.reset();
+
+        mockMvc.perform(get("/bookings/{bookingId}", booking.getId())
+                .header(USER_ID_HEADER, owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.item.name").exists())
+            .andExpect(jsonPath("$.booker.name").exists());
+
+        // booking with item and booker; being the owner already proves the user exists
+        assertThat(statementCounter.count(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("PATCH /bookings/{id} should load the booking with its item and booker")
+    void approveBooking_shouldLoadItemAndBookerWithBooking() throws Exception {
+        Booking booking = bookingRepository.findAll().getFirst();
+        statementCounter.reset();
+
+        mockMvc.perform(patch("/bookings/{bookingId}", booking.getId())
+                .header(USER_ID_HEADER, owner.getId())
+                .param("approved", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("APPROVED"));
+
+        // booking with item and booker, status update
+        assertThat(statementCounter.count(), equalTo(2L));
+    }
+
+    private static User user(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -14,10 +14,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -25,8 +28,10 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import ru.practicum.shareit.common.dto.booking.BookingShortDto;
+import ru.practicum.shareit.common.enums.BookingState;
 import ru.practicum.shareit.common.enums.BookingStatus;
 import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.pagination.KeysetCursor;
 import ru.practicum.shareit.server.user.User;
 
 @DataJpaTest
@@ -156,7 +161,7 @@ class BookingRepositoryTest {
     void findByBooker_StateALL_shouldReturnAllBooker1Bookings() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("startDate").descending());
         Page<Booking> result = bookingRepository.findBookingsByBookerAndState(booker1.getId(),
-            "ALL", now, pageable);
+            BookingState.ALL, now, pageable);
 
         assertThat("Result content size should be 4 for ALL state for booker1", result.getContent(),
             hasSize(4));
@@ -171,7 +176,7 @@ class BookingRepositoryTest {
     void findByBooker_StateCURRENT_shouldReturnCurrentBooking() {
         Pageable pageable = Pageable.unpaged();
         Page<Booking> result = bookingRepository.findBookingsByBookerAndState(booker1.getId(),
-            "CURRENT", now, pageable);
+            BookingState.CURRENT, now, pageable);
 
         assertThat("Result content size should be 1 for CURRENT state for booker1",
             result.getContent(), hasSize(1));
@@ -184,7 +189,7 @@ class BookingRepositoryTest {
     void findByBooker_StatePAST_shouldReturnPastBooking() {
         Pageable pageable = Pageable.unpaged();
         Page<Booking> result = bookingRepository.findBookingsByBookerAndState(booker1.getId(),
-            "PAST", now, pageable);
+            BookingState.PAST, now, pageable);
 
         assertThat("Result content size should be 1 for PAST state for booker1",
             result.getContent(), hasSize(1));
@@ -197,7 +202,7 @@ class BookingRepositoryTest {
     void findByBooker_StateFUTURE_shouldReturnFutureBookings() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("startDate").descending());
         Page<Booking> result = bookingRepository.findBookingsByBookerAndState(booker1.getId(),
-            "FUTURE", now, pageable);
+            BookingState.FUTURE, now, pageable);
 
         assertThat("Result content size should be 2 for FUTURE state for booker1",
             result.getContent(), hasSize(2));
@@ -211,7 +216,7 @@ class BookingRepositoryTest {
     void findByBooker_StateWAITING_shouldReturnWaitingBooking() {
         Pageable pageable = Pageable.unpaged();
         Page<Booking> result = bookingRepository.findBookingsByBookerAndState(booker1.getId(),
-            "WAITING", now, pageable);
+            BookingState.WAITING, now, pageable);
 
         assertThat("Result content size should be 1 for WAITING state for booker1",
             result.getContent(), hasSize(1));
@@ -224,7 +229,7 @@ class BookingRepositoryTest {
     void findByBooker_StateREJECTED_shouldReturnRejectedBooking() {
         Pageable pageable = Pageable.unpaged();
         Page<Booking> result = bookingRepository.findBookingsByBookerAndState(booker1.getId(),
-            "REJECTED", now, pageable);
+            BookingState.REJECTED, now, pageable);
 
         assertThat("Result content size should be 1 for REJECTED state for booker1",
             result.getContent(), hasSize(1));
@@ -237,7 +242,7 @@ class BookingRepositoryTest {
     void findByBooker_StateALL_WithPagination_shouldReturnPaginated() {
         Pageable pageable = PageRequest.of(0, 2, Sort.by("startDate").descending());
         Page<Booking> result = bookingRepository.findBookingsByBookerAndState(booker1.getId(),
-            "ALL", now, pageable);
+            BookingState.ALL, now, pageable);
 
         assertThat("Result content size should be 2 for paginated result (page 0, size 2)",
             result.getContent(), hasSize(2));
@@ -259,7 +264,7 @@ class BookingRepositoryTest {
     void findByOwner_StateALL_shouldReturnAllOwnerItemBookings() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("startDate").descending());
         Page<Booking> result = bookingRepository.findBookingsByItemOwnerAndState(owner.getId(),
-            "ALL", now, pageable);
+            BookingState.ALL, now, pageable);
 
         assertThat("Result content size should be 5 for ALL state for owner", result.getContent(),
             hasSize(5));
@@ -277,7 +282,7 @@ class BookingRepositoryTest {
     void findByOwner_StateWAITING_shouldReturnWaitingBooking() {
         Pageable pageable = Pageable.unpaged();
         Page<Booking> result = bookingRepository.findBookingsByItemOwnerAndState(owner.getId(),
-            "WAITING", now, pageable);
+            BookingState.WAITING, now, pageable);
 
         assertThat("Result content size should be 1 for WAITING state for owner",
             result.getContent(), hasSize(1));
@@ -291,7 +296,7 @@ class BookingRepositoryTest {
     void findByOwner_StateFUTURE_shouldReturnFutureBookings() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("startDate").descending());
         Page<Booking> result = bookingRepository.findBookingsByItemOwnerAndState(owner.getId(),
-            "FUTURE", now, pageable);
+            BookingState.FUTURE, now, pageable);
 
         assertThat("Result content size should be 3 for FUTURE state for owner",
             result.getContent(), hasSize(3));
@@ -302,12 +307,45 @@ class BookingRepositoryTest {
             containsInAnyOrder(booking3Future, booking4Rejected, booking5OtherUser));
     }
 
+    @Test
+    @DisplayName("findBookingsByItemOwnerAndState (CURRENT) should return current booking for "
+        + "owner's items")
+    void findByOwner_StateCURRENT_shouldReturnCurrentBooking() {
+        Page<Booking> result = bookingRepository.findBookingsByItemOwnerAndState(owner.getId(),
+            BookingState.CURRENT, now, Pageable.unpaged());
+
+        assertThat("Result content should contain only the current booking", result.getContent(),
+            contains(booking2Current));
+    }
+
+    @Test
+    @DisplayName("findBookingsByItemOwnerAndState (PAST) should return past booking for "
+        + "owner's items")
+    void findByOwner_StatePAST_shouldReturnPastBooking() {
+        Page<Booking> result = bookingRepository.findBookingsByItemOwnerAndState(owner.getId(),
+            BookingState.PAST, now, Pageable.unpaged());
+
+        assertThat("Result content should contain only the past booking", result.getContent(),
+            contains(booking1Past));
+    }
+
+    @Test
+    @DisplayName("findBookingsByItemOwnerAndState (REJECTED) should return rejected booking for "
+        + "owner's items")
+    void findByOwner_StateREJECTED_shouldReturnRejectedBooking() {
+        Page<Booking> result = bookingRepository.findBookingsByItemOwnerAndState(owner.getId(),
+            BookingState.REJECTED, now, Pageable.unpaged());
+
+        assertThat("Result content should contain only the rejected booking", result.getContent(),
+            contains(booking4Rejected));
+    }
+
     @Test
     @DisplayName("findBookingsByItemOwnerAndState for owner of item2 (booker1)")
     void findByOwner_OwnerIsBooker1_StateWAITING_shouldReturnBooking6() {
         Pageable pageable = Pageable.unpaged();
         Page<Booking> result = bookingRepository.findBookingsByItemOwnerAndState(booker1.getId(),
-            "WAITING", now, pageable);
+            BookingState.WAITING, now, pageable);
 
         assertThat(
             "Result content size should be 1 for WAITING state for booker1 (as owner of item2)",
@@ -317,6 +355,38 @@ class BookingRepositoryTest {
             result.getContent().getFirst(), equalTo(booking6OwnerItem));
     }
 
+    @Test
+    @DisplayName("scrollBookingsByBookerAndState should walk all bookings page by page")
+    void scrollByBooker_StateALL_shouldReturnConsecutiveKeysetPages() {
+        Window<Booking> first = bookingRepository.scrollBookingsByBookerAndState(booker1.getId(),
+            BookingState.ALL, now, ScrollPosition.keyset(), Limit.of(2));
+
+        assertThat("First page should hold the two latest bookings", first.getContent(),
+            contains(booking4Rejected, booking3Future));
+        assertThat("First page should report more bookings", first.hasNext(), is(true));
+
+        Window<Booking> second = bookingRepository.scrollBookingsByBookerAndState(booker1.getId(),
+            BookingState.ALL, now, new KeysetCursor(first.getContent().getLast().getStartDate(),
+                first.getContent().getLast().getId()).toScrollPosition("startDate"), Limit.of(2));
+
+        assertThat("Second page should continue after the cursor", second.getContent(),
+            contains(booking2Current, booking1Past));
+        assertThat("Second page should be the last one", second.hasNext(), is(false));
+    }
+
+    @Test
+    @DisplayName("scrollBookingsByItemOwnerAndState should apply the state filter")
+    void scrollByOwner_StateFUTURE_shouldReturnFutureBookingsAfterCursor() {
+        Window<Booking> result = bookingRepository.scrollBookingsByItemOwnerAndState(
+            owner.getId(), BookingState.FUTURE, now,
+            new KeysetCursor(booking5OtherUser.getStartDate(), booking5OtherUser.getId())
+                .toScrollPosition("startDate"), Limit.of(10));
+
+        assertThat("Result should hold the future bookings that start before the cursor",
+            result.getContent(), contains(booking4Rejected, booking3Future));
+        assertThat(result.hasNext(), is(false));
+    }
+
     @Test
     @DisplayName("findPastAndCurrentApprovedBookingsShortForItems should return past and current "
         + "approved")
@@ -374,6 +444,29 @@ class BookingRepositoryTest {
             equalTo(booking1Past.getId()));
     }
 
+    @Test
+    @DisplayName("findLastAndNextApprovedBookingsForItems should return one row per item")
+    void findLastAndNext_shouldReturnLatestStartedAndEarliestUpcomingApproved() {
+        List<LastNextBookingView> result =
+            bookingRepository.findLastAndNextApprovedBookingsForItems(
+                List.of(item1.getId(), item2.getId()), now);
+
+        assertThat("Should return a row for each requested item", result, hasSize(2));
+        LastNextBookingView item1View = result.stream()
+            .filter(view -> view.getItemId().equals(item1.getId())).findFirst().orElseThrow();
+        assertThat("Last booking should be the current approved one",
+            item1View.lastBooking(), equalTo(new BookingShortDto(booking2Current.getId(),
+                booker1.getId(), item1.getId(), booking2Current.getStartDate(),
+                booking2Current.getEndDate())));
+        assertThat("Next booking should be the earliest upcoming approved one",
+            item1View.nextBooking().getId(), equalTo(booking5OtherUser.getId()));
+        LastNextBookingView item2View = result.stream()
+            .filter(view -> view.getItemId().equals(item2.getId())).findFirst().orElseThrow();
+        assertThat("Item without approved bookings should have none", item2View.lastBooking(),
+            is(nullValue()));
+        assertThat(item2View.nextBooking(), is(nullValue()));
+    }
+
     @Test
     @DisplayName("findNextApprovedBookingsShortForItems should return future approved")
     void findNextApproved_shouldReturnCorrectDtos() {
@@ -11,17 +11,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.server.support.TestEntityLookups.entityLookup;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,14 +31,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import ru.practicum.shareit.common.dto.booking.BookingDto;
 import ru.practicum.shareit.common.dto.booking.NewBookingDto;
 import ru.practicum.shareit.common.enums.BookingState;
@@ -46,10 +50,13 @@ import ru.practicum.shareit.server.booking.mapper.BookingMapper;
 import ru.practicum.shareit.server.exception.AccessDeniedException;
 import ru.practicum.shareit.server.exception.BookingBadRequestException;
 import ru.practicum.shareit.server.exception.BookingNotFoundException;
+import ru.practicum.shareit.server.exception.InvalidCursorException;
 import ru.practicum.shareit.server.exception.ItemNotFoundException;
 import ru.practicum.shareit.server.exception.UserNotFoundException;
 import ru.practicum.shareit.server.item.Item;
 import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.pagination.CursorSlice;
+import ru.practicum.shareit.server.pagination.KeysetCursor;
 import ru.practicum.shareit.server.user.User;
 import ru.practicum.shareit.server.user.UserRepository;
 
@@ -78,7 +85,6 @@ class BookingServiceImplTest {
     private ItemRepository itemRepository;
     @Mock
     private BookingMapper bookingMapper;
-    @InjectMocks
     private BookingServiceImpl bookingService;
     private User owner;
     private User booker;
@@ -98,6 +104,8 @@ class BookingServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        bookingService = new BookingServiceImpl(bookingRepository,
+            entityLookup(userRepository, itemRepository), bookingMapper);
         now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
         startValid = now.plusDays(1);
         endValid = now.plusDays(2);
@@ -347,8 +355,7 @@ class BookingServiceImplTest {
         @Test
         @DisplayName("should return BookingDto when requested by Booker")
         void getById_whenRequestedByBooker_shouldReturnDto() {
-            when(userRepository.findById(bookerId)).thenReturn(Optional.of(booker));
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
             when(bookingMapper.mapToDto(bookingWaiting)).thenReturn(bookingDtoWaiting);
 
@@ -356,16 +363,15 @@ class BookingServiceImplTest {
 
             assertThat("Should return the booking DTO when requested by the booker", result,
                 equalTo(bookingDtoWaiting));
-            verify(userRepository).findById(bookerId);
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(userRepository, never()).existsById(anyLong());
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verify(bookingMapper).mapToDto(bookingWaiting);
         }
 
         @Test
         @DisplayName("should return BookingDto when requested by Owner")
         void getById_whenRequestedByOwner_shouldReturnDto() {
-            when(userRepository.findById(ownerId)).thenReturn(Optional.of(owner));
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
             when(bookingMapper.mapToDto(bookingWaiting)).thenReturn(bookingDtoWaiting);
 
@@ -373,36 +379,36 @@ class BookingServiceImplTest {
 
             assertThat("Should return the booking DTO when requested by the owner", result,
                 equalTo(bookingDtoWaiting));
-            verify(userRepository).findById(ownerId);
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(userRepository, never()).existsById(anyLong());
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verify(bookingMapper).mapToDto(bookingWaiting);
         }
 
         @Test
         @DisplayName("should throw UserNotFoundException when requesting user not found")
         void getById_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(bookerId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(bookerId)).thenReturn(false);
 
             assertThrows(UserNotFoundException.class,
                 () -> bookingService.getById(bookerId, bookingWaitingId),
                 "Should throw UserNotFoundException when requesting user is not found");
 
-            verify(userRepository).findById(bookerId);
-            verifyNoInteractions(bookingRepository, bookingMapper);
+            verify(userRepository).existsById(bookerId);
+            verifyNoInteractions(bookingMapper);
         }
 
         @Test
         @DisplayName("should throw BookingNotFoundException when booking not found")
         void getById_whenBookingNotFound_shouldThrowBookingNotFoundException() {
-            when(userRepository.findById(bookerId)).thenReturn(Optional.of(booker));
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(bookerId)).thenReturn(true);
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(Optional.empty());
 
             assertThrows(BookingNotFoundException.class,
                 () -> bookingService.getById(bookerId, bookingWaitingId),
                 "Should throw BookingNotFoundException when booking is not found");
 
-            verify(userRepository).findById(bookerId);
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(userRepository).existsById(bookerId);
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verifyNoInteractions(bookingMapper);
         }
 
@@ -411,17 +417,16 @@ class BookingServiceImplTest {
         void getById_whenUserNotBookerOrOwner_shouldThrowAccessDeniedException() {
             User unrelatedUser = new User();
             unrelatedUser.setId(3L);
-            when(userRepository.findById(unrelatedUser.getId())).thenReturn(
-                Optional.of(unrelatedUser));
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(
+            when(userRepository.existsById(unrelatedUser.getId())).thenReturn(true);
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
 
             assertThrows(AccessDeniedException.class,
                 () -> bookingService.getById(unrelatedUser.getId(), bookingWaitingId),
                 "Should throw AccessDeniedException when user is not the booker or owner");
 
-            verify(userRepository).findById(unrelatedUser.getId());
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(userRepository).existsById(unrelatedUser.getId());
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verifyNoInteractions(bookingMapper);
         }
     }
@@ -433,7 +438,7 @@ class BookingServiceImplTest {
         @Test
         @DisplayName("should approve booking when owner approves")
         void approveBooking_whenApproveTrueAndUserIsOwner_shouldSetStatusApproved() {
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
             when(bookingMapper.mapToDto(any(Booking.class))).thenReturn(bookingDtoApproved);
 
@@ -441,7 +446,7 @@ class BookingServiceImplTest {
 
             assertThat("Booking status should be APPROVED after owner approves", result.getStatus(),
                 equalTo(BookingStatus.APPROVED.toString()));
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verify(bookingRepository).save(bookingArgumentCaptor.capture());
             Booking savedBooking = bookingArgumentCaptor.getValue();
             assertThat("Saved booking status in repository should be APPROVED",
@@ -454,7 +459,7 @@ class BookingServiceImplTest {
         void approveBooking_whenApproveFalseAndUserIsOwner_shouldSetStatusRejected() {
             BookingDto rejectedDto = new BookingDto(bookingWaitingId, null, null, startValid,
                 endValid, BookingStatus.REJECTED.toString());
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
             when(bookingMapper.mapToDto(any(Booking.class))).thenReturn(rejectedDto);
 
@@ -462,7 +467,7 @@ class BookingServiceImplTest {
 
             assertThat("Booking status should be REJECTED after owner rejects", result.getStatus(),
                 equalTo(BookingStatus.REJECTED.toString()));
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verify(bookingRepository).save(bookingArgumentCaptor.capture());
             Booking savedBooking = bookingArgumentCaptor.getValue();
             assertThat("Saved booking status in repository should be REJECTED",
@@ -473,13 +478,13 @@ class BookingServiceImplTest {
         @Test
         @DisplayName("should throw BookingNotFoundException when booking not found")
         void approveBooking_whenBookingNotFound_shouldThrowBookingNotFoundException() {
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(Optional.empty());
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(Optional.empty());
 
             assertThrows(BookingNotFoundException.class,
                 () -> bookingService.approveBooking(bookingWaitingId, ownerId, true),
                 "Should throw BookingNotFoundException when booking is not found");
 
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verifyNoInteractions(bookingMapper);
             verify(bookingRepository, never()).save(any());
         }
@@ -487,14 +492,14 @@ class BookingServiceImplTest {
         @Test
         @DisplayName("should throw AccessDeniedException when user is not owner")
         void approveBooking_whenUserNotOwner_shouldThrowAccessDeniedException() {
-            when(bookingRepository.findById(bookingWaitingId)).thenReturn(
+            when(bookingRepository.findWithItemAndBookerById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
 
             assertThrows(AccessDeniedException.class,
                 () -> bookingService.approveBooking(bookingWaitingId, bookerId, true),
                 "Should throw AccessDeniedException when user is not the owner of the item");
 
-            verify(bookingRepository).findById(bookingWaitingId);
+            verify(bookingRepository).findWithItemAndBookerById(bookingWaitingId);
             verifyNoInteractions(bookingMapper);
             verify(bookingRepository, never()).save(any());
         }
@@ -507,14 +512,13 @@ class BookingServiceImplTest {
         @Test
         @DisplayName("should delete booking when user is booker")
         void delete_whenUserIsBooker_shouldDeleteBooking() {
-            when(userRepository.findById(bookerId)).thenReturn(Optional.of(booker));
             when(bookingRepository.findById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
 
             assertDoesNotThrow(() -> bookingService.delete(bookingWaitingId, bookerId),
                 "Should not throw an exception when booker deletes their booking");
 
-            verify(userRepository).findById(bookerId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(bookingRepository).findById(bookingWaitingId);
             verify(bookingRepository).deleteById(bookingWaitingId);
         }
@@ -522,27 +526,27 @@ class BookingServiceImplTest {
         @Test
         @DisplayName("should throw UserNotFoundException when user not found")
         void delete_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(bookerId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(bookerId)).thenReturn(false);
 
             assertThrows(UserNotFoundException.class,
                 () -> bookingService.delete(bookingWaitingId, bookerId),
                 "Should throw UserNotFoundException when user is not found");
 
-            verify(userRepository).findById(bookerId);
-            verifyNoInteractions(bookingRepository);
+            verify(userRepository).existsById(bookerId);
+            verify(bookingRepository, never()).deleteById(anyLong());
         }
 
         @Test
         @DisplayName("should throw BookingNotFoundException when booking not found")
         void delete_whenBookingNotFound_shouldThrowBookingNotFoundException() {
-            when(userRepository.findById(bookerId)).thenReturn(Optional.of(booker));
+            when(userRepository.existsById(bookerId)).thenReturn(true);
             when(bookingRepository.findById(bookingWaitingId)).thenReturn(Optional.empty());
 
             assertThrows(BookingNotFoundException.class,
                 () -> bookingService.delete(bookingWaitingId, bookerId),
                 "Should throw BookingNotFoundException when booking is not found");
 
-            verify(userRepository).findById(bookerId);
+            verify(userRepository).existsById(bookerId);
             verify(bookingRepository).findById(bookingWaitingId);
             verify(bookingRepository, never()).deleteById(anyLong());
         }
@@ -550,7 +554,7 @@ class BookingServiceImplTest {
         @Test
         @DisplayName("should throw AccessDeniedException when user is not booker")
         void delete_whenUserIsNotBooker_shouldThrowAccessDeniedException() {
-            when(userRepository.findById(ownerId)).thenReturn(Optional.of(owner));
+            when(userRepository.existsById(ownerId)).thenReturn(true);
             when(bookingRepository.findById(bookingWaitingId)).thenReturn(
                 Optional.of(bookingWaiting));
 
@@ -558,7 +562,7 @@ class BookingServiceImplTest {
                 () -> bookingService.delete(bookingWaitingId, ownerId),
                 "Should throw AccessDeniedException when user is not the booker");
 
-            verify(userRepository).findById(ownerId);
+            verify(userRepository).existsById(ownerId);
             verify(bookingRepository).findById(bookingWaitingId);
             verify(bookingRepository, never()).deleteById(anyLong());
         }
@@ -577,9 +581,8 @@ class BookingServiceImplTest {
         void getBookingsByBooker_shouldCallRepositoryCorrectly() {
             Page<Booking> page = new PageImpl<>(List.of(bookingWaiting),
                 PageRequest.of(0, size, defaultSort), 1);
-            when(userRepository.findById(bookerId)).thenReturn(Optional.of(booker));
             when(bookingRepository.findBookingsByBookerAndState(eq(bookerId),
-                eq(BookingState.WAITING.name()), any(LocalDateTime.class),
+                eq(BookingState.WAITING), any(LocalDateTime.class),
                 any(Pageable.class))).thenReturn(page);
             when(bookingMapper.mapToDto(bookingWaiting)).thenReturn(bookingDtoWaiting);
 
@@ -589,9 +592,9 @@ class BookingServiceImplTest {
             assertThat("Should return a list with one booking DTO", result, hasSize(1));
             assertThat("The returned booking DTO should be the expected one", result.getFirst(),
                 equalTo(bookingDtoWaiting));
-            verify(userRepository).findById(bookerId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(bookingRepository).findBookingsByBookerAndState(eq(bookerId),
-                eq(BookingState.WAITING.name()), timeArgumentCaptor.capture(),
+                eq(BookingState.WAITING), timeArgumentCaptor.capture(),
                 pageableArgumentCaptor.capture());
             Pageable capturedPageable = pageableArgumentCaptor.getValue();
             assertThat("Captured page number should be correct", capturedPageable.getPageNumber(),
@@ -608,9 +611,8 @@ class BookingServiceImplTest {
         void getBookingsByOwner_shouldCallRepositoryCorrectly() {
             Page<Booking> page = new PageImpl<>(List.of(bookingWaiting),
                 PageRequest.of(0, size, defaultSort), 1);
-            when(userRepository.findById(ownerId)).thenReturn(Optional.of(owner));
             when(bookingRepository.findBookingsByItemOwnerAndState(eq(ownerId),
-                eq(BookingState.WAITING.name()), any(LocalDateTime.class),
+                eq(BookingState.WAITING), any(LocalDateTime.class),
                 any(Pageable.class))).thenReturn(page);
             when(bookingMapper.mapToDto(bookingWaiting)).thenReturn(bookingDtoWaiting);
 
@@ -620,9 +622,9 @@ class BookingServiceImplTest {
             assertThat("Should return a list with one booking DTO", result, hasSize(1));
             assertThat("The returned booking DTO should be the expected one", result.getFirst(),
                 equalTo(bookingDtoWaiting));
-            verify(userRepository).findById(ownerId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(bookingRepository).findBookingsByItemOwnerAndState(eq(ownerId),
-                eq(BookingState.WAITING.name()), timeArgumentCaptor.capture(),
+                eq(BookingState.WAITING), timeArgumentCaptor.capture(),
                 pageableArgumentCaptor.capture());
             Pageable capturedPageable = pageableArgumentCaptor.getValue();
             assertThat("Captured page number should be correct", capturedPageable.getPageNumber(),
@@ -638,43 +640,47 @@ class BookingServiceImplTest {
         @DisplayName("getBookingsByBooker should use unpaged when from/size invalid")
         void getBookingsByBooker_whenPagingInvalid_shouldUseUnpaged() {
             Page<Booking> page = new PageImpl<>(List.of(bookingWaiting));
-            when(userRepository.findById(bookerId)).thenReturn(Optional.of(booker));
             when(bookingRepository.findBookingsByBookerAndState(eq(bookerId),
-                eq(BookingState.ALL.name()), any(LocalDateTime.class),
+                eq(BookingState.ALL), any(LocalDateTime.class),
                 eq(Pageable.unpaged()))).thenReturn(page);
             when(bookingMapper.mapToDto(bookingWaiting)).thenReturn(bookingDtoWaiting);
 
             bookingService.getBookingsByBooker(bookerId, BookingState.ALL, null, size);
-            verify(bookingRepository).findBookingsByBookerAndState(anyLong(), anyString(),
+            verify(bookingRepository).findBookingsByBookerAndState(anyLong(), any(BookingState.class),
                 any(LocalDateTime.class), eq(Pageable.unpaged()));
 
             bookingService.getBookingsByBooker(bookerId, BookingState.ALL, -1, size);
-            verify(bookingRepository, times(2)).findBookingsByBookerAndState(anyLong(), anyString(),
+            verify(bookingRepository, times(2)).findBookingsByBookerAndState(anyLong(), any(BookingState.class),
                 any(LocalDateTime.class), eq(Pageable.unpaged()));
 
             bookingService.getBookingsByBooker(bookerId, BookingState.ALL, from, 0);
-            verify(bookingRepository, times(3)).findBookingsByBookerAndState(anyLong(), anyString(),
+            verify(bookingRepository, times(3)).findBookingsByBookerAndState(anyLong(), any(BookingState.class),
                 any(LocalDateTime.class), eq(Pageable.unpaged()));
         }
 
         @Test
         @DisplayName("getBookingsByBooker should throw UserNotFoundException")
         void getBookingsByBooker_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(bookerId)).thenReturn(Optional.empty());
+            when(bookingRepository.findBookingsByBookerAndState(anyLong(), any(BookingState.class),
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(Page.empty());
+            when(userRepository.existsById(bookerId)).thenReturn(false);
             assertThrows(UserNotFoundException.class,
                 () -> bookingService.getBookingsByBooker(bookerId, BookingState.ALL, from, size),
                 "Should throw UserNotFoundException when booker is not found");
-            verifyNoInteractions(bookingRepository, bookingMapper);
+            verifyNoInteractions(bookingMapper);
         }
 
         @Test
         @DisplayName("getBookingsByOwner should throw UserNotFoundException")
         void getBookingsByOwner_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(ownerId)).thenReturn(Optional.empty());
+            when(bookingRepository.findBookingsByItemOwnerAndState(anyLong(),
+                any(BookingState.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Page.empty());
+            when(userRepository.existsById(ownerId)).thenReturn(false);
             assertThrows(UserNotFoundException.class,
                 () -> bookingService.getBookingsByOwner(ownerId, BookingState.ALL, from, size),
                 "Should throw UserNotFoundException when owner is not found");
-            verifyNoInteractions(bookingRepository, bookingMapper);
+            verifyNoInteractions(bookingMapper);
         }
 
         @Test
@@ -682,8 +688,8 @@ class BookingServiceImplTest {
             "getBookingsByBooker should return empty list when repository returns empty " + "page")
         void getBookingsByBooker_whenNoBookingsMatch_shouldReturnEmptyList() {
             Page<Booking> emptyPage = Page.empty();
-            when(userRepository.findById(bookerId)).thenReturn(Optional.of(booker));
-            when(bookingRepository.findBookingsByBookerAndState(anyLong(), anyString(),
+            when(userRepository.existsById(bookerId)).thenReturn(true);
+            when(bookingRepository.findBookingsByBookerAndState(anyLong(), any(BookingState.class),
                 any(LocalDateTime.class), any(Pageable.class))).thenReturn(emptyPage);
 
             List<BookingDto> result = bookingService.getBookingsByBooker(bookerId, BookingState.ALL,
@@ -694,4 +700,79 @@ class BookingServiceImplTest {
             verify(bookingMapper, never()).mapToDto(any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("scrollBookingsBy[Booker/Owner] Tests")
+    class ScrollBookingsByRoleTests {
+
+        @Captor
+        ArgumentCaptor<ScrollPosition> positionArgumentCaptor;
+
+        @Test
+        @DisplayName("scrollBookingsByBooker should start from the top and return the next cursor")
+        void scrollBookingsByBooker_whenNoCursor_shouldReturnFirstSliceWithNextCursor() {
+            when(bookingRepository.scrollBookingsByBookerAndState(eq(bookerId),
+                eq(BookingState.ALL), any(LocalDateTime.class), eq(ScrollPosition.keyset()),
+                eq(Limit.of(1)))).thenReturn(
+                Window.from(List.of(bookingWaiting), i -> ScrollPosition.keyset(), true));
+            when(bookingMapper.mapToDto(bookingWaiting)).thenReturn(bookingDtoWaiting);
+
+            CursorSlice<BookingDto> result = bookingService.scrollBookingsByBooker(bookerId,
+                BookingState.ALL, "", 1);
+
+            assertThat("Slice should hold the mapped booking", result.content(),
+                equalTo(List.of(bookingDtoWaiting)));
+            assertThat("Next cursor should point after the last booking",
+                KeysetCursor.decode(result.nextCursor()),
+                equalTo(new KeysetCursor(startValid, bookingWaitingId)));
+        }
+
+        @Test
+        @DisplayName("scrollBookingsByOwner should continue after the given cursor")
+        void scrollBookingsByOwner_whenCursorGiven_shouldScrollFromItAndEndWithoutCursor() {
+            KeysetCursor cursor = new KeysetCursor(startValid.plusDays(1), 99L);
+            when(bookingRepository.scrollBookingsByItemOwnerAndState(eq(ownerId),
+                eq(BookingState.WAITING), any(LocalDateTime.class), any(ScrollPosition.class),
+                eq(Limit.of(10)))).thenReturn(
+                Window.from(List.of(bookingWaiting), i -> ScrollPosition.keyset(), false));
+            when(bookingMapper.mapToDto(bookingWaiting)).thenReturn(bookingDtoWaiting);
+
+            CursorSlice<BookingDto> result = bookingService.scrollBookingsByOwner(ownerId,
+                BookingState.WAITING, cursor.encode(), null);
+
+            assertThat("Last slice should have no next cursor", result.hasNext(), is(false));
+            verify(bookingRepository).scrollBookingsByItemOwnerAndState(eq(ownerId),
+                eq(BookingState.WAITING), any(LocalDateTime.class),
+                positionArgumentCaptor.capture(), eq(Limit.of(10)));
+            assertThat("Scroll should start at the cursor keys",
+                ((KeysetScrollPosition) positionArgumentCaptor.getValue()).getKeys(),
+                equalTo(Map.of("startDate", cursor.timestamp(), "id", cursor.id())));
+        }
+
+        @Test
+        @DisplayName("scrollBookingsByBooker should reject a malformed cursor")
+        void scrollBookingsByBooker_whenCursorMalformed_shouldThrowInvalidCursorException() {
+
+            assertThrows(InvalidCursorException.class,
+                () -> bookingService.scrollBookingsByBooker(bookerId, BookingState.ALL,
+                    "not-a-cursor", 10),
+                "Should throw InvalidCursorException for a malformed cursor");
+            verifyNoInteractions(bookingRepository);
+        }
+
+        @Test
+        @DisplayName("scrollBookingsByOwner should throw UserNotFoundException")
+        void scrollBookingsByOwner_whenUserNotFound_shouldThrowUserNotFoundException() {
+            when(bookingRepository.scrollBookingsByItemOwnerAndState(eq(ownerId),
+                eq(BookingState.ALL), any(LocalDateTime.class), eq(ScrollPosition.keyset()),
+                eq(Limit.of(10)))).thenReturn(
+                Window.from(List.of(), i -> ScrollPosition.keyset(), false));
+            when(userRepository.existsById(ownerId)).thenReturn(false);
+
+            assertThrows(UserNotFoundException.class,
+                () -> bookingService.scrollBookingsByOwner(ownerId, BookingState.ALL, "", 10),
+                "Should throw UserNotFoundException when owner is not found");
+            verifyNoInteractions(bookingMapper);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package ru.practicum.shareit.server.booking;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.enums.BookingState;
+
+/**
+ * Compares the per-state booking list queries and their indexes against the single OR-chain query
+ * they replaced. Run with {@code mvn test -Pbenchmark}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Tag("benchmark")
+@Slf4j
+@DisplayName("Booking State Query Benchmark")
+class BookingStateQueryBenchmarkTest {
+
+    private static final int USERS = 500;
+    private static final int ITEMS_PER_USER = 5;
+    private static final int BOOKINGS = 200_000;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 50;
+
+    private static final String OR_CHAIN =
+        "AND (" +
+            "   (:stateName = 'ALL') OR " +
+            "   (:stateName = 'CURRENT' AND :now BETWEEN b.startDate AND b.endDate) OR " +
+            "   (:stateName = 'PAST' AND b.endDate < :now) OR " +
+            "   (:stateName = 'FUTURE' AND b.startDate > :now) OR " +
+            "   (:stateName = 'WAITING' AND b.status = ru.practicum.shareit.common.enums.BookingStatus.WAITING) OR " +
+            "   (:stateName = 'REJECTED' AND b.status = ru.practicum.shareit.common.enums.BookingStatus.REJECTED)" +
+            ") ";
+    private static final String OLD_BOOKER_WHERE =
+        "FROM Booking b WHERE b.booker.id = :userId " + OR_CHAIN;
+    private static final String OLD_OWNER_WHERE =
+        "FROM Booking b WHERE b.item.owner.id = :userId " + OR_CHAIN;
+
+    private static final List<String> NEW_INDEXES = List.of(
+        "items_owner_id_idx",
+        "bookings_item_id_status_start_date_idx",
+        "bookings_booker_id_start_date_idx",
+        "bookings_booker_id_status_start_date_idx");
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    private EntityManager entityManager;
+    private LocalDateTime now;
+    private Long userId;
+    private final Pageable pageable = PageRequest.of(0, 20,
+        Sort.by("startDate").descending().and(Sort.by("id").descending()));
+
+    @BeforeEach
+    void setUp() {
+        entityManager = testEntityManager.getEntityManager();
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        entityManager.createNativeQuery(
+                "INSERT INTO users (email, name) " +
+                    "SELECT 'user' || n || '@example.com', 'User ' || n " +
+                    "FROM generate_series(1, :users) AS n")
+            .setParameter("users", USERS)
+            .executeUpdate();
+        entityManager.createNativeQuery(
+                "INSERT INTO items (name, description, owner_id, available) " +
+                    "SELECT 'Item ' || n, 'Benchmark item', u.id, true " +
+                    "FROM users u CROSS JOIN generate_series(1, :perUser) AS n")
+            .setParameter("perUser", ITEMS_PER_USER)
+            .executeUpdate();
+        // Bookings spread evenly over bookers and items, a week either side of now
+        entityManager.createNativeQuery(
+                "INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) " +
+                    "SELECT s, s + (1 + n % 48) * interval '1 hour', " +
+                    "(SELECT min(id) FROM items) + n % :items, " +
+                    "(SELECT min(id) FROM users) + n % :users, " +
+                    "CAST(CASE n % 3 WHEN 0 THEN 'WAITING' WHEN 1 THEN 'APPROVED' " +
+                    "ELSE 'REJECTED' END AS bookingstatus) " +
+                    "FROM generate_series(1, :bookings) AS n, " +
+                    "LATERAL (SELECT CAST(:now AS timestamp) " +
+                    "+ (n % 337 - 168) * interval '1 hour' AS s) AS t")
+            .setParameter("items", USERS * ITEMS_PER_USER)
+            .setParameter("users", USERS)
+            .setParameter("bookings", BOOKINGS)
+            .setParameter("now", now)
+            .executeUpdate();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+
+        userId = ((Number) entityManager.createNativeQuery("SELECT min(id) FROM users")
+            .getSingleResult()).longValue();
+    }
+
+    @Test
+    @DisplayName("Per-state queries should return the same pages as the OR-chain query")
+    void perStateQueries_shouldMatchOrChainQuery() {
+        for (BookingState state : BookingState.values()) {
+            assertThat("Booker " + state, ids(bookingRepository.findBookingsByBookerAndState(
+                    userId, state, now, pageable).getContent()),
+                equalTo(ids(oldQuery(OLD_BOOKER_WHERE, state))));
+            assertThat("Owner " + state, ids(bookingRepository.findBookingsByItemOwnerAndState(
+                    userId, state, now, pageable).getContent()),
+                equalTo(ids(oldQuery(OLD_OWNER_WHERE, state))));
+        }
+    }
+
+    @Test
+    @DisplayName("Per-state queries with indexes vs OR-chain query without them")
+    void perStateQueries_beforeAndAfter() {
+        Map<BookingState, long[]> results = new EnumMap<>(BookingState.class);
+        for (BookingState state : BookingState.values()) {
+            results.put(state, new long[] {
+                time(() -> bookingRepository.findBookingsByBookerAndState(userId, state, now,
+                    pageable)),
+                time(() -> bookingRepository.findBookingsByItemOwnerAndState(userId, state, now,
+                    pageable)),
+                0, 0});
+        }
+
+        // "Before": drop the new indexes inside the test transaction, which rolls them back after
+        NEW_INDEXES.forEach(index ->
+            entityManager.createNativeQuery("DROP INDEX " + index).executeUpdate());
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+        for (BookingState state : BookingState.values()) {
+            long[] timings = results.get(state);
+            timings[2] = time(() -> oldPage(OLD_BOOKER_WHERE, state));
+            timings[3] = time(() -> oldPage(OLD_OWNER_WHERE, state));
+        }
+
+        StringBuilder report = new StringBuilder(
+            "\nstate     booker before/after (us)   owner before/after (us)");
+        results.forEach((state, timings) -> report.append(String.format(
+            "%n%-9s %10d / %-10d       %10d / %-10d", state, timings[2] / 1_000,
+            timings[0] / 1_000, timings[3] / 1_000, timings[1] / 1_000)));
+        log.info("{} bookings, {} users:{}", BOOKINGS, USERS, report);
+        assertThat(results.keySet(), hasSize(BookingState.values().length));
+    }
+
+    private List<Booking> oldQuery(String where, BookingState state) {
+        return entityManager.createQuery(
+                "SELECT b " + where + "ORDER BY b.startDate DESC, b.id DESC", Booking.class)
+            .setParameter("userId", userId)
+            .setParameter("stateName", state.name())
+            .setParameter("now", now)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+    }
+
+    // Page<Booking> also issues a count query, so the old path is timed with one too
+    private Object oldPage(String where, BookingState state) {
+        oldQuery(where, state);
+        return entityManager.createQuery("SELECT COUNT(b) " + where, Long.class)
+            .setParameter("userId", userId)
+            .setParameter("stateName", state.name())
+            .setParameter("now", now)
+            .getSingleResult();
+    }
+
+    private static List<Long> ids(List<Booking> bookings) {
+        return bookings.stream().map(Booking::getId).toList();
+    }
+
+    private long time(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,156 @@
+package ru.practicum.shareit.server.booking;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.dto.booking.BookingShortDto;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.user.User;
+
+/**
+ * Compares the per-item last/next booking lookup against the two unbounded queries it replaced on
+ * items with a long booking history. Run with {@code mvn test -Pbenchmark}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Tag("benchmark")
+@Slf4j
+@DisplayName("Last/Next Booking Lookup Benchmark")
+class LastNextBookingBenchmarkTest {
+
+    private static final int ITEMS = 20;
+    private static final int BOOKINGS_PER_ITEM = 2_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    private List<Long> itemIds;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        User owner = new User();
+        owner.setName("Owner");
+        owner.setEmail("owner@example.com");
+        owner = entityManager.persistAndFlush(owner);
+
+        User booker = new User();
+        booker.setName("Booker");
+        booker.setEmail("booker@example.com");
+        booker = entityManager.persistAndFlush(booker);
+
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item();
+            item.setName("Item " + i);
+            item.setDescription("Benchmark item");
+            item.setAvailable(true);
+            item.setOwner(owner);
+            entityManager.persist(item);
+        }
+        entityManager.flush();
+
+        // Half of each item's history is in the past, half upcoming, every booking approved
+        entityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) " +
+                    "SELECT CAST(:now AS timestamp) + (n - :half) * interval '1 hour', " +
+                    "CAST(:now AS timestamp) + (n - :half) * interval '1 hour' + interval '30 minutes', " +
+                    "i.id, :bookerId, 'APPROVED' " +
+                    "FROM items i CROSS JOIN generate_series(1, :perItem) AS n " +
+                    "WHERE i.owner_id = :ownerId")
+            .setParameter("now", now)
+            .setParameter("half", BOOKINGS_PER_ITEM / 2)
+            .setParameter("perItem", BOOKINGS_PER_ITEM)
+            .setParameter("bookerId", booker.getId())
+            .setParameter("ownerId", owner.getId())
+            .executeUpdate();
+        entityManager.getEntityManager().createNativeQuery("ANALYZE bookings").executeUpdate();
+
+        itemIds = entityManager.getEntityManager()
+            .createQuery("SELECT i.id FROM Item i WHERE i.owner.id = :ownerId", Long.class)
+            .setParameter("ownerId", owner.getId())
+            .getResultList();
+    }
+
+    @Test
+    @DisplayName("Lateral lookup should read one row per item instead of the whole history")
+    void lastAndNextLookup_shouldReturnOneRowPerItem() {
+        Supplier<Integer> twoQueries = () ->
+            bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(itemIds, now).size()
+                + bookingRepository.findNextApprovedBookingsShortForItems(itemIds, now).size();
+        Supplier<Integer> lateralQuery = () ->
+            bookingRepository.findLastAndNextApprovedBookingsForItems(itemIds, now).size();
+
+        int twoQueryRows = twoQueries.get();
+        int lateralRows = lateralQuery.get();
+        long twoQueryNanos = time(twoQueries);
+        long lateralNanos = time(lateralQuery);
+
+        log.info("Two queries: {} rows, {} us/op; lateral query: {} rows, {} us/op",
+            twoQueryRows, twoQueryNanos / 1_000, lateralRows, lateralNanos / 1_000);
+        assertThat(twoQueryRows, equalTo(ITEMS * BOOKINGS_PER_ITEM));
+        assertThat(lateralRows, equalTo(ITEMS));
+    }
+
+    @Test
+    @DisplayName("Lateral lookup should pick the same bookings as the two-query version")
+    void lastAndNextLookup_shouldMatchTwoQueryResult() {
+        List<BookingShortDto> past =
+            bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(itemIds, now);
+        List<BookingShortDto> next =
+            bookingRepository.findNextApprovedBookingsShortForItems(itemIds, now);
+
+        for (LastNextBookingView view :
+            bookingRepository.findLastAndNextApprovedBookingsForItems(itemIds, now)) {
+            assertThat(view.lastBooking(), equalTo(past.stream()
+                .filter(booking -> booking.getItemId().equals(view.getItemId()))
+                .findFirst().orElseThrow()));
+            assertThat(view.nextBooking(), equalTo(next.stream()
+                .filter(booking -> booking.getItemId().equals(view.getItemId()))
+                .findFirst().orElseThrow()));
+        }
+    }
+
+    private static long time(Supplier<Integer> query) {
+        long start = System.nanoTime();
+        LongStream.range(0, ITERATIONS).forEach(i -> query.get());
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,152 @@
+package ru.practicum.shareit.server.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.dto.booking.NewBookingDto;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.support.SqlStatementCounter;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserRepository;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Testcontainers
+@DisplayName("Hibernate Second-Level Cache Tests")
+class HibernateCacheTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SqlStatementCounter statementCounter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new SqlStatementCounter(entityManagerFactory);
+        user = new User();
+        user.setName("John");
+        user.setEmail("john@example.com");
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE comments, bookings, items, requests, users CASCADE");
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} should be served from the cache once the user was loaded")
+    void getUser_whenLoadedBefore_shouldNotQuery() throws Exception {
+        mockMvc.perform(get("/users/{id}", user.getId())).andExpect(status().isOk());
+        statementCounter.reset();
+
+        mockMvc.perform(get("/users/{id}", user.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("John"));
+
+        assertThat(statementCounter.count(), equalTo(0L));
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+            .tag("region", User.CACHE_REGION).tag("result", "hit")
+            .functionCounter().count(), greaterThanOrEqualTo(1.0));
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} should see an update made after the user was cached")
+    void getUser_whenUpdatedAfterCaching_shouldReturnUpdatedUser() throws Exception {
+        mockMvc.perform(get("/users/{id}", user.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(patch("/users/{id}", user.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Johnny\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/{id}", user.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Johnny"));
+    }
+
+    @Test
+    @DisplayName("Items of a deleted user should not be served from the cache")
+    void deleteUser_whenItemsCached_shouldNotServeThem() throws Exception {
+        User booker = new User();
+        booker.setName("Jane");
+        booker.setEmail("jane@example.com");
+        booker = userRepository.save(booker);
+        Item item = new Item();
+        item.setName("Drill");
+        item.setDescription("Cordless drill");
+        item.setAvailable(true);
+        item.setOwner(user);
+        item = itemRepository.save(item);
+        mockMvc.perform(get("/items/{id}", item.getId()).header("X-Sharer-User-Id", booker.getId()))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/users/{id}", user.getId())).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/items/{id}", item.getId()).header("X-Sharer-User-Id", booker.getId()))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(post("/bookings").header("X-Sharer-User-Id", booker.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new NewBookingDto(item.getId(),
+                    LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2)))))
+            .andExpect(status().isNotFound());
+    }
+}
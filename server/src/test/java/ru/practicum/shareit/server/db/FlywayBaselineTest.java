@@ -0,0 +1,89 @@
+package ru.practicum.shareit.server.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItems;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+
+/**
+ * Starts the application on a database created by the original {@code schema.sql}, before any
+ * migration existed, and checks that Flyway brings it up to date.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@DisplayName("Flyway Baseline Tests")
+class FlywayBaselineTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(database.getJdbcUrl(),
+            database.getUsername(), database.getPassword());
+             Statement statement = connection.createStatement()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy-schema.sql"));
+            statement.execute("INSERT INTO users (email, name) "
+                + "VALUES ('owner@example.com', 'Owner')");
+            statement.execute("INSERT INTO items (name, description, owner_id, available) "
+                + "VALUES ('Drill', 'Cordless drill', 1, true)");
+        }
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    @DisplayName("Migrations after the baseline should be applied to a legacy database")
+    void migrate_whenLegacySchema_shouldApplyLaterMigrations() {
+        List<String> versions = jdbcTemplate.queryForList(
+            "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank",
+            String.class);
+
+        assertThat(versions, contains("1", "2", "3", "4"));
+        assertThat(jdbcTemplate.queryForList("SELECT indexname FROM pg_indexes", String.class),
+            hasItems("items_search_vector_idx", "items_search_text_trgm_idx",
+                "bookings_booker_id_start_date_idx", "requests_created_id_idx"));
+    }
+
+    @Test
+    @DisplayName("Full-text and fuzzy search should work on rows from before the migration")
+    void search_whenLegacyRows_shouldFindThem() {
+        List<Item> fullText = itemRepository.searchFullText("drill", Pageable.unpaged());
+        itemRepository.setWordSimilarityThreshold(0.35);
+        List<Item> fuzzy = itemRepository.searchFuzzy("dril", 10);
+
+        assertThat(fullText.stream().map(Item::getName).toList(), contains("Drill"));
+        assertThat(fuzzy.stream().map(Item::getName).toList(), contains("Drill"));
+    }
+}
@@ -0,0 +1,192 @@
+package ru.practicum.shareit.server.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.not;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.enums.BookingState;
+import ru.practicum.shareit.server.booking.BookingRepository;
+import ru.practicum.shareit.server.item.CommentRepository;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.request.ItemRequestRepository;
+import ru.practicum.shareit.server.support.CapturingStatementInspector;
+
+/**
+ * Checks that the statements behind the hot repository queries can be served from indexes. Each
+ * call's SQL is captured and explained as a generic plan with sequential scans disabled, so a
+ * {@code Seq Scan} is only planned where no index fits.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "ru.practicum.shareit.server.support.CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@DisplayName("Query Plan Index Usage Tests")
+class QueryPlanTest {
+
+    private static final long USER_ID = 1L;
+    private static final List<Long> IDS = List.of(1L, 2L, 3L);
+    // A second page, so Spring Data also issues the count query
+    private static final Pageable BOOKING_PAGE = PageRequest.of(1, 10,
+        Sort.by("startDate").descending());
+    private static final Pageable REQUEST_PAGE = PageRequest.of(1, 10,
+        Sort.by("created").descending());
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("Booking list and last/next booking queries should use indexes")
+    void bookingQueries_shouldUseIndexes() throws SQLException {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        for (BookingState state : BookingState.values()) {
+            queries.put("booker " + state, () -> bookingRepository.findBookingsByBookerAndState(
+                USER_ID, state, now, BOOKING_PAGE));
+            queries.put("owner " + state, () -> bookingRepository.findBookingsByItemOwnerAndState(
+                USER_ID, state, now, BOOKING_PAGE));
+            queries.put("booker scroll " + state, () -> bookingRepository
+                .scrollBookingsByBookerAndState(USER_ID, state, now, ScrollPosition.keyset(),
+                    Limit.of(10)));
+            queries.put("owner scroll " + state, () -> bookingRepository
+                .scrollBookingsByItemOwnerAndState(USER_ID, state, now, ScrollPosition.keyset(),
+                    Limit.of(10)));
+        }
+        queries.put("by id with item and booker",
+            () -> bookingRepository.findWithItemAndBookerById(USER_ID));
+        queries.put("last and next for items",
+            () -> bookingRepository.findLastAndNextApprovedBookingsForItems(IDS, now));
+        queries.put("past and current for items",
+            () -> bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(IDS, now));
+        queries.put("next for items",
+            () -> bookingRepository.findNextApprovedBookingsShortForItems(IDS, now));
+
+        assertUseIndexes(queries);
+    }
+
+    @Test
+    @DisplayName("Item owner, search and comment queries should use indexes")
+    void itemQueries_shouldUseIndexes() throws SQLException {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("by owner", () -> itemRepository.findByOwnerId(USER_ID));
+        queries.put("full-text search",
+            () -> itemRepository.searchFullText("drill", PageRequest.of(0, 10)));
+        queries.put("fuzzy search", () -> itemRepository.searchFuzzy("dril", 10));
+        queries.put("comments with authors",
+            () -> commentRepository.findAllWithAuthorByItemIds(IDS));
+
+        assertUseIndexes(queries);
+    }
+
+    @Test
+    @DisplayName("Item request queries should use indexes")
+    void itemRequestQueries_shouldUseIndexes() throws SQLException {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("own with items",
+            () -> itemRequestRepository.findByRequestorIdOrderByCreatedDesc(USER_ID));
+        queries.put("own scroll", () -> itemRequestRepository.findByRequestorId(USER_ID,
+            ScrollPosition.keyset(), ItemRequestRepository.KEYSET_SORT, Limit.of(10)));
+        queries.put("others' ids",
+            () -> itemRequestRepository.findIdsByRequestorIdNot(USER_ID, REQUEST_PAGE));
+        queries.put("by ids with items",
+            () -> itemRequestRepository.findAllByIdInFetchingItems(IDS));
+        queries.put("by id with items",
+            () -> itemRequestRepository.findByIdFetchingItems(USER_ID));
+
+        assertUseIndexes(queries);
+    }
+
+    private void assertUseIndexes(Map<String, Runnable> queries) throws SQLException {
+        try (Connection connection = explainConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+                CapturingStatementInspector.clear();
+                query.getValue().run();
+                List<String> statements = CapturingStatementInspector.statements();
+                assertThat(query.getKey() + " should issue SQL", statements, not(empty()));
+                for (String sql : statements) {
+                    List<String> plan = explain(statement, sql);
+                    assertThat(query.getKey() + ":\n" + sql + "\n" + String.join("\n", plan),
+                        plan, everyItem(not(containsString("Seq Scan"))));
+                }
+            }
+        }
+    }
+
+    // The simple query protocol sends $1, $2, ... as text for GENERIC_PLAN to leave unbound,
+    // where the extended one would expect values for them
+    private static Connection explainConnection() throws SQLException {
+        String url = database.getJdbcUrl();
+        return DriverManager.getConnection(
+            url + (url.contains("?") ? "&" : "?") + "preferQueryMode=simple",
+            database.getUsername(), database.getPassword());
+    }
+
+    private static List<String> explain(Statement statement, String sql) throws SQLException {
+        StringBuilder numbered = new StringBuilder("EXPLAIN (GENERIC_PLAN) ");
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        List<String> plan = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery(numbered.toString())) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        }
+        return plan;
+    }
+}
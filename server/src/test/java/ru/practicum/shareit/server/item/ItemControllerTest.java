@@ -2,9 +2,12 @@ package ru.practicum.shareit.server.item;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.refEq;
@@ -23,6 +26,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -277,7 +281,8 @@ class ItemControllerTest {
     @DisplayName("GET /items/search - Success")
     void searchItems_whenQueryProvided_shouldReturnOkAndItemList() throws Exception {
         String query = "search text";
-        when(itemService.searchItems(eq(query), eq(ownerUserId))).thenReturn(List.of(itemDto1));
+        when(itemService.searchItems(eq(query), eq(ownerUserId), isNull(), isNull())).thenReturn(
+            List.of(itemDto1));
 
         mockMvc.perform(
                 get("/items/search").header(userIdHeaderName, ownerUserId).param("text", query))
@@ -285,14 +290,14 @@ class ItemControllerTest {
             .andExpect(jsonPath("$", hasSize(1)))
             .andExpect(jsonPath("$[0].id", is(item1Id.intValue())));
 
-        verify(itemService).searchItems(eq(query), eq(ownerUserId));
+        verify(itemService).searchItems(eq(query), eq(ownerUserId), isNull(), isNull());
     }
 
     @Test
     @DisplayName("GET /items/search - Success (Blank Query)")
     void searchItems_whenQueryBlank_shouldReturnOkAndEmptyList() throws Exception {
         String query = "";
-        when(itemService.searchItems(eq(query), eq(ownerUserId))).thenReturn(
+        when(itemService.searchItems(eq(query), eq(ownerUserId), isNull(), isNull())).thenReturn(
             Collections.emptyList());
 
         mockMvc.perform(
@@ -300,7 +305,7 @@ class ItemControllerTest {
             .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(jsonPath("$", hasSize(0)));
 
-        verify(itemService).searchItems(eq(query), eq(ownerUserId));
+        verify(itemService).searchItems(eq(query), eq(ownerUserId), isNull(), isNull());
     }
 
     @Test
@@ -308,7 +313,8 @@ class ItemControllerTest {
     void searchItems_whenUserNotFound_shouldReturnNotFound() throws Exception {
         String query = "search text";
         String errorMsg = "Search user not found";
-        when(itemService.searchItems(anyString(), eq(nonExistentItemId))).thenThrow(
+        when(itemService.searchItems(anyString(), eq(nonExistentItemId), isNull(), isNull()))
+            .thenThrow(
             new UserNotFoundException(errorMsg));
 
         mockMvc.perform(
@@ -319,7 +325,72 @@ class ItemControllerTest {
             .andExpect(jsonPath("$.error", is(errorMsg)))
             .andExpect(jsonPath("$.responseCode", is(404)));
 
-        verify(itemService).searchItems(eq(query), eq(nonExistentItemId));
+        verify(itemService).searchItems(eq(query), eq(nonExistentItemId), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("GET /items/search - Success (Paged)")
+    void searchItems_whenFromAndSizeProvided_shouldPassThemToService() throws Exception {
+        String query = "search text";
+        when(itemService.searchItems(eq(query), eq(ownerUserId), eq(20), eq(10))).thenReturn(
+            List.of(itemDto1));
+
+        mockMvc.perform(get("/items/search").header(userIdHeaderName, ownerUserId)
+                .param("text", query).param("from", "20").param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)));
+
+        verify(itemService).searchItems(eq(query), eq(ownerUserId), eq(20), eq(10));
+    }
+
+    @Test
+    @DisplayName("GET /items/search/stream - Success (NDJSON)")
+    void streamSearchItems_whenMatchesExist_shouldWriteOneJsonObjectPerLine() throws Exception {
+        String query = "search text";
+        doAnswer(invocation -> {
+            Consumer<ItemDto> action = invocation.getArgument(2);
+            action.accept(itemDto1);
+            action.accept(itemDto1);
+            return null;
+        }).when(itemService).streamSearchItems(eq(query), eq(ownerUserId), any());
+
+        String body = mockMvc.perform(get("/items/search/stream")
+                .header(userIdHeaderName, ownerUserId).param("text", query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        String line = objectMapper.writeValueAsString(itemDto1);
+        assertEquals(line + "\n" + line + "\n", body,
+            "Each item should be written on its own line");
+    }
+
+    @Test
+    @DisplayName("GET /items/search/stream - Failure (User Not Found)")
+    void streamSearchItems_whenUserNotFound_shouldReturnNotFound() throws Exception {
+        String errorMsg = "Search user not found";
+        doThrow(new UserNotFoundException(errorMsg)).when(itemService)
+            .streamSearchItems(anyString(), eq(nonExistentItemId), any());
+
+        mockMvc.perform(get("/items/search/stream").header(userIdHeaderName, nonExistentItemId)
+                .param("text", "search text"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error", is(errorMsg)));
+    }
+
+    @Test
+    @DisplayName("GET /items/suggest - Success")
+    void suggestItemNames_whenPrefixProvided_shouldReturnOkAndNames() throws Exception {
+        String prefix = "dr";
+        when(itemService.suggestItemNames(eq(prefix))).thenReturn(List.of("Drill", "Drum"));
+
+        mockMvc.perform(
+                get("/items/suggest").header(userIdHeaderName, ownerUserId).param("prefix", prefix))
+            .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0]", is("Drill")));
+
+        verify(itemService).suggestItemNames(eq(prefix));
     }
 
     @Test
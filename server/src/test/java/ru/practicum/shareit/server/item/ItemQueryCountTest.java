@@ -0,0 +1,196 @@
+package ru.practicum.shareit.server.item;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.Booking;
+import ru.practicum.shareit.server.booking.BookingRepository;
+import ru.practicum.shareit.server.support.SqlStatementCounter;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserRepository;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Testcontainers
+@DisplayName("Item Endpoints SQL Statement Count Tests")
+class ItemQueryCountTest {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final int ITEMS = 5;
+    private static final int COMMENTS_PER_ITEM = 3;
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SqlStatementCounter statementCounter;
+    private User owner;
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new SqlStatementCounter(entityManagerFactory);
+        owner = userRepository.save(user("Owner", "owner@example.com"));
+
+        // Every comment has its own author, so lazily loading authors would show up per comment
+        items = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item();
+            item.setName("Item " + i);
+            item.setDescription("Description " + i);
+            item.setAvailable(true);
+            item.setOwner(owner);
+            item = itemRepository.save(item);
+            items.add(item);
+            for (int j = 0; j < COMMENTS_PER_ITEM; j++) {
+                User author = userRepository.save(
+                    user("Author " + i + "-" + j, "author" + i + "-" + j + "@example.com"));
+                bookingRepository.save(booking(item, author, now.minusDays(2 + j)));
+                Comment comment = new Comment();
+                comment.setText("Comment " + j + " on item " + i);
+                comment.setItem(item);
+                comment.setAuthor(author);
+                comment.setCreated(now.minusDays(1));
+                commentRepository.save(comment);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE comments, bookings, items, requests, users CASCADE");
+    }
+
+    @Test
+    @DisplayName("GET /items should issue a fixed number of statements regardless of item count")
+    void getUserItems_shouldNotIssueStatementsPerItemOrComment() throws Exception {
+        statementCounter.reset();
+
+        mockMvc.perform(get("/items").header(USER_ID_HEADER, owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(ITEMS)))
+            .andExpect(jsonPath("$[0].comments", hasSize(COMMENTS_PER_ITEM)))
+            .andExpect(jsonPath("$[0].lastBooking.id").exists());
+
+        // owner's items, last/next bookings, comments with authors; owning items already proves
+        // the user exists
+        assertThat(statementCounter.count(), equalTo(3L));
+    }
+
+    @Test
+    @DisplayName("GET /items/{id} should load comments with their authors in one statement")
+    void getItem_shouldNotIssueStatementsPerComment() throws Exception {
+        statementCounter.reset();
+
+        mockMvc.perform(get("/items/{itemId}", items.getFirst().getId())
+                .header(USER_ID_HEADER, owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.comments", hasSize(COMMENTS_PER_ITEM)));
+
+        // comments with authors, last/next bookings; the item is in the second-level cache since
+        // it was saved, and the owner needs no user check
+        assertThat(statementCounter.count(), equalTo(2L));
+    }
+
+    @Test
+    @DisplayName("GET /items/{id} by another user should only probe that the user exists")
+    void getItem_whenNotOwner_shouldProbeUserExistence() throws Exception {
+        User other = userRepository.save(user("Other", "other@example.com"));
+        statementCounter.reset();
+
+        mockMvc.perform(get("/items/{itemId}", items.getFirst().getId())
+                .header(USER_ID_HEADER, other.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lastBooking").doesNotExist());
+
+        // user existence probe, comments with authors; the item comes from the second-level cache
+        assertThat(statementCounter.count(), equalTo(2L));
+    }
+
+    @Test
+    @DisplayName("GET /items/{id} by another user should not probe the user again once cached")
+    void getItem_whenNotOwnerSeenBefore_shouldSkipUserProbe() throws Exception {
+        User other = userRepository.save(user("Other", "other@example.com"));
+        mockMvc.perform(get("/items/{itemId}", items.getFirst().getId())
+                .header(USER_ID_HEADER, other.getId()))
+            .andExpect(status().isOk());
+        statementCounter.reset();
+
+        mockMvc.perform(get("/items/{itemId}", items.getLast().getId())
+                .header(USER_ID_HEADER, other.getId()))
+            .andExpect(status().isOk());
+
+        // comments with authors
+        assertThat(statementCounter.count(), equalTo(1L));
+    }
+
+    private static User user(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return user;
+    }
+
+    private static Booking booking(Item item, User booker, LocalDateTime start) {
+        Booking booking = new Booking();
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStartDate(start);
+        booking.setEndDate(start.plusDays(1));
+        booking.setStatus(BookingStatus.APPROVED);
+        return booking;
+    }
+}
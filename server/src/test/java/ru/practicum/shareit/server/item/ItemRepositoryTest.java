@@ -1,6 +1,7 @@
 package ru.practicum.shareit.server.item;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
@@ -11,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,12 +21,16 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.search.ItemSearchDocument;
 import ru.practicum.shareit.server.user.User;
 
 @DataJpaTest
@@ -223,6 +229,161 @@ class ItemRepositoryTest {
             foundItems, containsInAnyOrder(item1Owner1, item2Owner1, item3Owner2));
     }
 
+    @Test
+    @DisplayName("paged search should return the requested page ordered by id")
+    void search_whenPaged_shouldReturnRequestedPage() {
+        List<Item> firstPage = itemRepository.search("", PageRequest.of(0, 2));
+        List<Item> secondPage = itemRepository.search("", PageRequest.of(1, 2));
+
+        assertThat(firstPage, contains(item1Owner1, item2Owner1));
+        assertThat(secondPage, contains(item3Owner2));
+    }
+
+    @Test
+    @DisplayName("streamSearch should stream matching available items as DTOs")
+    void streamSearch_shouldStreamMatchingItems() {
+        try (Stream<ItemDto> items = itemRepository.streamSearch("DRI")) {
+            assertThat(items.map(ItemDto::getId).toList(),
+                contains(item1Owner1.getId(), item3Owner2.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("searchFullText should match word prefixes in name and description")
+    void searchFullText_whenPrefixMatches_shouldReturnAvailableItems() {
+        List<Item> byName = itemRepository.searchFullText("dri:*", Pageable.unpaged());
+        List<Item> byDescription = itemRepository.searchFullText("screwdriv:*",
+            Pageable.unpaged());
+
+        assertThat("Prefix should match the name 'Drill'", byName, contains(item1Owner1));
+        assertThat("Prefix should match 'screwdrivers' in the description", byDescription,
+            contains(item3Owner2));
+    }
+
+    @Test
+    @DisplayName("searchFullText should require every term to match")
+    void searchFullText_whenSeveralTerms_shouldAndThem() {
+        List<Item> foundItems = itemRepository.searchFullText("sturdy:* & ladder:*",
+            Pageable.unpaged());
+        List<Item> noItems = itemRepository.searchFullText("sturdy:* & drill:*",
+            Pageable.unpaged());
+
+        assertThat(foundItems, contains(item2Owner1));
+        assertThat(noItems, is(empty()));
+    }
+
+    @Test
+    @DisplayName("searchFullText should rank name matches above description matches")
+    void searchFullText_whenTermInNameAndDescription_shouldRankNameFirst() {
+        Item drillBits = new Item();
+        drillBits.setName("Bits");
+        drillBits.setDescription("Drill bits for concrete");
+        drillBits.setAvailable(true);
+        drillBits.setOwner(owner2);
+        entityManager.persistAndFlush(drillBits);
+
+        List<Item> foundItems = itemRepository.searchFullText("drill:*", Pageable.unpaged());
+
+        assertThat(foundItems, contains(item1Owner1, drillBits));
+    }
+
+    @Test
+    @DisplayName("searchFullText should return the requested page of the ranking")
+    void searchFullText_whenPaged_shouldReturnRequestedPage() {
+        Item drillBits = new Item();
+        drillBits.setName("Bits");
+        drillBits.setDescription("Drill bits for concrete");
+        drillBits.setAvailable(true);
+        drillBits.setOwner(owner2);
+        entityManager.persistAndFlush(drillBits);
+
+        assertThat(itemRepository.searchFullText("drill:*", PageRequest.of(0, 1)),
+            contains(item1Owner1));
+        assertThat(itemRepository.searchFullText("drill:*", PageRequest.of(1, 1)),
+            contains(drillBits));
+    }
+
+    @Test
+    @DisplayName("streamFullText should stream matches in rank order")
+    void streamFullText_shouldStreamMatchesInRankOrder() {
+        try (Stream<Item> items = itemRepository.streamFullText("s:*")) {
+            assertThat(items.toList(), contains(item3Owner2, item2Owner1));
+        }
+    }
+
+    @Test
+    @DisplayName("searchFullText should NOT find unavailable items")
+    void searchFullText_whenOnlyUnavailableMatches_shouldReturnEmptyList() {
+        List<Item> foundItems = itemRepository.searchFullText("sprayer:*", Pageable.unpaged());
+
+        assertThat(foundItems, is(empty()));
+    }
+
+    @Test
+    @DisplayName("searchFuzzy should tolerate typos in the query")
+    void searchFuzzy_whenQueryMisspelled_shouldReturnSimilarItems() {
+        itemRepository.setWordSimilarityThreshold(0.35);
+
+        List<Item> foundItems = itemRepository.searchFuzzy("drel", 10);
+
+        assertThat("'drel' should still find the drill", foundItems, contains(item1Owner1));
+    }
+
+    @Test
+    @DisplayName("searchFuzzy should respect the similarity threshold")
+    void searchFuzzy_whenThresholdTooHigh_shouldReturnEmptyList() {
+        itemRepository.setWordSimilarityThreshold(0.9);
+
+        assertThat(itemRepository.searchFuzzy("drel", 10), is(empty()));
+    }
+
+    @Test
+    @DisplayName("searchFuzzy should return at most limit items, most similar first")
+    void searchFuzzy_whenMoreMatchesThanLimit_shouldReturnBestOnes() {
+        Item drills = new Item();
+        drills.setName("Drills");
+        drills.setDescription("Set of two");
+        drills.setAvailable(true);
+        drills.setOwner(owner2);
+        entityManager.persistAndFlush(drills);
+        itemRepository.setWordSimilarityThreshold(0.3);
+
+        List<Item> foundItems = itemRepository.searchFuzzy("drills", 1);
+
+        assertThat(foundItems, contains(drills));
+    }
+
+    @Test
+    @DisplayName("searchFuzzy should NOT find unavailable items")
+    void searchFuzzy_whenOnlyUnavailableMatches_shouldReturnEmptyList() {
+        itemRepository.setWordSimilarityThreshold(0.35);
+
+        assertThat(itemRepository.searchFuzzy("spraer", 10), is(empty()));
+    }
+
+    @Test
+    @DisplayName("findAllAvailableSearchDocuments should project only available items")
+    void findAllAvailableSearchDocuments_shouldReturnAvailableItems() {
+        List<ItemSearchDocument> documents = itemRepository.findAllAvailableSearchDocuments();
+
+        assertThat(documents, containsInAnyOrder(
+            ItemSearchDocument.of(item1Owner1),
+            ItemSearchDocument.of(item2Owner1),
+            ItemSearchDocument.of(item3Owner2)));
+    }
+
+    @Test
+    @DisplayName("findSearchDocumentsByOwnerId should project every item of the owner")
+    void findSearchDocumentsByOwnerId_shouldReturnAllItemsOfOwner() {
+        List<ItemSearchDocument> documents =
+            itemRepository.findSearchDocumentsByOwnerId(owner1.getId());
+
+        assertThat(documents, containsInAnyOrder(
+            ItemSearchDocument.of(item1Owner1),
+            ItemSearchDocument.of(item2Owner1),
+            ItemSearchDocument.of(item4Owner1Unavailable)));
+    }
+
     @Test
     @DisplayName("save should throw DataIntegrityViolationException for null name")
     void save_whenNullName_shouldThrowException() {
@@ -233,8 +394,7 @@ class ItemRepositoryTest {
         itemWithNullName.setName(null);
 
         assertThrows(DataIntegrityViolationException.class, () -> {
-            itemRepository.save(itemWithNullName);
-            entityManager.flush();
+            itemRepository.saveAndFlush(itemWithNullName);
         }, "Should throw DataIntegrityViolationException when saving item with null name");
     }
 
@@ -248,8 +408,7 @@ class ItemRepositoryTest {
         itemWithNullDesc.setDescription(null);
 
         assertThrows(DataIntegrityViolationException.class, () -> {
-            itemRepository.save(itemWithNullDesc);
-            entityManager.flush();
+            itemRepository.saveAndFlush(itemWithNullDesc);
         }, "Should throw DataIntegrityViolationException when saving item with null description");
     }
 
@@ -263,8 +422,7 @@ class ItemRepositoryTest {
         itemWithNullAvail.setAvailable(null);
 
         assertThrows(DataIntegrityViolationException.class, () -> {
-            itemRepository.save(itemWithNullAvail);
-            entityManager.flush();
+            itemRepository.saveAndFlush(itemWithNullAvail);
         }, "Should throw DataIntegrityViolationException when saving item with null availability");
     }
 
@@ -278,8 +436,7 @@ class ItemRepositoryTest {
         itemWithNullOwner.setOwner(null);
 
         assertThrows(DataIntegrityViolationException.class, () -> {
-            itemRepository.save(itemWithNullOwner);
-            entityManager.flush();
+            itemRepository.saveAndFlush(itemWithNullOwner);
         }, "Should throw DataIntegrityViolationException when saving item with null owner");
     }
 }
\ No newline at end of file
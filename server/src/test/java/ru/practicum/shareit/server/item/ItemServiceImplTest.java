@@ -14,6 +14,7 @@ import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -23,11 +24,19 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.server.support.TestEntityLookups.entityLookup;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,9 +44,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.common.dto.booking.BookingShortDto;
 import ru.practicum.shareit.common.dto.item.CommentDto;
 import ru.practicum.shareit.common.dto.item.ItemDto;
@@ -46,6 +60,7 @@ import ru.practicum.shareit.common.dto.item.NewCommentDto;
 import ru.practicum.shareit.common.dto.item.NewItemDto;
 import ru.practicum.shareit.common.dto.item.UpdateItemDto;
 import ru.practicum.shareit.server.booking.BookingRepository;
+import ru.practicum.shareit.server.booking.LastNextBookingView;
 import ru.practicum.shareit.server.exception.AccessDeniedException;
 import ru.practicum.shareit.server.exception.BookingBadRequestException;
 import ru.practicum.shareit.server.exception.ItemNotFoundException;
@@ -53,6 +68,12 @@ import ru.practicum.shareit.server.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.server.exception.UserNotFoundException;
 import ru.practicum.shareit.server.item.mapper.CommentMapper;
 import ru.practicum.shareit.server.item.mapper.ItemMapper;
+import ru.practicum.shareit.server.item.search.FuzzyItemSearch;
+import ru.practicum.shareit.server.item.search.ItemChangedEvent;
+import ru.practicum.shareit.server.item.search.ItemNameSuggester;
+import ru.practicum.shareit.server.item.search.ItemSearchCache;
+import ru.practicum.shareit.server.item.search.ItemSearchDocument;
+import ru.practicum.shareit.server.item.search.ItemSearchEngine;
 import ru.practicum.shareit.server.request.ItemRequest;
 import ru.practicum.shareit.server.request.ItemRequestRepository;
 import ru.practicum.shareit.server.user.User;
@@ -76,16 +97,27 @@ class ItemServiceImplTest {
     private CommentMapper commentMapper;
     @Mock
     private ItemRequestRepository itemRequestRepository;
+    @Mock
+    private ItemSearchEngine itemSearchEngine;
+    @Mock
+    private FuzzyItemSearch fuzzyItemSearch;
+    @Mock
+    private ItemNameSuggester itemNameSuggester;
+    @Spy
+    private ItemSearchCache itemSearchCache =
+        new ItemSearchCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
-    @InjectMocks
     private ItemServiceImpl itemService;
 
+    private static final ProjectionFactory PROJECTION_FACTORY =
+        new SpelAwareProxyProjectionFactory();
+
     @Captor
     ArgumentCaptor<Item> itemArgumentCaptor;
     @Captor
     ArgumentCaptor<Comment> commentArgumentCaptor;
-    @Captor
-    ArgumentCaptor<LocalDateTime> timeArgumentCaptor;
 
     private User ownerUser;
     private User otherUser;
@@ -116,6 +148,10 @@ class ItemServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        itemService = new ItemServiceImpl(itemRepository,
+            entityLookup(userRepository, itemRepository), bookingRepository, commentRepository,
+            itemMapper, commentMapper, itemRequestRepository, itemSearchEngine, fuzzyItemSearch,
+            itemNameSuggester, itemSearchCache, eventPublisher);
         ownerUser = new User();
         ownerUser.setId(ownerUserId);
         ownerUser.setName("Owner");
@@ -187,6 +223,25 @@ class ItemServiceImplTest {
             LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
     }
 
+    private static LastNextBookingView bookingView(Long itemId, BookingShortDto last,
+        BookingShortDto next) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("itemId", itemId);
+        if (last != null) {
+            row.put("lastId", last.getId());
+            row.put("lastBookerId", last.getBookerId());
+            row.put("lastStart", last.getStart());
+            row.put("lastEnd", last.getEnd());
+        }
+        if (next != null) {
+            row.put("nextId", next.getId());
+            row.put("nextBookerId", next.getBookerId());
+            row.put("nextStart", next.getStart());
+            row.put("nextEnd", next.getEnd());
+        }
+        return PROJECTION_FACTORY.createProjection(LastNextBookingView.class, row);
+    }
+
     @Nested
     @DisplayName("getAllItems Tests")
     class GetAllItemsTests {
@@ -274,6 +329,8 @@ class ItemServiceImplTest {
                 )
             );
             verify(itemMapper).mapToDto(savedItem);
+            verify(eventPublisher).publishEvent(ItemChangedEvent.created(
+                new ItemSearchDocument(item1Id, "New Item", "New Desc", true)));
         }
 
         @Test
@@ -442,6 +499,9 @@ class ItemServiceImplTest {
                 )
             );
             verify(itemMapper).mapToDto(updatedItem);
+            verify(eventPublisher).publishEvent(ItemChangedEvent.updated(
+                new ItemSearchDocument(item1Id, "Item One", "Desc One", true),
+                new ItemSearchDocument(item1Id, "Updated Name", "Updated Desc", false)));
         }
 
         @Test
@@ -472,6 +532,7 @@ class ItemServiceImplTest {
             verify(itemMapper, never()).updateItemFields(any(), any());
             verify(itemRepository, never()).save(any());
             verify(itemMapper, never()).mapToDto(any());
+            verifyNoInteractions(eventPublisher);
         }
     }
 
@@ -482,7 +543,6 @@ class ItemServiceImplTest {
         @Test
         @DisplayName("should return items for existing user")
         void getItemsByUserId_whenUserExists_shouldReturnItems() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
             when(itemRepository.findByOwnerId(ownerUserId)).thenReturn(List.of(item1, item2));
             when(itemMapper.mapToDto(item1)).thenReturn(itemDto1);
             when(itemMapper.mapToDto(item2)).thenReturn(itemDto2);
@@ -494,7 +554,7 @@ class ItemServiceImplTest {
             assertThat("Result list should contain the expected ItemDto objects", result,
                 contains(itemDto1, itemDto2));
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(itemRepository).findByOwnerId(ownerUserId);
             verify(itemMapper, times(2)).mapToDto(any(Item.class));
         }
@@ -502,7 +562,7 @@ class ItemServiceImplTest {
         @Test
         @DisplayName("should return empty list for user with no items")
         void getItemsByUserId_whenUserHasNoItems_shouldReturnEmptyList() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
+            when(userRepository.existsById(ownerUserId)).thenReturn(true);
             when(itemRepository.findByOwnerId(ownerUserId)).thenReturn(Collections.emptyList());
 
             List<ItemDto> result = itemService.getItemsByUserId(ownerUserId);
@@ -510,7 +570,7 @@ class ItemServiceImplTest {
             assertThat("Result list should not be null", result, is(notNullValue()));
             assertThat("Result list should be empty", result, is(empty()));
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository).existsById(ownerUserId);
             verify(itemRepository).findByOwnerId(ownerUserId);
             verify(itemMapper, never()).mapToDto(any());
         }
@@ -518,14 +578,13 @@ class ItemServiceImplTest {
         @Test
         @DisplayName("should throw UserNotFoundException when user not found")
         void getItemsByUserId_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(ownerUserId)).thenReturn(false);
 
             assertThrows(UserNotFoundException.class,
                 () -> itemService.getItemsByUserId(ownerUserId),
                 "Getting items when user is not found should throw UserNotFoundException");
 
-            verify(userRepository).findById(ownerUserId);
-            verify(itemRepository, never()).findByOwnerId(anyLong());
+            verify(userRepository).existsById(ownerUserId);
             verify(itemMapper, never()).mapToDto(any());
         }
     }
@@ -537,42 +596,42 @@ class ItemServiceImplTest {
         @Test
         @DisplayName("should delete item when user is owner")
         void delete_whenUserIsOwner_shouldDeleteItem() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
             when(itemRepository.findById(item1Id)).thenReturn(Optional.of(item1));
 
             assertDoesNotThrow(() -> itemService.delete(item1Id, ownerUserId),
                 "Deleting item by owner should not throw exception");
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(itemRepository).findById(item1Id);
             verify(itemRepository).deleteById(item1Id);
+            verify(eventPublisher).publishEvent(ItemChangedEvent.deleted(
+                new ItemSearchDocument(item1Id, "Item One", "Desc One", true)));
         }
 
         @Test
         @DisplayName("should throw UserNotFoundException when user not found")
         void delete_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(ownerUserId)).thenReturn(false);
 
             assertThrows(UserNotFoundException.class,
                 () -> itemService.delete(item1Id, ownerUserId),
                 "Deleting item when user is not found should throw UserNotFoundException");
 
-            verify(userRepository).findById(ownerUserId);
-            verify(itemRepository, never()).findById(anyLong());
+            verify(userRepository).existsById(ownerUserId);
             verify(itemRepository, never()).deleteById(anyLong());
         }
 
         @Test
         @DisplayName("should throw ItemNotFoundException when item not found")
         void delete_whenItemNotFound_shouldThrowItemNotFoundException() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
+            when(userRepository.existsById(ownerUserId)).thenReturn(true);
             when(itemRepository.findById(item1Id)).thenReturn(Optional.empty());
 
             assertThrows(ItemNotFoundException.class,
                 () -> itemService.delete(item1Id, ownerUserId),
                 "Deleting non-existent item should throw ItemNotFoundException");
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository).existsById(ownerUserId);
             verify(itemRepository).findById(item1Id);
             verify(itemRepository, never()).deleteById(anyLong());
         }
@@ -580,8 +639,7 @@ class ItemServiceImplTest {
         @Test
         @DisplayName("should throw AccessDeniedException when user is not owner")
         void delete_whenUserIsNotOwner_shouldThrowAccessDeniedException() {
-            when(userRepository.findById(otherUserId)).thenReturn(
-                Optional.of(otherUser));
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
             when(itemRepository.findById(item1Id)).thenReturn(
                 Optional.of(item1));
 
@@ -589,9 +647,10 @@ class ItemServiceImplTest {
                 () -> itemService.delete(item1Id, otherUserId),
                 "Deleting item when user is not the owner should throw AccessDeniedException");
 
-            verify(userRepository).findById(otherUserId);
+            verify(userRepository).existsById(otherUserId);
             verify(itemRepository).findById(item1Id);
             verify(itemRepository, never()).deleteById(anyLong());
+            verifyNoInteractions(eventPublisher);
         }
     }
 
@@ -599,73 +658,198 @@ class ItemServiceImplTest {
     @DisplayName("searchItems Tests")
     class SearchItemsTests {
 
+        private final Pageable defaultPage = Pageable.unpaged();
+
         @Test
         @DisplayName("should return items matching query")
         void searchItems_whenQueryNotBlankAndUserExists_shouldReturnMatchingItems() {
-            String query = "One";
-            when(userRepository.findById(otherUserId)).thenReturn(Optional.of(otherUser));
-            when(itemRepository.search(query)).thenReturn(
-                List.of(item1));
-            when(itemMapper.mapToDto(item1)).thenReturn(itemDto1);
+            String query = "one";
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.search(query, defaultPage)).thenReturn(List.of(itemDto1));
 
-            List<ItemDto> result = itemService.searchItems(query, otherUserId);
+            List<ItemDto> result = itemService.searchItems(query, otherUserId, null, null);
 
             assertThat("Result list should not be null", result, is(notNullValue()));
             assertThat("Result list should contain 1 item", result, hasSize(1));
             assertThat("Result list should contain the expected ItemDto object", result,
                 contains(itemDto1));
 
-            verify(userRepository).findById(otherUserId);
-            verify(itemRepository).search(query);
-            verify(itemMapper).mapToDto(item1);
+            verify(userRepository).existsById(otherUserId);
+            verify(itemSearchEngine).search(query, defaultPage);
+            verifyNoInteractions(fuzzyItemSearch);
+        }
+
+        @Test
+        @DisplayName("should search with the normalised query and serve its repeats from the cache")
+        void searchItems_whenQueryRepeated_shouldSearchOnce() {
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.search("one", defaultPage)).thenReturn(List.of(itemDto1));
+
+            itemService.searchItems(" ONE ", otherUserId, null, null);
+            List<ItemDto> result = itemService.searchItems("one", otherUserId, null, null);
+
+            assertThat(result, contains(itemDto1));
+            verify(itemSearchEngine, times(1)).search(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("should pass the requested page to the search engine")
+        void searchItems_whenFromAndSizeGiven_shouldRequestThatPage() {
+            String query = "one";
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.search(query, PageRequest.of(2, 5))).thenReturn(
+                List.of(itemDto1));
+
+            List<ItemDto> result = itemService.searchItems(query, otherUserId, 10, 5);
+
+            assertThat(result, contains(itemDto1));
+            verify(itemSearchEngine).search(query, PageRequest.of(2, 5));
+        }
+
+        @Test
+        @DisplayName("should return every match when pagination is invalid")
+        void searchItems_whenPaginationInvalid_shouldSearchUnpaged() {
+            String query = "one";
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.search(query, defaultPage)).thenReturn(List.of(itemDto1));
+
+            itemService.searchItems(query, otherUserId, -1, 0);
+
+            verify(itemSearchEngine).search(query, defaultPage);
         }
 
         @Test
         @DisplayName("should return empty list when query matches no items")
         void searchItems_whenQueryMatchesNothing_shouldReturnEmptyList() {
-            String query = "NonExistent";
-            when(userRepository.findById(otherUserId)).thenReturn(Optional.of(otherUser));
-            when(itemRepository.search(query)).thenReturn(Collections.emptyList());
+            String query = "nonexistent";
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.search(query, defaultPage)).thenReturn(Collections.emptyList());
 
-            List<ItemDto> result = itemService.searchItems(query, otherUserId);
+            List<ItemDto> result = itemService.searchItems(query, otherUserId, null, null);
 
             assertThat("Result list should not be null", result, is(notNullValue()));
             assertThat("Result list should be empty", result, is(empty()));
 
-            verify(userRepository).findById(otherUserId);
-            verify(itemRepository).search(query);
-            verify(itemMapper, never()).mapToDto(any());
+            verify(userRepository).existsById(otherUserId);
+            verify(itemSearchEngine).search(query, defaultPage);
+            verify(fuzzyItemSearch).search(query, Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("should fall back to fuzzy search when the engine finds nothing")
+        void searchItems_whenEngineFindsNothing_shouldReturnFuzzyMatches() {
+            String query = "itme";
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.search(query, PageRequest.of(0, 5))).thenReturn(
+                Collections.emptyList());
+            when(fuzzyItemSearch.search(query, 5)).thenReturn(List.of(itemDto1));
+
+            List<ItemDto> result = itemService.searchItems(query, otherUserId, 0, 5);
+
+            assertThat("Result list should contain the fuzzy match", result, contains(itemDto1));
+        }
+
+        @Test
+        @DisplayName("should NOT fall back to fuzzy search past the first page")
+        void searchItems_whenLaterPageEmpty_shouldNotUseFuzzySearch() {
+            String query = "one";
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.search(query, PageRequest.of(1, 5))).thenReturn(
+                Collections.emptyList());
+
+            List<ItemDto> result = itemService.searchItems(query, otherUserId, 5, 5);
+
+            assertThat(result, is(empty()));
+            verifyNoInteractions(fuzzyItemSearch);
         }
 
         @Test
         @DisplayName("should return empty list when query is blank")
         void searchItems_whenQueryIsBlank_shouldReturnEmptyList() {
             String query = "   ";
-            when(userRepository.findById(otherUserId)).thenReturn(Optional.of(otherUser));
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
 
-            List<ItemDto> result = itemService.searchItems(query, otherUserId);
+            List<ItemDto> result = itemService.searchItems(query, otherUserId, null, null);
 
             assertThat("Result list should not be null", result, is(notNullValue()));
             assertThat("Result list should be empty for blank query", result, is(empty()));
 
-            verify(userRepository).findById(otherUserId);
-            verify(itemRepository, never()).search(anyString());
-            verify(itemMapper, never()).mapToDto(any());
+            verify(userRepository).existsById(otherUserId);
+            verifyNoInteractions(itemSearchEngine);
         }
 
         @Test
         @DisplayName("should throw UserNotFoundException when user not found")
         void searchItems_whenUserNotFound_shouldThrowUserNotFoundException() {
             String query = "test";
-            when(userRepository.findById(otherUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(otherUserId)).thenReturn(false);
 
             assertThrows(UserNotFoundException.class,
-                () -> itemService.searchItems(query, otherUserId),
+                () -> itemService.searchItems(query, otherUserId, null, null),
                 "Searching items when user is not found should throw UserNotFoundException");
 
-            verify(userRepository).findById(otherUserId);
-            verify(itemRepository, never()).search(anyString());
-            verify(itemMapper, never()).mapToDto(any());
+            verify(userRepository).existsById(otherUserId);
+            verifyNoInteractions(itemSearchEngine);
+        }
+    }
+
+    @Nested
+    @DisplayName("streamSearchItems Tests")
+    class StreamSearchItemsTests {
+
+        @Test
+        @DisplayName("should hand every streamed match to the action and close the stream")
+        void streamSearchItems_whenMatchesExist_shouldConsumeAndCloseStream() {
+            String query = "item";
+            AtomicBoolean closed = new AtomicBoolean();
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            when(itemSearchEngine.stream(query)).thenReturn(
+                Stream.of(itemDto1, itemDto2).onClose(() -> closed.set(true)));
+            List<ItemDto> consumed = new ArrayList<>();
+
+            itemService.streamSearchItems(query, otherUserId, consumed::add);
+
+            assertThat(consumed, contains(itemDto1, itemDto2));
+            assertThat("Stream should be closed after consumption", closed.get(), is(true));
+        }
+
+        @Test
+        @DisplayName("should not stream anything when query is blank")
+        void streamSearchItems_whenQueryIsBlank_shouldNotSearch() {
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
+            List<ItemDto> consumed = new ArrayList<>();
+
+            itemService.streamSearchItems(" ", otherUserId, consumed::add);
+
+            assertThat(consumed, is(empty()));
+            verifyNoInteractions(itemSearchEngine);
+        }
+
+        @Test
+        @DisplayName("should throw UserNotFoundException before streaming when user not found")
+        void streamSearchItems_whenUserNotFound_shouldThrowUserNotFoundException() {
+            when(userRepository.existsById(otherUserId)).thenReturn(false);
+
+            assertThrows(UserNotFoundException.class,
+                () -> itemService.streamSearchItems("item", otherUserId, item -> { }));
+
+            verifyNoInteractions(itemSearchEngine);
+        }
+    }
+
+    @Nested
+    @DisplayName("suggestItemNames Tests")
+    class SuggestItemNamesTests {
+
+        @Test
+        @DisplayName("should return suggestions without touching repositories")
+        void suggestItemNames_shouldDelegateToSuggester() {
+            when(itemNameSuggester.suggest("it")).thenReturn(List.of("Item One"));
+
+            List<String> result = itemService.suggestItemNames("it");
+
+            assertThat(result, contains("Item One"));
+            verifyNoInteractions(userRepository, itemRepository);
         }
     }
 
@@ -800,14 +984,12 @@ class ItemServiceImplTest {
         @Test
         @DisplayName("should return item with booking info when user is owner")
         void getItemByIdWithBookingInfo_whenUserIsOwner_shouldReturnDtoWithBookings() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
             when(itemRepository.findById(item1Id)).thenReturn(Optional.of(item1));
-            when(itemMapper.mapToItemWithBookingInfoDto(item1)).thenReturn(itemWithBookingInfoDto1);
-            when(bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(
+            when(itemMapper.mapToItemWithBookingInfoDto(eq(item1), anyCollection()))
+                .thenReturn(itemWithBookingInfoDto1);
+            when(bookingRepository.findLastAndNextApprovedBookingsForItems(
                 eq(List.of(item1Id)), any(LocalDateTime.class))).thenReturn(
-                List.of(lastBookingDto));
-            when(bookingRepository.findNextApprovedBookingsShortForItems(eq(List.of(item1Id)),
-                any(LocalDateTime.class))).thenReturn(List.of(nextBookingDto));
+                List.of(bookingView(item1Id, lastBookingDto, nextBookingDto)));
 
             ItemWithBookingInfoDto result = itemService.getItemByIdWithBookingInfo(item1Id,
                 ownerUserId);
@@ -824,27 +1006,23 @@ class ItemServiceImplTest {
                 )
             );
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(itemRepository).findById(item1Id);
-            verify(itemMapper).mapToItemWithBookingInfoDto(item1);
-            verify(bookingRepository).findPastAndCurrentApprovedBookingsShortForItems(
+            verify(itemMapper).mapToItemWithBookingInfoDto(eq(item1), anyCollection());
+            verify(bookingRepository).findLastAndNextApprovedBookingsForItems(
                 eq(List.of(item1Id)), any(LocalDateTime.class));
-            verify(bookingRepository).findNextApprovedBookingsShortForItems(eq(List.of(item1Id)),
-                any(LocalDateTime.class));
         }
 
         @Test
         @DisplayName("should return item with null booking info when user is owner but no "
             + "bookings exist")
         void getItemByIdWithBookingInfo_whenUserIsOwnerAndNoBookings_shouldReturnDtoWithNullBookings() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
             when(itemRepository.findById(item1Id)).thenReturn(Optional.of(item1));
-            when(itemMapper.mapToItemWithBookingInfoDto(item1)).thenReturn(itemWithBookingInfoDto1);
-            when(bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(
+            when(itemMapper.mapToItemWithBookingInfoDto(eq(item1), anyCollection()))
+                .thenReturn(itemWithBookingInfoDto1);
+            when(bookingRepository.findLastAndNextApprovedBookingsForItems(
                 eq(List.of(item1Id)), any(LocalDateTime.class))).thenReturn(
-                Collections.emptyList());
-            when(bookingRepository.findNextApprovedBookingsShortForItems(eq(List.of(item1Id)),
-                any(LocalDateTime.class))).thenReturn(Collections.emptyList());
+                List.of(bookingView(item1Id, null, null)));
 
             ItemWithBookingInfoDto result = itemService.getItemByIdWithBookingInfo(item1Id,
                 ownerUserId);
@@ -860,21 +1038,20 @@ class ItemServiceImplTest {
                 )
             );
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(itemRepository).findById(item1Id);
-            verify(itemMapper).mapToItemWithBookingInfoDto(item1);
-            verify(bookingRepository).findPastAndCurrentApprovedBookingsShortForItems(
+            verify(itemMapper).mapToItemWithBookingInfoDto(eq(item1), anyCollection());
+            verify(bookingRepository).findLastAndNextApprovedBookingsForItems(
                 eq(List.of(item1Id)), any(LocalDateTime.class));
-            verify(bookingRepository).findNextApprovedBookingsShortForItems(eq(List.of(item1Id)),
-                any(LocalDateTime.class));
         }
 
         @Test
         @DisplayName("should return item with null booking info when user is not owner")
         void getItemByIdWithBookingInfo_whenUserIsNotOwner_shouldReturnDtoWithNullBookings() {
-            when(userRepository.findById(otherUserId)).thenReturn(Optional.of(otherUser));
+            when(userRepository.existsById(otherUserId)).thenReturn(true);
             when(itemRepository.findById(item1Id)).thenReturn(Optional.of(item1));
-            when(itemMapper.mapToItemWithBookingInfoDto(item1)).thenReturn(itemWithBookingInfoDto1);
+            when(itemMapper.mapToItemWithBookingInfoDto(eq(item1), anyCollection()))
+                .thenReturn(itemWithBookingInfoDto1);
 
             ItemWithBookingInfoDto result = itemService.getItemByIdWithBookingInfo(item1Id,
                 otherUserId);
@@ -890,39 +1067,37 @@ class ItemServiceImplTest {
                 )
             );
 
-            verify(userRepository).findById(otherUserId);
+            verify(userRepository).existsById(otherUserId);
             verify(itemRepository).findById(item1Id);
-            verify(itemMapper).mapToItemWithBookingInfoDto(item1);
-            verify(bookingRepository, never()).findPastAndCurrentApprovedBookingsShortForItems(
+            verify(itemMapper).mapToItemWithBookingInfoDto(eq(item1), anyCollection());
+            verify(bookingRepository, never()).findLastAndNextApprovedBookingsForItems(
                 anyList(), any(LocalDateTime.class));
-            verify(bookingRepository, never()).findNextApprovedBookingsShortForItems(anyList(),
-                any(LocalDateTime.class));
         }
 
         @Test
         @DisplayName("should throw UserNotFoundException when user requesting info not found")
         void getItemByIdWithBookingInfo_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(ownerUserId)).thenReturn(false);
 
             assertThrows(UserNotFoundException.class,
                 () -> itemService.getItemByIdWithBookingInfo(item1Id, ownerUserId),
                 "Getting item info when user is not found should throw UserNotFoundException");
 
-            verify(userRepository).findById(ownerUserId);
-            verifyNoInteractions(itemRepository, itemMapper, bookingRepository);
+            verify(userRepository).existsById(ownerUserId);
+            verifyNoInteractions(itemMapper, bookingRepository);
         }
 
         @Test
         @DisplayName("should throw ItemNotFoundException when item not found")
         void getItemByIdWithBookingInfo_whenItemNotFound_shouldThrowItemNotFoundException() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
+            when(userRepository.existsById(ownerUserId)).thenReturn(true);
             when(itemRepository.findById(item1Id)).thenReturn(Optional.empty());
 
             assertThrows(ItemNotFoundException.class,
                 () -> itemService.getItemByIdWithBookingInfo(item1Id, ownerUserId),
                 "Getting info for non-existent item should throw ItemNotFoundException");
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository).existsById(ownerUserId);
             verify(itemRepository).findById(item1Id);
             verifyNoInteractions(itemMapper, bookingRepository);
         }
@@ -938,16 +1113,18 @@ class ItemServiceImplTest {
         void getAllItemsByOwner_whenValid_shouldReturnItemsWithBookings() {
             ItemWithBookingInfoDto itemWithBookingInfoDto2 = new ItemWithBookingInfoDto(item2Id,
                 "Item Two", "Desc Two", false, Collections.emptySet(), null, null);
-
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
             when(itemRepository.findByOwnerId(ownerUserId)).thenReturn(List.of(item1, item2));
-            when(itemMapper.mapToItemWithBookingInfoDto(item1)).thenReturn(itemWithBookingInfoDto1);
-            when(itemMapper.mapToItemWithBookingInfoDto(item2)).thenReturn(itemWithBookingInfoDto2);
+            when(itemMapper.mapToItemWithBookingInfoDto(eq(item1), anyCollection()))
+                .thenReturn(itemWithBookingInfoDto1);
+            when(itemMapper.mapToItemWithBookingInfoDto(eq(item2), anyCollection()))
+                .thenReturn(itemWithBookingInfoDto2);
             List<Long> itemIds = List.of(item1Id, item2Id);
-            when(bookingRepository.findPastAndCurrentApprovedBookingsShortForItems(eq(itemIds),
-                any(LocalDateTime.class))).thenReturn(List.of(lastBookingDto));
-            when(bookingRepository.findNextApprovedBookingsShortForItems(eq(itemIds),
-                any(LocalDateTime.class))).thenReturn(List.of(nextBookingDto));
+            when(commentRepository.findAllWithAuthorByItemIds(itemIds)).thenReturn(
+                List.of(comment1));
+            when(bookingRepository.findLastAndNextApprovedBookingsForItems(eq(itemIds),
+                any(LocalDateTime.class))).thenReturn(List.of(
+                bookingView(item1Id, lastBookingDto, nextBookingDto),
+                bookingView(item2Id, null, null)));
 
             List<ItemWithBookingInfoDto> result = itemService.getAllItemsByOwnerWithBookingInfo(
                 ownerUserId);
@@ -973,19 +1150,19 @@ class ItemServiceImplTest {
                 )
             );
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository, never()).existsById(anyLong());
             verify(itemRepository).findByOwnerId(ownerUserId);
-            verify(itemMapper, times(2)).mapToItemWithBookingInfoDto(any(Item.class));
-            verify(bookingRepository).findPastAndCurrentApprovedBookingsShortForItems(eq(itemIds),
-                timeArgumentCaptor.capture());
-            verify(bookingRepository).findNextApprovedBookingsShortForItems(eq(itemIds),
-                eq(timeArgumentCaptor.getValue()));
+            verify(itemMapper).mapToItemWithBookingInfoDto(item1, List.of(comment1));
+            verify(itemMapper).mapToItemWithBookingInfoDto(item2, List.of());
+            verify(commentRepository).findAllWithAuthorByItemIds(itemIds);
+            verify(bookingRepository).findLastAndNextApprovedBookingsForItems(eq(itemIds),
+                any(LocalDateTime.class));
         }
 
         @Test
         @DisplayName("should return empty list when owner has no items")
         void getAllItemsByOwner_whenOwnerHasNoItems_shouldReturnEmptyList() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.of(ownerUser));
+            when(userRepository.existsById(ownerUserId)).thenReturn(true);
             when(itemRepository.findByOwnerId(ownerUserId)).thenReturn(Collections.emptyList());
 
             List<ItemWithBookingInfoDto> result = itemService.getAllItemsByOwnerWithBookingInfo(
@@ -994,7 +1171,7 @@ class ItemServiceImplTest {
             assertThat("Result list should not be null", result, is(notNullValue()));
             assertThat("Result list should be empty for owner with no items", result, is(empty()));
 
-            verify(userRepository).findById(ownerUserId);
+            verify(userRepository).existsById(ownerUserId);
             verify(itemRepository).findByOwnerId(ownerUserId);
             verifyNoInteractions(itemMapper, bookingRepository);
         }
@@ -1002,14 +1179,14 @@ class ItemServiceImplTest {
         @Test
         @DisplayName("should throw UserNotFoundException when user not found")
         void getAllItemsByOwner_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(ownerUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(ownerUserId)).thenReturn(false);
 
             assertThrows(UserNotFoundException.class,
                 () -> itemService.getAllItemsByOwnerWithBookingInfo(ownerUserId),
                 "Getting all items for non-existent user should throw UserNotFoundException");
 
-            verify(userRepository).findById(ownerUserId);
-            verifyNoInteractions(itemRepository, itemMapper, bookingRepository);
+            verify(userRepository).existsById(ownerUserId);
+            verifyNoInteractions(itemMapper, bookingRepository);
         }
     }
 }
\ No newline at end of file
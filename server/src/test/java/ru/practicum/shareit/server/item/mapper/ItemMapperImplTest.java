@@ -2,6 +2,7 @@ package ru.practicum.shareit.server.item.mapper;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -12,8 +13,10 @@ import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.common.dto.item.CommentDto;
 import ru.practicum.shareit.common.dto.item.ItemDto;
 import ru.practicum.shareit.common.dto.item.ItemShortDto;
 import ru.practicum.shareit.common.dto.item.ItemWithBookingInfoDto;
@@ -123,6 +127,23 @@ class ItemMapperImplTest {
             verify(commentMapper, never()).mapToDto(any(Comment.class));
         }
 
+        @Test
+        @DisplayName("mapToItemWithBookingInfoDto should map the given preloaded comments")
+        void mapToItemWithBookingInfoDto_whenCommentsGiven_shouldMapThemInsteadOfItemComments() {
+            Comment comment = new Comment();
+            comment.setId(5L);
+            CommentDto commentDto = new CommentDto(5L, "Great item", itemId, "Author Name",
+                "2025-01-01T12:00");
+            when(commentMapper.mapToDto(comment)).thenReturn(commentDto);
+
+            ItemWithBookingInfoDto resultDto = itemMapper.mapToItemWithBookingInfoDto(testItem,
+                List.of(comment));
+
+            assertThat("Mapped ItemWithBookingInfoDto should contain the given comments",
+                resultDto.getComments(), contains(commentDto));
+            verify(commentMapper).mapToDto(comment);
+        }
+
         @Nested
         @DisplayName("mapToItem Tests")
         class MapToItemTests {
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BM25 Index Tests")
+class Bm25IndexTest {
+
+    private ItemSearchDocument drill;
+    private ItemSearchDocument drillBits;
+    private ItemSearchDocument ladder;
+    private Bm25Index index;
+
+    @BeforeEach
+    void setUp() {
+        drill = new ItemSearchDocument(1L, "Drill", "Powerful cordless drill", true);
+        drillBits = new ItemSearchDocument(2L, "Bits", "Drill bits for concrete and wood", true);
+        ladder = new ItemSearchDocument(3L, "Ladder", "Sturdy aluminum ladder", true);
+        index = Bm25Index.of(List.of(drill, drillBits, ladder,
+            new ItemSearchDocument(4L, "Sprayer", "Broken paint sprayer", false)));
+    }
+
+    @Test
+    @DisplayName("of should skip unavailable documents")
+    void of_shouldIndexOnlyAvailableDocuments() {
+        assertThat(index.size(), equalTo(3));
+        assertThat(index.search(List.of("sprayer")), is(empty()));
+    }
+
+    @Test
+    @DisplayName("search should rank documents with more and name matches higher")
+    void search_whenTermInSeveralDocuments_shouldRankByScore() {
+        assertThat(index.search(List.of("drill")), contains(drill, drillBits));
+    }
+
+    @Test
+    @DisplayName("search should match query terms as word prefixes")
+    void search_whenTermIsPrefix_shouldMatchLongerWords() {
+        assertThat(index.search(List.of("alu")), contains(ladder));
+        assertThat(index.search(List.of("luminum")), is(empty()));
+    }
+
+    @Test
+    @DisplayName("search should require every query term to match")
+    void search_whenSeveralTerms_shouldIntersect() {
+        assertThat(index.search(List.of("drill", "wood")), contains(drillBits));
+        assertThat(index.search(List.of("drill", "ladder")), is(empty()));
+    }
+
+    @Test
+    @DisplayName("withDocument should replace the previous version without touching the original")
+    void withDocument_whenDocumentExists_shouldReplaceIt() {
+        ItemSearchDocument renamed = new ItemSearchDocument(3L, "Stepladder", "Folding steps", true);
+
+        Bm25Index updated = index.withDocument(renamed);
+
+        assertThat(updated.search(List.of("folding")), contains(renamed));
+        assertThat(updated.search(List.of("sturdy")), is(empty()));
+        assertThat("Original snapshot must stay unchanged", index.search(List.of("sturdy")),
+            contains(ladder));
+        assertThat(updated.size(), equalTo(3));
+    }
+
+    @Test
+    @DisplayName("withDocument should drop a document that became unavailable")
+    void withDocument_whenDocumentUnavailable_shouldRemoveIt() {
+        Bm25Index updated = index.withDocument(
+            new ItemSearchDocument(1L, "Drill", "Powerful cordless drill", false));
+
+        assertThat(updated.search(List.of("drill")), contains(drillBits));
+        assertThat(updated.search(List.of("cordless")), is(empty()));
+    }
+
+    @Test
+    @DisplayName("withoutDocument should return the same index for unknown ids")
+    void withoutDocument_whenUnknownId_shouldReturnSameInstance() {
+        assertThat(index.withoutDocument(99L), is(sameInstance(index)));
+        assertThat(index.withoutDocument(3L).search(List.of("ladder")), is(empty()));
+    }
+}
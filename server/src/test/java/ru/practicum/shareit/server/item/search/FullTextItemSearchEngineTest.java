@@ -0,0 +1,95 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Full-Text Item Search Engine Tests")
+class FullTextItemSearchEngineTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private ItemMapper itemMapper;
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private FullTextItemSearchEngine searchEngine;
+
+    @Test
+    @DisplayName("search should turn every word into a prefix term and map results in rank order")
+    void search_whenTextHasSeveralWords_shouldQueryWithPrefixTerms() {
+        Item drill = new Item();
+        drill.setId(1L);
+        Item saw = new Item();
+        saw.setId(2L);
+        ItemDto drillDto = new ItemDto(1L, "Drill", "Cordless drill", true);
+        ItemDto sawDto = new ItemDto(2L, "Saw", "Cordless saw", true);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(itemRepository.searchFullText("cordless:* & дрель:*", pageable)).thenReturn(
+            List.of(drill, saw));
+        when(itemMapper.mapToDto(drill)).thenReturn(drillDto);
+        when(itemMapper.mapToDto(saw)).thenReturn(sawDto);
+
+        List<ItemDto> result = searchEngine.search("  CORDLESS, Дрель!", pageable);
+
+        assertThat("Results should keep repository rank order", result,
+            contains(drillDto, sawDto));
+        verify(itemRepository).searchFullText("cordless:* & дрель:*", pageable);
+    }
+
+    @Test
+    @DisplayName("stream should map and detach every streamed row")
+    void stream_whenRowsStreamed_shouldDetachThemAfterMapping() {
+        Item drill = new Item();
+        drill.setId(1L);
+        ItemDto drillDto = new ItemDto(1L, "Drill", "Cordless drill", true);
+        when(itemRepository.streamFullText("drill:*")).thenReturn(Stream.of(drill));
+        when(itemMapper.mapToDto(drill)).thenReturn(drillDto);
+
+        List<ItemDto> result = searchEngine.stream("drill").toList();
+
+        assertThat(result, contains(drillDto));
+        verify(entityManager).detach(drill);
+    }
+
+    @Test
+    @DisplayName("search should not hit the database when text has no searchable terms")
+    void search_whenTextHasNoTerms_shouldReturnEmptyList() {
+        List<ItemDto> result = searchEngine.search("!?& :*", PageRequest.of(0, 10));
+
+        assertThat("Result should be empty", result, is(empty()));
+        assertThat("Stream should be empty", searchEngine.stream("!?& :*").toList(), is(empty()));
+        verifyNoInteractions(itemRepository, itemMapper);
+    }
+
+    @Test
+    @DisplayName("toPrefixTsQuery should AND prefix terms together")
+    void toPrefixTsQuery_shouldJoinTermsWithAnd() {
+        assertThat(FullTextItemSearchEngine.toPrefixTsQuery(List.of("a", "b1")),
+            equalTo("a:* & b1:*"));
+    }
+}
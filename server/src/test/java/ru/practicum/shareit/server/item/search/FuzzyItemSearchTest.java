@@ -0,0 +1,81 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Fuzzy Item Search Tests")
+class FuzzyItemSearchTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private ItemMapper itemMapper;
+
+    @Test
+    @DisplayName("search should set the threshold before querying with normalized text and limit")
+    void search_whenEnabled_shouldQueryWithThresholdAndLimit() {
+        FuzzyItemSearch fuzzySearch = new FuzzyItemSearch(itemRepository, itemMapper, true, 0.4, 5);
+        Item drill = new Item();
+        drill.setId(1L);
+        ItemDto drillDto = new ItemDto(1L, "Drill", "Cordless drill", true);
+        when(itemRepository.searchFuzzy("drel", 5)).thenReturn(List.of(drill));
+        when(itemMapper.mapToDto(drill)).thenReturn(drillDto);
+
+        List<ItemDto> result = fuzzySearch.search("  DREL ", 100);
+
+        assertThat(result, contains(drillDto));
+        InOrder order = inOrder(itemRepository);
+        order.verify(itemRepository).setWordSimilarityThreshold(0.4);
+        order.verify(itemRepository).searchFuzzy("drel", 5);
+    }
+
+    @Test
+    @DisplayName("search should cap results at the smaller of the page size and the limit")
+    void search_whenPageSmallerThanLimit_shouldQueryWithPageSize() {
+        FuzzyItemSearch fuzzySearch = new FuzzyItemSearch(itemRepository, itemMapper, true, 0.4, 5);
+
+        fuzzySearch.search("drel", 3);
+
+        verify(itemRepository).searchFuzzy("drel", 3);
+    }
+
+    @Test
+    @DisplayName("search should not hit the database when disabled")
+    void search_whenDisabled_shouldReturnEmptyList() {
+        FuzzyItemSearch fuzzySearch = new FuzzyItemSearch(itemRepository, itemMapper, false, 0.4, 5);
+
+        assertThat(fuzzySearch.search("drel", 100), is(empty()));
+        verifyNoInteractions(itemRepository, itemMapper);
+    }
+
+    @Test
+    @DisplayName("constructor should reject a threshold outside (0, 1] and a non-positive limit")
+    void constructor_whenSettingsInvalid_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new FuzzyItemSearch(itemRepository, itemMapper, true, 0, 5));
+        assertThrows(IllegalArgumentException.class,
+            () -> new FuzzyItemSearch(itemRepository, itemMapper, true, 1.5, 5));
+        assertThrows(IllegalArgumentException.class,
+            () -> new FuzzyItemSearch(itemRepository, itemMapper, true, 0.4, 0));
+    }
+}
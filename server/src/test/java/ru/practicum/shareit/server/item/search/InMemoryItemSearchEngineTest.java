@@ -0,0 +1,85 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.ItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("In-Memory Item Search Engine Tests")
+class InMemoryItemSearchEngineTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private InMemoryItemSearchEngine searchEngine;
+
+    private final ItemSearchDocument drill =
+        new ItemSearchDocument(1L, "Drill", "Powerful cordless drill", true);
+
+    @BeforeEach
+    void setUp() {
+        when(itemRepository.findAllAvailableSearchDocuments()).thenReturn(List.of(drill));
+        searchEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("search should answer from the index built at startup")
+    void search_afterRebuild_shouldReturnIndexedItems() {
+        assertThat(searchEngine.search("CORDLESS", Pageable.unpaged()),
+            contains(new ItemDto(1L, "Drill", "Powerful cordless drill", true)));
+    }
+
+    @Test
+    @DisplayName("onItemChanged should index created and updated items")
+    void onItemChanged_whenItemCreatedOrUpdated_shouldBeSearchable() {
+        ItemSearchDocument saw = new ItemSearchDocument(2L, "Saw", "Hand saw", true);
+        searchEngine.onItemChanged(ItemChangedEvent.created(saw));
+        searchEngine.onItemChanged(ItemChangedEvent.updated(drill,
+            new ItemSearchDocument(1L, "Hammer drill", "Corded", true)));
+
+        assertThat(searchEngine.search("saw", Pageable.unpaged()), contains(new ItemDto(2L, "Saw", "Hand saw", true)));
+        assertThat(searchEngine.search("cordless", Pageable.unpaged()), is(empty()));
+        assertThat(searchEngine.search("hammer", Pageable.unpaged()),
+            contains(new ItemDto(1L, "Hammer drill", "Corded", true)));
+    }
+
+    @Test
+    @DisplayName("onItemChanged should drop deleted items")
+    void onItemChanged_whenItemDeleted_shouldNotBeSearchable() {
+        searchEngine.onItemChanged(ItemChangedEvent.deleted(drill));
+
+        List<ItemDto> result = searchEngine.search("drill", Pageable.unpaged());
+
+        assertThat(result, is(empty()));
+    }
+
+    @Test
+    @DisplayName("search should return the requested slice of the ranking")
+    void search_whenPaged_shouldSliceRankedResults() {
+        ItemSearchDocument drillBits = new ItemSearchDocument(2L, "Bits", "Drill bits", true);
+        searchEngine.onItemChanged(ItemChangedEvent.created(drillBits));
+
+        assertThat(searchEngine.search("drill", PageRequest.of(0, 1)),
+            contains(new ItemDto(1L, "Drill", "Powerful cordless drill", true)));
+        assertThat(searchEngine.search("drill", PageRequest.of(1, 1)),
+            contains(new ItemDto(2L, "Bits", "Drill bits", true)));
+        assertThat(searchEngine.stream("drill").toList(), hasSize(2));
+    }
+}
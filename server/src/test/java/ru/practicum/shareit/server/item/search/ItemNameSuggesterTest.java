@@ -0,0 +1,85 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.server.item.ItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Item Name Suggester Tests")
+class ItemNameSuggesterTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemNameSuggester suggester;
+
+    private final ItemSearchDocument drill =
+        new ItemSearchDocument(1L, "Drill", "Cordless drill", true);
+
+    @BeforeEach
+    void setUp() {
+        suggester = new ItemNameSuggester(itemRepository, 10);
+        when(itemRepository.findAllAvailableNames()).thenReturn(List.of("Drill", "Ladder"));
+        suggester.rebuild();
+    }
+
+    @Test
+    @DisplayName("rebuild should load available names")
+    void rebuild_shouldSuggestLoadedNames() {
+        assertThat(suggester.suggest("la"), contains("Ladder"));
+    }
+
+    @Test
+    @DisplayName("onItemChanged should follow renames, availability changes and deletes")
+    void onItemChanged_shouldKeepSuggestionsCurrent() {
+        ItemSearchDocument renamed = new ItemSearchDocument(1L, "Hammer Drill", "", true);
+        suggester.onItemChanged(ItemChangedEvent.updated(drill, renamed));
+        assertThat(suggester.suggest("dr"), is(empty()));
+        assertThat(suggester.suggest("ham"), contains("Hammer Drill"));
+
+        ItemSearchDocument unavailable = new ItemSearchDocument(1L, "Hammer Drill", "", false);
+        suggester.onItemChanged(ItemChangedEvent.updated(renamed, unavailable));
+        assertThat(suggester.suggest("ham"), is(empty()));
+
+        ItemSearchDocument saw = new ItemSearchDocument(2L, "Saw", "", true);
+        suggester.onItemChanged(ItemChangedEvent.created(saw));
+        assertThat(suggester.suggest("s"), contains("Saw"));
+        suggester.onItemChanged(ItemChangedEvent.deleted(saw));
+        assertThat(suggester.suggest("s"), is(empty()));
+    }
+
+    @Test
+    @DisplayName("suggest should return nothing for a blank prefix")
+    void suggest_whenPrefixBlank_shouldReturnEmptyList() {
+        assertThat(suggester.suggest("  "), is(empty()));
+    }
+
+    @Test
+    @DisplayName("rebuild should not lose a change that arrives while names are loading")
+    void rebuild_whenChangeArrivesDuringLoad_shouldKeepIt() throws InterruptedException {
+        ItemSearchDocument saw = new ItemSearchDocument(2L, "Saw", "", true);
+        Thread writer = new Thread(() -> suggester.onItemChanged(ItemChangedEvent.created(saw)));
+        when(itemRepository.findAllAvailableNames()).thenAnswer(invocation -> {
+            writer.start();
+            writer.join(200);
+            return List.of("Drill", "Sander");
+        });
+
+        suggester.rebuild();
+        writer.join();
+
+        assertThat(suggester.suggest("s"), containsInAnyOrder("Sander", "Saw"));
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Item Name Trie Tests")
+class ItemNameTrieTest {
+
+    private ItemNameTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = ItemNameTrie.EMPTY
+            .withName("Drill")
+            .withName("Drum Kit")
+            .withName("drill press")
+            .withName("Ladder");
+    }
+
+    @Test
+    @DisplayName("suggest should match prefixes case-insensitively in alphabetical order")
+    void suggest_whenPrefixMatches_shouldReturnNamesAlphabetically() {
+        assertThat(trie.suggest("DR", 10), contains("Drill", "drill press", "Drum Kit"));
+    }
+
+    @Test
+    @DisplayName("suggest should stop at the limit")
+    void suggest_whenMoreMatchesThanLimit_shouldTruncate() {
+        assertThat(trie.suggest("d", 2), contains("Drill", "drill press"));
+    }
+
+    @Test
+    @DisplayName("suggest should return nothing for an unknown or empty prefix")
+    void suggest_whenPrefixUnknownOrEmpty_shouldReturnEmptyList() {
+        assertThat(trie.suggest("saw", 10), is(empty()));
+        assertThat(trie.suggest("", 10), is(empty()));
+    }
+
+    @Test
+    @DisplayName("withoutName should keep a name while another item still uses it")
+    void withoutName_whenNameShared_shouldKeepItUntilLastUse() {
+        ItemNameTrie once = trie.withName("Drill").withoutName("Drill");
+        assertThat(once.suggest("drill", 10), contains("Drill", "drill press"));
+
+        ItemNameTrie twice = once.withoutName("Drill");
+        assertThat(twice.suggest("drill", 10), contains("drill press"));
+    }
+
+    @Test
+    @DisplayName("withoutName should prune branches left empty")
+    void withoutName_whenLastNameOnBranch_shouldPruneIt() {
+        ItemNameTrie updated = trie.withoutName("Ladder");
+
+        assertThat(updated.suggest("l", 10), is(empty()));
+        assertThat(updated.suggest("d", 10), contains("Drill", "drill press", "Drum Kit"));
+    }
+
+    @Test
+    @DisplayName("withoutName should return the same trie for an unknown name")
+    void withoutName_whenUnknownName_shouldReturnSameInstance() {
+        assertThat(trie.withoutName("Unknown"), is(sameInstance(trie)));
+        assertThat(trie.withoutName("Dril"), is(sameInstance(trie)));
+    }
+
+    @Test
+    @DisplayName("Updates should leave the original trie unchanged")
+    void withName_whenTrieUpdated_shouldLeaveOriginalUnchanged() {
+        ItemNameTrie updated = trie.withName("Drone").withoutName("Drill");
+
+        assertThat(updated.suggest("dr", 10), contains("drill press", "Drone", "Drum Kit"));
+        assertThat(trie.suggest("dr", 10), contains("Drill", "drill press", "Drum Kit"));
+    }
+}
@@ -0,0 +1,161 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+
+@DisplayName("Item Search Cache Tests")
+class ItemSearchCacheTest {
+
+    private final Pageable page = PageRequest.of(0, 10);
+    private final ItemDto drillDto = new ItemDto(1L, "Drill", "Cordless drill", true);
+    private final ItemSearchDocument drill =
+        new ItemSearchDocument(1L, "Drill", "Cordless drill", true);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ItemSearchCache cache;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ItemSearchCache(meterRegistry, 100, Duration.ofMinutes(5));
+        searches = new AtomicInteger();
+    }
+
+    private List<ItemDto> search(String query) {
+        return cache.get(query, page, normalized -> {
+            searches.incrementAndGet();
+            return CachedSearchResult.exact(List.of(drillDto));
+        });
+    }
+
+    private List<ItemDto> fuzzySearch(String query) {
+        return cache.get(query, page, normalized -> {
+            searches.incrementAndGet();
+            return CachedSearchResult.fuzzy(List.of(drillDto));
+        });
+    }
+
+    @Test
+    @DisplayName("get should serve differently spelled forms of a query from one entry")
+    void get_whenQueryDiffersOnlyInCaseAndSpacing_shouldSearchOnce() {
+        assertThat(search("Cordless  Drill"), contains(drillDto));
+        assertThat(search(" cordless drill "), contains(drillDto));
+
+        assertThat(searches.get(), equalTo(1));
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count(),
+            equalTo(1.0));
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count(),
+            equalTo(1.0));
+    }
+
+    @Test
+    @DisplayName("get should run the search with the normalised query it is cached under")
+    void get_whenQueryNotNormalised_shouldSearchWithNormalisedQuery() {
+        List<String> searched = new ArrayList<>();
+        cache.get("  Cordless   DRILL ", page, normalized -> {
+            searched.add(normalized);
+            return CachedSearchResult.exact(List.of(drillDto));
+        });
+
+        assertThat(searched, contains("cordless drill"));
+    }
+
+    @Test
+    @DisplayName("get should cache each page separately")
+    void get_whenPagesDiffer_shouldSearchPerPage() {
+        search("drill");
+        cache.get("drill", PageRequest.of(1, 10), normalized -> {
+            searches.incrementAndGet();
+            return CachedSearchResult.exact(List.of());
+        });
+
+        assertThat(searches.get(), equalTo(2));
+    }
+
+    @Test
+    @DisplayName("onItemChanged should only drop queries the changed item could match")
+    void onItemChanged_whenItemUpdated_shouldInvalidateOnlyAffectedQueries() {
+        search("drill");
+        search("ladder");
+        search("hammer");
+
+        cache.onItemChanged(ItemChangedEvent.updated(drill,
+            new ItemSearchDocument(1L, "Hammer drill", "Corded", true)));
+        search("drill");
+        search("ladder");
+        search("hammer");
+
+        assertThat("drill (old text) and hammer (new text) should be searched again",
+            searches.get(), equalTo(5));
+        assertThat(meterRegistry.get("cache.invalidations").counter().count(), equalTo(2.0));
+    }
+
+    @Test
+    @DisplayName("onItemChanged should drop fuzzy results on any visible change")
+    void onItemChanged_whenAnyItemChanges_shouldInvalidateFuzzyResults() {
+        fuzzySearch("drel");
+        search("ladder");
+
+        cache.onItemChanged(ItemChangedEvent.created(
+            new ItemSearchDocument(2L, "Saw", "Hand saw", true)));
+        fuzzySearch("drel");
+        search("ladder");
+
+        assertThat(searches.get(), equalTo(3));
+    }
+
+    @Test
+    @DisplayName("onItemChanged should keep everything when the item stays unavailable")
+    void onItemChanged_whenItemUnavailableBeforeAndAfter_shouldKeepEntries() {
+        fuzzySearch("drel");
+        search("drill");
+        ItemSearchDocument hidden = new ItemSearchDocument(1L, "Drill", "Cordless drill", false);
+
+        cache.onItemChanged(ItemChangedEvent.updated(hidden,
+            new ItemSearchDocument(1L, "Drill", "Broken", false)));
+        fuzzySearch("drel");
+        search("drill");
+
+        assertThat(searches.get(), equalTo(2));
+    }
+
+    @Test
+    @DisplayName("onItemChanged should drop queries matching a deleted or hidden item")
+    void onItemChanged_whenMatchingItemLeavesResults_shouldInvalidate() {
+        search("cordless");
+        cache.onItemChanged(ItemChangedEvent.updated(drill,
+            new ItemSearchDocument(1L, "Drill", "Cordless drill", false)));
+        search("cordless");
+        cache.onItemChanged(ItemChangedEvent.deleted(drill));
+        search("cordless");
+
+        assertThat(searches.get(), equalTo(3));
+    }
+
+    @Test
+    @DisplayName("get should not keep a page loaded while a matching item changed")
+    void get_whenItemChangesDuringLoad_shouldSearchAgain() {
+        cache.get("drill", page, normalized -> {
+            searches.incrementAndGet();
+            cache.onItemChanged(ItemChangedEvent.created(drill));
+            return CachedSearchResult.exact(List.of());
+        });
+
+        assertThat(search("drill"), contains(drillDto));
+        assertThat(searches.get(), equalTo(2));
+    }
+}
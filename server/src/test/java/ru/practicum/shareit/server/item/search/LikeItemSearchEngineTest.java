@@ -0,0 +1,59 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.dto.item.ItemDto;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LIKE Item Search Engine Tests")
+class LikeItemSearchEngineTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private ItemMapper itemMapper;
+
+    @InjectMocks
+    private LikeItemSearchEngine searchEngine;
+
+    @Test
+    @DisplayName("search should pass raw text to the LIKE query and map the results")
+    void search_shouldDelegateToRepositoryAndMap() {
+        Item item = new Item();
+        item.setId(1L);
+        ItemDto itemDto = new ItemDto(1L, "Drill", "Cordless drill", true);
+        Pageable pageable = PageRequest.of(1, 5);
+        when(itemRepository.search("rill", pageable)).thenReturn(List.of(item));
+        when(itemMapper.mapToDto(item)).thenReturn(itemDto);
+
+        List<ItemDto> result = searchEngine.search("rill", pageable);
+
+        assertThat("Result should contain the mapped item", result, contains(itemDto));
+        verify(itemRepository).search("rill", pageable);
+    }
+
+    @Test
+    @DisplayName("stream should return the repository's projection stream")
+    void stream_shouldDelegateToRepository() {
+        ItemDto itemDto = new ItemDto(1L, "Drill", "Cordless drill", true);
+        when(itemRepository.streamSearch("rill")).thenReturn(Stream.of(itemDto));
+
+        assertThat(searchEngine.stream("rill").toList(), contains(itemDto));
+    }
+}
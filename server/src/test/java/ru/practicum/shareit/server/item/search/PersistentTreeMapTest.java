@@ -0,0 +1,106 @@
+package ru.practicum.shareit.server.item.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Persistent Tree Map Tests")
+class PersistentTreeMapTest {
+
+    @Test
+    @DisplayName("plus and minus should return new maps and leave the original unchanged")
+    void plusAndMinus_shouldLeaveOriginalUnchanged() {
+        PersistentTreeMap<String, Integer> original = PersistentTreeMap.<String, Integer>empty()
+            .plus("b", 2)
+            .plus("a", 1);
+
+        PersistentTreeMap<String, Integer> updated = original.plus("c", 3).minus("a");
+
+        assertThat(original.size(), equalTo(2));
+        assertThat(original.get("a"), equalTo(1));
+        assertThat(original.get("c"), is(nullValue()));
+        assertThat(updated.size(), equalTo(2));
+        assertThat(updated.get("a"), is(nullValue()));
+        assertThat(updated.get("c"), equalTo(3));
+    }
+
+    @Test
+    @DisplayName("plus and minus should return the same map when nothing changes")
+    void plusAndMinus_whenNothingChanges_shouldReturnSameInstance() {
+        Integer value = 1;
+        PersistentTreeMap<String, Integer> map = PersistentTreeMap.<String, Integer>empty()
+            .plus("a", value);
+
+        assertThat(map.plus("a", value), is(sameInstance(map)));
+        assertThat(map.minus("b"), is(sameInstance(map)));
+    }
+
+    @Test
+    @DisplayName("forEachInRange should visit only keys in the half-open range, in order")
+    void forEachInRange_shouldVisitKeysInRangeInOrder() {
+        PersistentTreeMap<String, Integer> map = PersistentTreeMap.empty();
+        for (String key : List.of("drum", "bits", "drill", "dr", "ladder", "drills", "e")) {
+            map = map.plus(key, key.length());
+        }
+        List<String> visited = new ArrayList<>();
+
+        map.forEachInRange("dr", "dr" + Character.MAX_VALUE, (key, value) -> visited.add(key));
+
+        assertThat(visited, contains("dr", "drill", "drills", "drum"));
+    }
+
+    @Test
+    @DisplayName("Random updates should keep every version consistent with a sorted map")
+    void plusAndMinus_whenRandomUpdates_shouldMatchTreeMap() {
+        Random random = new Random(42);
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        List<PersistentTreeMap<Integer, Integer>> versions = new ArrayList<>();
+        List<Map<Integer, Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            } else {
+                map = map.plus(key, i);
+                expected.put(key, i);
+            }
+            if (i % 500 == 0) {
+                versions.add(map);
+                expectedVersions.add(new TreeMap<>(expected));
+            }
+        }
+
+        assertMatches(map, expected);
+        for (int i = 0; i < versions.size(); i++) {
+            assertMatches(versions.get(i), expectedVersions.get(i));
+        }
+    }
+
+    private static void assertMatches(PersistentTreeMap<Integer, Integer> map,
+        Map<Integer, Integer> expected) {
+        Map<Integer, Integer> actual = new TreeMap<>();
+        List<Integer> order = new ArrayList<>();
+        map.forEach((key, value) -> {
+            actual.put(key, value);
+            order.add(key);
+        });
+        assertThat(map.size(), equalTo(expected.size()));
+        assertThat(actual, equalTo(expected));
+        assertThat(order, equalTo(new ArrayList<>(expected.keySet())));
+        expected.forEach((key, value) -> assertThat(map.get(key), equalTo(value)));
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.server.lookup;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.server.exception.ItemNotFoundException;
+import ru.practicum.shareit.server.exception.UserNotFoundException;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserExistenceCache;
+import ru.practicum.shareit.server.user.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Entity Lookup Tests")
+class EntityLookupTest {
+
+    private final Long userId = 1L;
+    private final Long itemId = 10L;
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ItemRepository itemRepository;
+
+    private EntityLookup entityLookup;
+
+    @BeforeEach
+    void setUp() {
+        entityLookup = new EntityLookup(userRepository, itemRepository,
+            new UserExistenceCache(userRepository, new SimpleMeterRegistry(), 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("requireUserExists should probe a user only once")
+    void requireUserExists_whenCalledTwice_shouldProbeOnce() {
+        when(userRepository.existsById(userId)).thenReturn(true);
+
+        entityLookup.requireUserExists(userId);
+        entityLookup.requireUserExists(userId);
+
+        verify(userRepository, times(1)).existsById(userId);
+    }
+
+    @Test
+    @DisplayName("requireUserExists should not probe a user already loaded")
+    void requireUserExists_whenUserLoaded_shouldNotProbe() {
+        User user = new User();
+        user.setId(userId);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        assertThat(entityLookup.requireUser(userId), sameInstance(user));
+        entityLookup.requireUserExists(userId);
+
+        verify(userRepository, never()).existsById(userId);
+    }
+
+    @Test
+    @DisplayName("requireUserExists should throw UserNotFoundException when user not found")
+    void requireUserExists_whenUserMissing_shouldThrow() {
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> entityLookup.requireUserExists(userId));
+    }
+
+    @Test
+    @DisplayName("requireUser should throw UserNotFoundException when user not found")
+    void requireUser_whenUserMissing_shouldThrow() {
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> entityLookup.requireUser(userId));
+    }
+
+    @Test
+    @DisplayName("requireItem should return the item or throw ItemNotFoundException")
+    void requireItem_shouldReturnItemOrThrow() {
+        Item item = new Item();
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemRepository.findById(itemId + 1)).thenReturn(Optional.empty());
+
+        assertThat(entityLookup.requireItem(itemId), sameInstance(item));
+        assertThrows(ItemNotFoundException.class, () -> entityLookup.requireItem(itemId + 1));
+    }
+}
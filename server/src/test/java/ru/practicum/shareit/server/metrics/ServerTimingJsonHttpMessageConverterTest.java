@@ -0,0 +1,85 @@
+package ru.practicum.shareit.server.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.matchesPattern;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+@DisplayName("Server-Timing JSON Converter Tests")
+class ServerTimingJsonHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ServerTimingJsonHttpMessageConverter converter =
+        new ServerTimingJsonHttpMessageConverter(objectMapper, 64);
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.reset();
+    }
+
+    @Test
+    @DisplayName("A body within the limit should be sent after a header with serialisation time")
+    void write_whenBodyWithinLimit_shouldReportSerialization() throws Exception {
+        Map<String, String> body = Map.of("name", "Drill");
+        RecordingOutputMessage message = new RecordingOutputMessage();
+
+        converter.write(body, MediaType.APPLICATION_JSON, message);
+
+        assertThat(message.serverTimingWhenBodyOpened, matchesPattern(
+            "db;dur=\\d+\\.\\d{3}, mapping;dur=\\d+\\.\\d{3}, serialization;dur=\\d+\\.\\d{3}"));
+        assertThat(message.body(), equalTo(objectMapper.writeValueAsString(body)));
+    }
+
+    @Test
+    @DisplayName("A body over the limit should be streamed without serialisation time")
+    void write_whenBodyOverLimit_shouldStreamWithoutSerialization() throws Exception {
+        List<String> body = Collections.nCopies(10_000, "Cordless drill");
+        RecordingOutputMessage message = new RecordingOutputMessage();
+
+        converter.write(body, MediaType.APPLICATION_JSON, message);
+
+        assertThat(message.serverTimingWhenBodyOpened,
+            matchesPattern("db;dur=\\d+\\.\\d{3}, mapping;dur=\\d+\\.\\d{3}"));
+        assertThat(message.getHeaders().get(RequestTimings.SERVER_TIMING_HEADER).size(),
+            equalTo(1));
+        assertThat(message.body(), equalTo(objectMapper.writeValueAsString(body)));
+    }
+
+    // The headers seen when the body is first opened are the ones a real response commits
+    private static final class RecordingOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private String serverTimingWhenBodyOpened;
+
+        @Override
+        public OutputStream getBody() {
+            if (serverTimingWhenBodyOpened == null) {
+                serverTimingWhenBodyOpened = headers.getFirst(RequestTimings.SERVER_TIMING_HEADER);
+            }
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        String body() {
+            return body.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.server.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.tracing.CorrelationIdFilter;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@DisplayName("Server-Timing and Correlation Id Tests")
+class ServerTimingTest {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final Pattern SERVER_TIMING = Pattern.compile(
+        "db;dur=(\\d+\\.\\d{3}), mapping;dur=(\\d+\\.\\d{3}), serialization;dur=(\\d+\\.\\d{3})");
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setName("Owner");
+        owner.setEmail("owner@example.com");
+        owner = userRepository.save(owner);
+        Item item = new Item();
+        item.setName("Drill");
+        item.setDescription("Cordless drill");
+        item.setAvailable(true);
+        item.setOwner(owner);
+        itemRepository.save(item);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE comments, bookings, items, requests, users CASCADE");
+    }
+
+    @Test
+    @DisplayName("A JSON response should report DB, mapping and serialisation time")
+    void getUserItems_shouldReportServerTiming() throws Exception {
+        String serverTiming = mockMvc.perform(get("/items").header(USER_ID_HEADER, owner.getId()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(RequestTimings.SERVER_TIMING_HEADER);
+
+        Matcher matcher = SERVER_TIMING.matcher(serverTiming);
+        assertThat(matcher.matches(), equalTo(true));
+        assertThat(Double.parseDouble(matcher.group(1)), greaterThan(0.0));
+        assertThat(Double.parseDouble(matcher.group(2)), greaterThan(0.0));
+        assertThat(Double.parseDouble(matcher.group(3)), greaterThan(0.0));
+    }
+
+    @Test
+    @DisplayName("A response without a body should still report its DB time")
+    void deleteUser_shouldReportServerTiming() throws Exception {
+        mockMvc.perform(delete("/users/{id}", owner.getId()))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string(RequestTimings.SERVER_TIMING_HEADER,
+                matchesPattern(SERVER_TIMING.pattern())));
+    }
+
+    @Test
+    @DisplayName("The gateway's correlation id should be returned with the response")
+    void request_withCorrelationId_shouldEchoIt() throws Exception {
+        mockMvc.perform(get("/users/{id}", owner.getId())
+                .header(CorrelationIdFilter.CORRELATION_ID_HEADER, "trace-42"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(CorrelationIdFilter.CORRELATION_ID_HEADER, "trace-42"));
+    }
+
+    @Test
+    @DisplayName("An unsafe correlation id should be replaced")
+    void request_withUnsafeCorrelationId_shouldReplaceIt() throws Exception {
+        mockMvc.perform(get("/users/{id}", owner.getId())
+                .header(CorrelationIdFilter.CORRELATION_ID_HEADER, "bad id\r\n"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(CorrelationIdFilter.CORRELATION_ID_HEADER,
+                not(equalTo("bad id\r\n"))));
+    }
+}
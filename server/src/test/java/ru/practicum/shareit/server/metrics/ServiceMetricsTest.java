@@ -0,0 +1,154 @@
+package ru.practicum.shareit.server.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import ru.practicum.shareit.server.item.Comment;
+import ru.practicum.shareit.server.item.CommentRepository;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@DisplayName("Service and Request SQL Metrics Tests")
+class ServiceMetricsTest {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final int ITEMS = 3;
+
+    @Container
+    private static final PostgreSQLContainer<?> database = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::getJdbcUrl);
+        registry.add("spring.datasource.username", database::getUsername);
+        registry.add("spring.datasource.password", database::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(user("Owner", "owner@example.com"));
+        User author = userRepository.save(user("Author", "author@example.com"));
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item();
+            item.setName("Item " + i);
+            item.setDescription("Description " + i);
+            item.setAvailable(true);
+            item.setOwner(owner);
+            item = itemRepository.save(item);
+            Comment comment = new Comment();
+            comment.setText("Comment on item " + i);
+            comment.setItem(item);
+            comment.setAuthor(author);
+            comment.setCreated(LocalDateTime.now());
+            commentRepository.save(comment);
+        }
+        meterRegistry.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE comments, bookings, items, requests, users CASCADE");
+    }
+
+    @Test
+    @DisplayName("GET /items should record the service call and its SQL statements")
+    void getUserItems_shouldRecordServiceMetrics() throws Exception {
+        mockMvc.perform(get("/items").header(USER_ID_HEADER, owner.getId()))
+            .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.CALLS_TIMER)
+            .tags("service", "ItemServiceImpl", "method", "getAllItemsByOwnerWithBookingInfo",
+                "exception", "none")
+            .timer().count(), equalTo(1L));
+        // owner's items, last/next bookings, comments with authors
+        assertThat(serviceSummary(ServiceMetricsAspect.STATEMENTS_SUMMARY).totalAmount(),
+            equalTo(3.0));
+        // items, comments and their author
+        assertThat(serviceSummary(ServiceMetricsAspect.ENTITY_LOADS_SUMMARY).totalAmount(),
+            equalTo(ITEMS + ITEMS + 1.0));
+    }
+
+    @Test
+    @DisplayName("GET /items should record the SQL statements of the request per endpoint")
+    void getUserItems_shouldRecordRequestMetrics() throws Exception {
+        mockMvc.perform(get("/items").header(USER_ID_HEADER, owner.getId()))
+            .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry
+            .get(RequestSqlMetricsFilter.STATEMENTS_SUMMARY)
+            .tags("method", "GET", "uri", "/items")
+            .summary();
+        assertThat(statements.count(), equalTo(1L));
+        assertThat(statements.totalAmount(), equalTo(3.0));
+    }
+
+    @Test
+    @DisplayName("A failed service call should be tagged with its exception")
+    void getUserItems_whenUserMissing_shouldTagException() throws Exception {
+        mockMvc.perform(get("/items").header(USER_ID_HEADER, owner.getId() + 1000))
+            .andExpect(status().isNotFound());
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.CALLS_TIMER)
+            .tags("service", "ItemServiceImpl", "exception", "UserNotFoundException")
+            .timer().count(), equalTo(1L));
+    }
+
+    private DistributionSummary serviceSummary(String name) {
+        return meterRegistry.get(name)
+            .tags("service", "ItemServiceImpl", "method", "getAllItemsByOwnerWithBookingInfo")
+            .summary();
+    }
+
+    private static User user(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -31,8 +31,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.common.dto.item.ItemShortDto;
 import ru.practicum.shareit.common.dto.request.ItemRequestDto;
 import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
+import ru.practicum.shareit.server.exception.InvalidCursorException;
 import ru.practicum.shareit.server.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.server.exception.UserNotFoundException;
+import ru.practicum.shareit.server.pagination.CursorSlice;
 
 
 @WebMvcTest(ItemRequestController.class)
@@ -147,6 +149,51 @@ class ItemRequestControllerTest {
         verify(itemRequestService).getOwnRequests(userId1);
     }
 
+    @Test
+    @DisplayName("GET /requests?cursor= - Success (Slice With Next Cursor)")
+    void getOwnRequests_whenCursorGiven_shouldReturnSliceAndNextCursorHeader() throws Exception {
+        when(itemRequestService.getOwnRequests(userId1, "", 1)).thenReturn(
+            new CursorSlice<>(List.of(requestDto2), "next"));
+
+        mockMvc.perform(get("/requests")
+                .header(userIdHeaderName, userId1)
+                .param("cursor", "")
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", "next"))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", is(request2Id.intValue())));
+
+        verify(itemRequestService).getOwnRequests(userId1, "", 1);
+    }
+
+    @Test
+    @DisplayName("GET /requests?cursor= - Success (Last Slice)")
+    void getOwnRequests_whenLastSlice_shouldOmitNextCursorHeader() throws Exception {
+        when(itemRequestService.getOwnRequests(eq(userId1), eq("abc"), isNull())).thenReturn(
+            new CursorSlice<>(List.of(requestDto1), null));
+
+        mockMvc.perform(get("/requests")
+                .header(userIdHeaderName, userId1)
+                .param("cursor", "abc"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
+            .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /requests?cursor= - Failure (Invalid Cursor)")
+    void getOwnRequests_whenCursorInvalid_shouldReturnBadRequest() throws Exception {
+        when(itemRequestService.getOwnRequests(eq(userId1), eq("bad"), isNull()))
+            .thenThrow(new InvalidCursorException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/requests")
+                .header(userIdHeaderName, userId1)
+                .param("cursor", "bad"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.responseCode", is(400)));
+    }
+
     @Test
     @DisplayName("GET /requests - Failure (User Not Found)")
     void getOwnRequests_whenUserNotFound_shouldReturnNotFound() throws Exception {
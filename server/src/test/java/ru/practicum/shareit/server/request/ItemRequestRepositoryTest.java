@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,10 +18,13 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -27,6 +32,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.pagination.KeysetCursor;
 import ru.practicum.shareit.server.user.User;
 
 @DataJpaTest
@@ -260,6 +266,74 @@ class ItemRequestRepositoryTest {
             resultsPage1.getTotalPages(), equalTo(2));
     }
 
+    @Test
+    @DisplayName("findAllByRequestorIdNot should fetch items of the requests on the page")
+    void findAllByRequestorIdNot_shouldReturnPageWithInitializedItems() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("created").descending());
+
+        Page<ItemRequest> results = itemRequestRepository.findAllByRequestorIdNot(
+            itemOwner.getId(), pageable);
+
+        assertThat("Page should hold the two newest requests", results.getContent(),
+            contains(request4NoItems, request3));
+        assertThat("Total elements should count all requests by other users",
+            results.getTotalElements(), equalTo(4L));
+        results.getContent().forEach(request -> assertTrue(
+            Hibernate.isInitialized(request.getItems()), "Items should be fetched with the page"));
+
+        Page<ItemRequest> next = itemRequestRepository.findAllByRequestorIdNot(itemOwner.getId(),
+            pageable.next());
+        assertThat("Next page should hold the older requests in order", next.getContent(),
+            contains(request2, request1));
+        assertThat("Request2 should come with both of its items",
+            next.getContent().getFirst().getItems(), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("scrollByRequestorIdFetchingItems should page own requests by keyset with items")
+    void scrollByRequestorIdFetchingItems_shouldReturnKeysetSlicesWithInitializedItems() {
+        Window<ItemRequest> first = itemRequestRepository.scrollByRequestorIdFetchingItems(
+            requestor1.getId(), ScrollPosition.keyset(), Limit.of(2));
+
+        assertThat("First slice should hold the two newest own requests", first.getContent(),
+            contains(request4NoItems, request2));
+        assertTrue(first.hasNext(), "There should be another slice");
+        first.getContent().forEach(request -> assertTrue(
+            Hibernate.isInitialized(request.getItems()), "Items should be fetched with the slice"));
+        assertThat("Request2 should come with both of its items",
+            first.getContent().get(1).getItems(), hasSize(2));
+
+        ItemRequest last = first.getContent().getLast();
+        Window<ItemRequest> second = itemRequestRepository.scrollByRequestorIdFetchingItems(
+            requestor1.getId(), new KeysetCursor(last.getCreated(), last.getId())
+                .toScrollPosition("created"), Limit.of(2));
+
+        assertThat("Second slice should continue after the cursor", second.getContent(),
+            contains(request1));
+        assertFalse(second.hasNext(), "Second slice should be the last one");
+    }
+
+    @Test
+    @DisplayName("scrollByRequestorIdFetchingItems should return an empty slice for no requests")
+    void scrollByRequestorIdFetchingItems_whenUserHasNoRequests_shouldReturnEmptyWindow() {
+        Window<ItemRequest> window = itemRequestRepository.scrollByRequestorIdFetchingItems(
+            itemOwner.getId(), ScrollPosition.keyset(), Limit.of(2));
+
+        assertTrue(window.isEmpty(), "Slice should be empty");
+        assertFalse(window.hasNext(), "Empty slice should be the last one");
+    }
+
+    @Test
+    @DisplayName("Paging a collection fetch join should fail instead of paginating in memory")
+    void pagingCollectionFetchJoin_shouldFail() {
+        // Guards the setting that turns any reintroduced in-memory pagination into an error
+        assertThrows(HibernateException.class, () -> entityManager.getEntityManager()
+            .createQuery("SELECT ir FROM ItemRequest ir LEFT JOIN FETCH ir.items",
+                ItemRequest.class)
+            .setMaxResults(1)
+            .getResultList());
+    }
+
     @Test
     @DisplayName("findByIdFetchingItems should return request with items fetched")
     void findByIdFetchingItems_whenRequestExistsWithItems_shouldReturnOptionalWithFetchedItems() {
@@ -310,8 +384,7 @@ class ItemRequestRepositoryTest {
         badRequest.setRequestor(requestor1);
         badRequest.setCreated(LocalDateTime.now());
         assertThrows(DataIntegrityViolationException.class, () -> {
-            itemRequestRepository.save(badRequest);
-            entityManager.flush();
+            itemRequestRepository.saveAndFlush(badRequest);
         }, "Should throw DataIntegrityViolationException when saving item request with null "
             + "description");
     }
@@ -324,8 +397,7 @@ class ItemRequestRepositoryTest {
         badRequest.setRequestor(null);
         badRequest.setCreated(LocalDateTime.now());
         assertThrows(DataIntegrityViolationException.class, () -> {
-            itemRequestRepository.save(badRequest);
-            entityManager.flush();
+            itemRequestRepository.saveAndFlush(badRequest);
         }, "Should throw DataIntegrityViolationException when saving item request with null "
             + "requestor");
     }
@@ -338,8 +410,7 @@ class ItemRequestRepositoryTest {
         badRequest.setRequestor(requestor1);
         badRequest.setCreated(null);
         assertThrows(DataIntegrityViolationException.class, () -> {
-            itemRequestRepository.save(badRequest);
-            entityManager.flush();
+            itemRequestRepository.saveAndFlush(badRequest);
         }, "Should throw DataIntegrityViolationException when saving item request with null "
             + "created timestamp");
     }
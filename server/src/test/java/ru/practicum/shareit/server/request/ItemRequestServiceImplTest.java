@@ -17,11 +17,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.server.support.TestEntityLookups.entityLookup;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,20 +33,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import ru.practicum.shareit.common.dto.item.ItemShortDto;
 import ru.practicum.shareit.common.dto.request.ItemRequestDto;
 import ru.practicum.shareit.common.dto.request.NewItemRequestDto;
+import ru.practicum.shareit.server.exception.InvalidCursorException;
 import ru.practicum.shareit.server.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.server.exception.UserNotFoundException;
 import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.pagination.CursorSlice;
+import ru.practicum.shareit.server.pagination.KeysetCursor;
 import ru.practicum.shareit.server.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.server.user.User;
 import ru.practicum.shareit.server.user.UserRepository;
@@ -58,9 +67,10 @@ class ItemRequestServiceImplTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private ItemRepository itemRepository;
+    @Mock
     private ItemRequestMapper itemRequestMapper;
 
-    @InjectMocks
     private ItemRequestServiceImpl itemRequestService;
 
     @Captor
@@ -91,6 +101,8 @@ class ItemRequestServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository,
+            entityLookup(userRepository, itemRepository), itemRequestMapper);
         LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
 
         requestor1 = new User();
@@ -206,7 +218,7 @@ class ItemRequestServiceImplTest {
         @DisplayName("should return user's requests ordered descending by creation date")
         void getOwnRequests_whenUserExistsAndHasRequests_shouldReturnOrderedDtoList() {
             List<ItemRequest> requestsFromRepo = List.of(request2, request1);
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findByRequestorIdOrderByCreatedDesc(requestor1Id))
                 .thenReturn(requestsFromRepo);
             when(itemRequestMapper.mapToDto(request1)).thenReturn(requestDto1);
@@ -220,7 +232,7 @@ class ItemRequestServiceImplTest {
             assertThat("Result list should contain the expected ItemRequestDto objects in order", results,
                 contains(requestDto2, requestDto1));
 
-            verify(userRepository).findById(requestor1Id);
+            verify(userRepository).existsById(requestor1Id);
             verify(itemRequestRepository).findByRequestorIdOrderByCreatedDesc(requestor1Id);
             verify(itemRequestMapper, times(2)).mapToDto(any(ItemRequest.class));
         }
@@ -228,7 +240,7 @@ class ItemRequestServiceImplTest {
         @Test
         @DisplayName("should return empty list when user has no requests")
         void getOwnRequests_whenUserHasNoRequests_shouldReturnEmptyList() {
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findByRequestorIdOrderByCreatedDesc(requestor1Id))
                 .thenReturn(Collections.emptyList());
 
@@ -237,7 +249,7 @@ class ItemRequestServiceImplTest {
             assertThat("Result list should not be null", results, is(notNullValue()));
             assertThat("Result list should be empty", results, is(empty()));
 
-            verify(userRepository).findById(requestor1Id);
+            verify(userRepository).existsById(requestor1Id);
             verify(itemRequestRepository).findByRequestorIdOrderByCreatedDesc(requestor1Id);
             verifyNoInteractions(itemRequestMapper);
         }
@@ -245,12 +257,82 @@ class ItemRequestServiceImplTest {
         @Test
         @DisplayName("should throw UserNotFoundException when user does not exist")
         void getOwnRequests_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(nonExistentUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(nonExistentUserId)).thenReturn(false);
             assertThrows(UserNotFoundException.class,
                 () -> itemRequestService.getOwnRequests(nonExistentUserId),
                 "Getting own requests when user is not found should throw UserNotFoundException");
 
-            verify(userRepository).findById(nonExistentUserId);
+            verify(userRepository).existsById(nonExistentUserId);
+            verifyNoInteractions(itemRequestRepository, itemRequestMapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("getOwnRequests with Cursor Tests")
+    class ScrollOwnRequestsTests {
+
+        @Captor
+        ArgumentCaptor<ScrollPosition> positionCaptor;
+
+        @Test
+        @DisplayName("should return the first slice and a cursor after its last request")
+        void getOwnRequests_whenCursorEmpty_shouldStartFromFirstSlice() {
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
+            when(itemRequestRepository.scrollByRequestorIdFetchingItems(eq(requestor1Id),
+                positionCaptor.capture(), eq(Limit.of(1))))
+                .thenReturn(Window.from(List.of(request2), ScrollPosition::offset, true));
+            when(itemRequestMapper.mapToDto(request2)).thenReturn(requestDto2);
+
+            CursorSlice<ItemRequestDto> result = itemRequestService.getOwnRequests(requestor1Id,
+                "", 1);
+
+            assertThat("Slice should hold the mapped request", result.content(),
+                contains(requestDto2));
+            assertThat("Slice should start from the beginning", positionCaptor.getValue(),
+                equalTo(ScrollPosition.keyset()));
+            assertThat("Next cursor should point after the last request",
+                KeysetCursor.decode(result.nextCursor()),
+                equalTo(new KeysetCursor(request2.getCreated(), request2Id)));
+        }
+
+        @Test
+        @DisplayName("should continue after the cursor with the default size and no next cursor")
+        void getOwnRequests_whenCursorGiven_shouldScrollFromIt() {
+            KeysetCursor cursor = new KeysetCursor(request2.getCreated(), request2Id);
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
+            when(itemRequestRepository.scrollByRequestorIdFetchingItems(eq(requestor1Id),
+                positionCaptor.capture(), eq(Limit.of(10))))
+                .thenReturn(Window.from(List.of(request1), ScrollPosition::offset, false));
+            when(itemRequestMapper.mapToDto(request1)).thenReturn(requestDto1);
+
+            CursorSlice<ItemRequestDto> result = itemRequestService.getOwnRequests(requestor1Id,
+                cursor.encode(), null);
+
+            assertThat("Slice should hold the mapped request", result.content(),
+                contains(requestDto1));
+            assertThat("Scroll should continue after the cursor",
+                ((KeysetScrollPosition) positionCaptor.getValue()).getKeys(),
+                equalTo(Map.of("created", cursor.timestamp(), "id", cursor.id())));
+            assertThat("Last slice should have no next cursor", result.hasNext(), is(false));
+        }
+
+        @Test
+        @DisplayName("should throw InvalidCursorException for a malformed cursor")
+        void getOwnRequests_whenCursorMalformed_shouldThrowInvalidCursorException() {
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
+
+            assertThrows(InvalidCursorException.class,
+                () -> itemRequestService.getOwnRequests(requestor1Id, "not-a-cursor", 5));
+            verifyNoInteractions(itemRequestRepository);
+        }
+
+        @Test
+        @DisplayName("should throw UserNotFoundException when user does not exist")
+        void getOwnRequests_withCursorWhenUserNotFound_shouldThrowUserNotFoundException() {
+            when(userRepository.existsById(nonExistentUserId)).thenReturn(false);
+
+            assertThrows(UserNotFoundException.class,
+                () -> itemRequestService.getOwnRequests(nonExistentUserId, "", 5));
             verifyNoInteractions(itemRequestRepository, itemRequestMapper);
         }
     }
@@ -270,7 +352,7 @@ class ItemRequestServiceImplTest {
             Pageable expectedPageable = PageRequest.of(from / size, size, defaultSort);
             Page<ItemRequest> page = new PageImpl<>(List.of(request3), expectedPageable, 1);
 
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findAllByRequestorIdNot(eq(requestor1Id),
                 any(Pageable.class))).thenReturn(page);
             when(itemRequestMapper.mapToDto(request3)).thenReturn(requestDto3);
@@ -283,7 +365,7 @@ class ItemRequestServiceImplTest {
             assertThat("Result list should contain the expected ItemRequestDto object", results,
                 equalTo(List.of(requestDto3)));
 
-            verify(userRepository).findById(requestor1Id);
+            verify(userRepository).existsById(requestor1Id);
             verify(itemRequestRepository).findAllByRequestorIdNot(eq(requestor1Id),
                 pageableCaptor.capture());
             Pageable captured = pageableCaptor.getValue();
@@ -304,7 +386,7 @@ class ItemRequestServiceImplTest {
             Pageable expectedPageable = PageRequest.of(from / size, size, defaultSort);
             Page<ItemRequest> emptyPage = Page.empty(expectedPageable);
 
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findAllByRequestorIdNot(eq(requestor1Id),
                 any(Pageable.class))).thenReturn(emptyPage);
 
@@ -314,7 +396,7 @@ class ItemRequestServiceImplTest {
             assertThat("Result list should not be null", results, is(notNullValue()));
             assertThat("Result list should be empty", results, is(empty()));
 
-            verify(userRepository).findById(requestor1Id);
+            verify(userRepository).existsById(requestor1Id);
             verify(itemRequestRepository).findAllByRequestorIdNot(eq(requestor1Id),
                 any(Pageable.class));
             verifyNoInteractions(itemRequestMapper);
@@ -326,7 +408,7 @@ class ItemRequestServiceImplTest {
             Pageable defaultPageable = PageRequest.of(defaultPage, defaultSize, defaultSort);
             Page<ItemRequest> page = new PageImpl<>(List.of(request3));
 
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findAllByRequestorIdNot(eq(requestor1Id), eq(defaultPageable)))
                 .thenReturn(page);
             when(itemRequestMapper.mapToDto(request3)).thenReturn(requestDto3);
@@ -339,7 +421,7 @@ class ItemRequestServiceImplTest {
             assertThat("Result list should contain the expected ItemRequestDto object", results,
                 equalTo(List.of(requestDto3)));
 
-            verify(userRepository).findById(requestor1Id);
+            verify(userRepository).existsById(requestor1Id);
             verify(itemRequestRepository).findAllByRequestorIdNot(eq(requestor1Id), eq(defaultPageable));
             verify(itemRequestMapper).mapToDto(request3);
         }
@@ -350,7 +432,7 @@ class ItemRequestServiceImplTest {
             Pageable defaultPageable = PageRequest.of(defaultPage, defaultSize, defaultSort);
             Page<ItemRequest> page = new PageImpl<>(List.of(request3));
 
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findAllByRequestorIdNot(eq(requestor1Id), eq(defaultPageable)))
                 .thenReturn(page);
 
@@ -366,12 +448,12 @@ class ItemRequestServiceImplTest {
         @Test
         @DisplayName("should throw UserNotFoundException when user does not exist")
         void getAllRequests_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(nonExistentUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(nonExistentUserId)).thenReturn(false);
             assertThrows(UserNotFoundException.class,
                 () -> itemRequestService.getAllRequests(nonExistentUserId, 0, 10),
                 "Getting all requests when user is not found should throw UserNotFoundException");
 
-            verify(userRepository).findById(nonExistentUserId);
+            verify(userRepository).existsById(nonExistentUserId);
             verifyNoInteractions(itemRequestRepository, itemRequestMapper);
         }
     }
@@ -383,7 +465,7 @@ class ItemRequestServiceImplTest {
         @Test
         @DisplayName("should return request DTO when user and request exist")
         void getRequestById_whenUserAndRequestExist_shouldReturnDto() {
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findByIdFetchingItems(request1Id)).thenReturn(
                 Optional.of(request1));
             when(itemRequestMapper.mapToDto(request1)).thenReturn(requestDto1);
@@ -394,7 +476,7 @@ class ItemRequestServiceImplTest {
             assertThat("Returned ItemRequestDto should match the expected DTO", result,
                 equalTo(requestDto1));
 
-            verify(userRepository).findById(requestor1Id);
+            verify(userRepository).existsById(requestor1Id);
             verify(itemRequestRepository).findByIdFetchingItems(request1Id);
             verify(itemRequestMapper).mapToDto(request1);
         }
@@ -402,26 +484,26 @@ class ItemRequestServiceImplTest {
         @Test
         @DisplayName("should throw UserNotFoundException when user does not exist")
         void getRequestById_whenUserNotFound_shouldThrowUserNotFoundException() {
-            when(userRepository.findById(nonExistentUserId)).thenReturn(Optional.empty());
+            when(userRepository.existsById(nonExistentUserId)).thenReturn(false);
             assertThrows(UserNotFoundException.class,
                 () -> itemRequestService.getRequestById(request1Id, nonExistentUserId),
                 "Getting request by ID when user is not found should throw UserNotFoundException");
 
-            verify(userRepository).findById(nonExistentUserId);
+            verify(userRepository).existsById(nonExistentUserId);
             verifyNoInteractions(itemRequestRepository, itemRequestMapper);
         }
 
         @Test
         @DisplayName("should throw ItemRequestNotFoundException when request does not exist")
         void getRequestById_whenRequestNotFound_shouldThrowItemRequestNotFoundException() {
-            when(userRepository.findById(requestor1Id)).thenReturn(Optional.of(requestor1));
+            when(userRepository.existsById(requestor1Id)).thenReturn(true);
             when(itemRequestRepository.findByIdFetchingItems(nonExistentRequestId)).thenReturn(
                 Optional.empty());
             assertThrows(ItemRequestNotFoundException.class,
                 () -> itemRequestService.getRequestById(nonExistentRequestId, requestor1Id),
                 "Getting non-existent request by ID should throw ItemRequestNotFoundException");
 
-            verify(userRepository).findById(requestor1Id);
+            verify(userRepository).existsById(requestor1Id);
             verify(itemRequestRepository).findByIdFetchingItems(nonExistentRequestId);
             verifyNoInteractions(itemRequestMapper);
         }
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.server.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.lookup.EntityLookup;
+import ru.practicum.shareit.server.user.UserExistenceCache;
+import ru.practicum.shareit.server.user.UserRepository;
+
+/**
+ * Builds an {@link EntityLookup} over repository mocks for service unit tests, with its own empty
+ * user existence cache so no test sees another's lookups.
+ */
+public final class TestEntityLookups {
+
+    private TestEntityLookups() {
+    }
+
+    public static EntityLookup entityLookup(UserRepository userRepository,
+        ItemRepository itemRepository) {
+        return new EntityLookup(userRepository, itemRepository,
+            new UserExistenceCache(userRepository, new SimpleMeterRegistry(), 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(1)));
+    }
+}
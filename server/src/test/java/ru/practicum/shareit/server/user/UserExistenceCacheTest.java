@@ -0,0 +1,83 @@
+package ru.practicum.shareit.server.user;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Existence Cache Tests")
+class UserExistenceCacheTest {
+
+    private final Long userId = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserExistenceCache cache(Duration negativeTtl) {
+        return new UserExistenceCache(userRepository, new SimpleMeterRegistry(), 100,
+            Duration.ofMinutes(1), negativeTtl);
+    }
+
+    @Test
+    @DisplayName("exists should query an existing user only once")
+    void exists_whenUserExists_shouldQueryOnce() {
+        UserExistenceCache cache = cache(Duration.ofMinutes(1));
+        when(userRepository.existsById(userId)).thenReturn(true);
+
+        assertThat(cache.exists(userId), is(true));
+        assertThat(cache.exists(userId), is(true));
+
+        verify(userRepository, times(1)).existsById(userId);
+    }
+
+    @Test
+    @DisplayName("exists should query a missing user again once the negative entry expires")
+    void exists_whenNegativeEntryExpired_shouldQueryAgain() {
+        UserExistenceCache cache = cache(Duration.ZERO);
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        assertThat(cache.exists(userId), is(false));
+        assertThat(cache.exists(userId), is(false));
+
+        verify(userRepository, times(2)).existsById(userId);
+    }
+
+    @Test
+    @DisplayName("invalidate should make the next check query the database")
+    void invalidate_whenUserDeleted_shouldQueryAgain() {
+        UserExistenceCache cache = cache(Duration.ofMinutes(1));
+        when(userRepository.existsById(userId)).thenReturn(true, false);
+
+        assertThat(cache.exists(userId), is(true));
+        cache.invalidate(userId);
+
+        assertThat(cache.exists(userId), is(false));
+        verify(userRepository, times(2)).existsById(userId);
+    }
+
+    @Test
+    @DisplayName("remember should mark a user as existing without a query")
+    void remember_whenUserLoaded_shouldNotQuery() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserExistenceCache cache = new UserExistenceCache(userRepository, meterRegistry, 100,
+            Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        cache.remember(userId);
+
+        assertThat(cache.exists(userId), is(true));
+        verify(userRepository, times(0)).existsById(userId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "userExistence")
+            .tag("result", "hit").functionCounter().count(), equalTo(1.0));
+    }
+}
@@ -119,8 +119,7 @@ class UserRepositoryTest {
         duplicateUser.setEmail(user1.getEmail());
 
         assertThrows(DataIntegrityViolationException.class, () -> {
-            userRepository.save(duplicateUser);
-            entityManager.flush();
+            userRepository.saveAndFlush(duplicateUser);
         }, "Should throw DataIntegrityViolationException for duplicate email");
     }
 
@@ -132,8 +131,7 @@ class UserRepositoryTest {
         userWithNullEmail.setEmail(null);
 
         assertThrows(DataIntegrityViolationException.class, () -> {
-            userRepository.save(userWithNullEmail);
-            entityManager.flush();
+            userRepository.saveAndFlush(userWithNullEmail);
         }, "Should throw DataIntegrityViolationException when saving user with null email");
     }
 
@@ -145,8 +143,7 @@ class UserRepositoryTest {
         userWithNullName.setEmail("null.name@example.com");
 
         assertThrows(DataIntegrityViolationException.class, () -> {
-            userRepository.save(userWithNullName);
-            entityManager.flush();
+            userRepository.saveAndFlush(userWithNullName);
         }, "Should throw DataIntegrityViolationException when saving user with null name");
     }
 
@@ -26,11 +26,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import ru.practicum.shareit.common.dto.user.NewUserDto;
 import ru.practicum.shareit.common.dto.user.UpdateUserDto;
 import ru.practicum.shareit.common.dto.user.UserDto;
 import ru.practicum.shareit.server.exception.EmailAlreadyExistsException;
 import ru.practicum.shareit.server.exception.UserNotFoundException;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.search.ItemChangedEvent;
+import ru.practicum.shareit.server.item.search.ItemSearchDocument;
 import ru.practicum.shareit.server.user.mapper.UserMapper;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,15 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserExistenceCache userExistenceCache;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -132,6 +145,7 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).existsByEmail(newUserDto.getEmail());
         verify(userRepository, times(1)).save(
             userToSave);
+        verify(userExistenceCache, times(1)).invalidate(savedUser.getId());
         verify(userMapper, times(1)).mapToDto(savedUser);
     }
 
@@ -331,7 +345,7 @@ class UserServiceImplTest {
     }
 
     @Test
-    @DisplayName("delete should call repository deleteById")
+    @DisplayName("delete should call repository deleteById and publish a user deleted event")
     void delete_whenCalled_shouldCallRepositoryDeleteById() {
         Long userId = user1.getId();
 
@@ -339,5 +353,24 @@ class UserServiceImplTest {
             "Should not throw an exception when deleting a user");
 
         verify(userRepository, times(1)).deleteById(userId);
+        verify(eventPublisher, times(1)).publishEvent(new UserDeletedEvent(userId));
+        verify(userExistenceCache, never()).invalidate(userId);
+    }
+
+    @Test
+    @DisplayName("delete should publish a deleted event for every item of the user")
+    void delete_whenUserOwnsItems_shouldPublishItemDeletedEvents() {
+        Long userId = user1.getId();
+        ItemSearchDocument drill = new ItemSearchDocument(10L, "Drill", "Cordless", true);
+        ItemSearchDocument ladder = new ItemSearchDocument(11L, "Ladder", "Tall", false);
+        when(itemRepository.findSearchDocumentsByOwnerId(userId))
+            .thenReturn(List.of(drill, ladder));
+
+        userService.delete(userId);
+
+        verify(itemRepository, times(1)).deleteAllByOwnerId(userId);
+        verify(userRepository, times(1)).deleteById(userId);
+        verify(eventPublisher, times(1)).publishEvent(ItemChangedEvent.deleted(drill));
+        verify(eventPublisher, times(1)).publishEvent(ItemChangedEvent.deleted(ladder));
     }
-}
\ No newline at end of file
+}